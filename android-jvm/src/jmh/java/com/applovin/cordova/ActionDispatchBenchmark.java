@@ -0,0 +1,70 @@
+package com.applovin.cordova;
+
+import org.apache.cordova.CallbackContext;
+import org.apache.cordova.PluginResult;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A bridge call through {@link AppLovinMAX#execute}, with an action which answers synchronously so that only the dispatch and the result
+ * are measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ActionDispatchBenchmark
+{
+    /**
+     * Keeps the result instead of finishing, so that one callback can be reused for every call.
+     */
+    private static final class ReusableCallbackContext
+            extends CallbackContext
+    {
+        PluginResult lastResult;
+
+        ReusableCallbackContext()
+        {
+            super( "AppLovinMAX0", null );
+        }
+
+        @Override
+        public void sendPluginResult(final PluginResult pluginResult)
+        {
+            lastResult = pluginResult;
+        }
+    }
+
+    // As sent by applovinmax.js, and in a different case which takes the lower-cased lookup
+    @Param({ "isRewardedAdReady", "ISREWARDEDADREADY" })
+    public String action;
+
+    private final ReusableCallbackContext callbackContext = new ReusableCallbackContext();
+
+    private AppLovinMAX plugin;
+    private JSONArray   args;
+
+    @Setup
+    public void setUp()
+    {
+        plugin = new PluginHarness().start().plugin;
+        args = new JSONArray().put( "rewarded-ad-unit" );
+    }
+
+    @Benchmark
+    public void execute(final Blackhole blackhole) throws JSONException
+    {
+        blackhole.consume( plugin.execute( action, args, callbackContext ) );
+        blackhole.consume( callbackContext.lastResult );
+    }
+}
@@ -0,0 +1,186 @@
+package com.applovin.cordova;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Finding the code of a bridge action, before and after the handler registry: the {@code equalsIgnoreCase()} chain the plugin used to
+ * run through in {@link AppLovinMAX#execute}, against {@link AppLovinMAX#findActionHandler(String)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ActionLookupBenchmark
+{
+    // The first, a middle and the last action of the chain, and an unknown action which goes through all of it
+    @Param({ "initialize", "showBanner", "setRewardedAdExtraParameter", "unknownAction" })
+    public String action;
+
+    private AppLovinMAX plugin;
+
+    @Setup
+    public void setUp()
+    {
+        plugin = new PluginHarness().start().plugin;
+    }
+
+    @Benchmark
+    public int equalsIgnoreCaseChain()
+    {
+        return findLegacyAction( action );
+    }
+
+    @Benchmark
+    public Object handlerRegistry()
+    {
+        return plugin.findActionHandler( action );
+    }
+
+    /**
+     * The conditions of the dispatch chain as it was, in the same order, with each branch reduced to the index of its action.
+     */
+    private static int findLegacyAction(final String action)
+    {
+        if ( "initialize".equalsIgnoreCase( action ) )
+        {
+            return 0;
+        }
+        else if ( "showMediationDebugger".equalsIgnoreCase( action ) )
+        {
+            return 1;
+        }
+        else if ( "setHasUserConsent".equalsIgnoreCase( action ) )
+        {
+            return 2;
+        }
+        else if ( "hasUserConsent".equalsIgnoreCase( action ) )
+        {
+            return 3;
+        }
+        else if ( "setDoNotSell".equalsIgnoreCase( action ) )
+        {
+            return 4;
+        }
+        else if ( "isDoNotSell".equalsIgnoreCase( action ) )
+        {
+            return 5;
+        }
+        else if ( "setUserId".equalsIgnoreCase( action ) )
+        {
+            return 6;
+        }
+        else if ( "setMuted".equalsIgnoreCase( action ) )
+        {
+            return 7;
+        }
+        else if ( "setVerboseLogging".equalsIgnoreCase( action ) )
+        {
+            return 8;
+        }
+        else if ( "setTestDeviceAdvertisingIds".equalsIgnoreCase( action ) )
+        {
+            return 9;
+        }
+        else if ( "addSegment".equalsIgnoreCase( action ) )
+        {
+            return 10;
+        }
+        else if ( "trackEvent".equalsIgnoreCase( action ) )
+        {
+            return 11;
+        }
+        else if ( "createBanner".equalsIgnoreCase( action ) )
+        {
+            return 12;
+        }
+        else if ( "setBannerBackgroundColor".equalsIgnoreCase( action ) )
+        {
+            return 13;
+        }
+        else if ( "setBannerPlacement".equalsIgnoreCase( action ) )
+        {
+            return 14;
+        }
+        else if ( "updateBannerPosition".equalsIgnoreCase( action ) )
+        {
+            return 15;
+        }
+        else if ( "setBannerExtraParameter".equalsIgnoreCase( action ) )
+        {
+            return 16;
+        }
+        else if ( "showBanner".equalsIgnoreCase( action ) )
+        {
+            return 17;
+        }
+        else if ( "hideBanner".equalsIgnoreCase( action ) )
+        {
+            return 18;
+        }
+        else if ( "destroyBanner".equalsIgnoreCase( action ) )
+        {
+            return 19;
+        }
+        else if ( "createMRec".equalsIgnoreCase( action ) )
+        {
+            return 20;
+        }
+        else if ( "setMRecPlacement".equalsIgnoreCase( action ) )
+        {
+            return 21;
+        }
+        else if ( "updateMRecPosition".equalsIgnoreCase( action ) )
+        {
+            return 22;
+        }
+        else if ( "showMRec".equalsIgnoreCase( action ) )
+        {
+            return 23;
+        }
+        else if ( "hideMRec".equalsIgnoreCase( action ) )
+        {
+            return 24;
+        }
+        else if ( "destroyMRec".equalsIgnoreCase( action ) )
+        {
+            return 25;
+        }
+        else if ( "loadInterstitial".equalsIgnoreCase( action ) )
+        {
+            return 26;
+        }
+        else if ( "showInterstitial".equalsIgnoreCase( action ) )
+        {
+            return 27;
+        }
+        else if ( "setInterstitialExtraParameter".equalsIgnoreCase( action ) )
+        {
+            return 28;
+        }
+        else if ( "loadRewardedAd".equalsIgnoreCase( action ) )
+        {
+            return 29;
+        }
+        else if ( "showRewardedAd".equalsIgnoreCase( action ) )
+        {
+            return 30;
+        }
+        else if ( "setRewardedAdExtraParameter".equalsIgnoreCase( action ) )
+        {
+            return 31;
+        }
+        else
+        {
+            // Action not recognized
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.applovin.cordova;
+
+import android.text.TextUtils;
+
+import com.applovin.mediation.MaxAd;
+import com.applovin.mediation.MaxAdFormat;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building the ad info payload of an ad callback, before and after {@link AdInfoSerializer}: the plugin used to build a
+ * {@link JSONObject} and convert it to a string for every event.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AdInfoBenchmark
+{
+    private final TestAd ad = new TestAd( "interstitial-ad-unit", MaxAdFormat.INTERSTITIAL );
+
+    @Setup
+    public void setUp() throws JSONException
+    {
+        // Only a fair comparison if both produce the same payload - up to the key order, which JSONObject does not keep on the JVM
+        final JSONObject expected = getAdInfo( ad );
+        final JSONObject actual = new JSONObject( AdInfoSerializer.adInfo( ad ).toString() );
+        for ( Iterator<String> keys = expected.keys(); keys.hasNext(); )
+        {
+            final String key = keys.next();
+            if ( !expected.get( key ).equals( actual.opt( key ) ) ) throw new IllegalStateException( "Payloads differ: " + expected + " != " + actual );
+        }
+
+        if ( expected.length() != actual.length() ) throw new IllegalStateException( "Payloads differ: " + expected + " != " + actual );
+    }
+
+    @Benchmark
+    public String jsonObject()
+    {
+        return getAdInfo( ad ).toString();
+    }
+
+    /**
+     * The builder is appended to the event channel as is, without a copy.
+     */
+    @Benchmark
+    public CharSequence serializer()
+    {
+        return AdInfoSerializer.adInfo( ad );
+    }
+
+    @Benchmark
+    public CharSequence serializerWithReward()
+    {
+        return AdInfoSerializer.adInfo( ad, "coins", 10 );
+    }
+
+    /**
+     * As the plugin used to build the payload.
+     */
+    private static JSONObject getAdInfo(final MaxAd ad)
+    {
+        JSONObject adInfo = null;
+
+        try
+        {
+            adInfo = new JSONObject();
+            adInfo.put( "adUnitId", ad.getAdUnitId() );
+            adInfo.put( "creativeId", !TextUtils.isEmpty( ad.getCreativeId() ) ? ad.getCreativeId() : "" );
+            adInfo.put( "networkName", ad.getNetworkName() );
+            adInfo.put( "placement", !TextUtils.isEmpty( ad.getPlacement() ) ? ad.getPlacement() : "" );
+            adInfo.put( "revenue", ad.getRevenue() );
+        }
+        catch ( JSONException ignored ) { }
+
+        return adInfo;
+    }
+}
@@ -0,0 +1,59 @@
+package com.applovin.cordova;
+
+import com.applovin.mediation.MaxAdFormat;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Looking up the ad of an ad unit which already has one, as every ad view and fullscreen ad call does, among a typical number of ad units.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AdLookupBenchmark
+{
+    private static final int AD_UNIT_COUNT = 16;
+
+    private final String[] interstitialAdUnitIds = new String[AD_UNIT_COUNT];
+    private final String[] bannerAdUnitIds       = new String[AD_UNIT_COUNT];
+
+    private AppLovinMAX plugin;
+    private int         index;
+
+    @Setup
+    public void setUp()
+    {
+        plugin = new PluginHarness().start().plugin;
+
+        for ( int i = 0; i < AD_UNIT_COUNT; i++ )
+        {
+            interstitialAdUnitIds[i] = "interstitial-ad-unit-" + i;
+            bannerAdUnitIds[i] = "banner-ad-unit-" + i;
+
+            plugin.retrieveInterstitial( interstitialAdUnitIds[i] );
+            plugin.retrieveAdView( bannerAdUnitIds[i], MaxAdFormat.BANNER, "bottom_center" );
+        }
+    }
+
+    @Benchmark
+    public Object retrieveInterstitial()
+    {
+        index = ( index + 1 ) % AD_UNIT_COUNT;
+        return plugin.retrieveInterstitial( interstitialAdUnitIds[index] );
+    }
+
+    @Benchmark
+    public Object retrieveAdView()
+    {
+        index = ( index + 1 ) % AD_UNIT_COUNT;
+        return plugin.retrieveAdView( bannerAdUnitIds[index], MaxAdFormat.BANNER, null );
+    }
+}
@@ -0,0 +1,61 @@
+package com.applovin.cordova;
+
+import android.os.Looper;
+
+import com.applovin.mediation.MaxAdFormat;
+
+import org.json.JSONException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Laying out an ad view which is already attached: its gravity, size and margins for the position it was created with.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AdViewPositionBenchmark
+{
+    private static final String AD_UNIT_ID = "ad-view-ad-unit";
+
+    // A horizontal banner, a vertical banner which is rotated, and an MREC
+    @Param({ "BANNER:bottom_center", "BANNER:center_left", "MREC:top_right" })
+    public String adView;
+
+    private PluginHarness harness;
+    private MaxAdFormat   adFormat;
+
+    @Setup
+    public void setUp() throws JSONException
+    {
+        final String[] formatAndPosition = adView.split( ":" );
+        adFormat = "MREC".equals( formatAndPosition[0] ) ? MaxAdFormat.MREC : MaxAdFormat.BANNER;
+
+        harness = new PluginHarness().start().initializeSdk();
+        harness.awaitResult( harness.call( ( adFormat == MaxAdFormat.MREC ) ? "createMRec" : "createBanner", AD_UNIT_ID, formatAndPosition[1] ) );
+
+        // Otherwise only the early return of a missing ad view would be measured
+        if ( harness.plugin.retrieveAdView( AD_UNIT_ID, adFormat, null ).getParent() == null ) throw new IllegalStateException( "The ad view is not attached" );
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpIteration()
+    {
+        Looper.prepareMainLooper( harness.clock );
+    }
+
+    @Benchmark
+    public void positionAdView()
+    {
+        harness.plugin.positionAdView( AD_UNIT_ID, adFormat );
+    }
+}
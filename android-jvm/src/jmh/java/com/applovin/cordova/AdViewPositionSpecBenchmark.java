@@ -0,0 +1,127 @@
+package com.applovin.cordova;
+
+import android.view.Gravity;
+
+import com.applovin.mediation.MaxAdFormat;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Turning an ad view position into its layout decisions, before and after {@link AdViewPositionSpec}: positionAdView() used to parse
+ * the position string with {@code contains()} on every layout.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AdViewPositionSpecBenchmark
+{
+    private static final int WIDTH_MATCH_PARENT = 1 << 16;
+    private static final int ROTATED            = 1 << 17;
+
+    @Param({ "centered", "top_center", "bottom_center", "center_left", "top_right" })
+    public String adViewPosition;
+
+    @Param({ "BANNER", "MREC" })
+    public String format;
+
+    private MaxAdFormat adFormat;
+
+    @Setup
+    public void setUp()
+    {
+        adFormat = "MREC".equals( format ) ? MaxAdFormat.MREC : MaxAdFormat.BANNER;
+
+        // Only a fair comparison if both come to the same layout
+        final int expected = parseLegacy( adViewPosition, adFormat );
+        final int actual = pack( AdViewPositionSpec.get( adViewPosition, adFormat ) );
+        if ( expected != actual ) throw new IllegalStateException( "Layouts differ for " + adViewPosition + ": " + expected + " != " + actual );
+    }
+
+    @Benchmark
+    public int contains()
+    {
+        return parseLegacy( adViewPosition, adFormat );
+    }
+
+    @Benchmark
+    public Object positionSpec()
+    {
+        return AdViewPositionSpec.get( adViewPosition, adFormat );
+    }
+
+    private static int pack(final AdViewPositionSpec spec)
+    {
+        return spec.gravity | ( spec.isWidthMatchParent ? WIDTH_MATCH_PARENT : 0 ) | ( spec.isRotated ? ROTATED : 0 );
+    }
+
+    /**
+     * The parsing positionAdView() used to do, with the layout decisions packed into the gravity bits.
+     */
+    private static int parseLegacy(final String adViewPosition, final MaxAdFormat adFormat)
+    {
+        int gravity = 0;
+        int flags = 0;
+
+        if ( "centered".equalsIgnoreCase( adViewPosition ) )
+        {
+            gravity = Gravity.CENTER_VERTICAL | Gravity.CENTER_HORIZONTAL;
+        }
+        else
+        {
+            // Figure out vertical params
+            if ( adViewPosition.contains( "top" ) )
+            {
+                gravity = Gravity.TOP;
+            }
+            else if ( adViewPosition.contains( "bottom" ) )
+            {
+                gravity = Gravity.BOTTOM;
+            }
+
+            // Figure out horizontal params
+            if ( adViewPosition.contains( "center" ) )
+            {
+                gravity |= Gravity.CENTER_HORIZONTAL;
+                flags = ( MaxAdFormat.MREC == adFormat ) ? 0 : WIDTH_MATCH_PARENT; // Stretch width if banner
+
+                final boolean containsLeft = adViewPosition.contains( "left" );
+                final boolean containsRight = adViewPosition.contains( "right" );
+                if ( containsLeft || containsRight )
+                {
+                    gravity |= Gravity.CENTER_VERTICAL;
+
+                    if ( MaxAdFormat.MREC == adFormat )
+                    {
+                        gravity |= adViewPosition.contains( "left" ) ? Gravity.LEFT : Gravity.RIGHT;
+                    }
+                    else
+                    {
+                        flags |= ROTATED;
+                    }
+                }
+            }
+            else
+            {
+                if ( adViewPosition.contains( "left" ) )
+                {
+                    gravity |= Gravity.LEFT;
+                }
+                else if ( adViewPosition.contains( "right" ) )
+                {
+                    gravity |= Gravity.RIGHT;
+                }
+            }
+        }
+
+        return gravity | flags;
+    }
+}
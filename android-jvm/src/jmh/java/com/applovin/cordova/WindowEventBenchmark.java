@@ -0,0 +1,70 @@
+package com.applovin.cordova;
+
+import android.os.Looper;
+
+import com.applovin.mediation.MaxAdFormat;
+
+import org.json.JSONException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Raising a window event with its ad info, either over the event channel - a burst of events per frame, flushed as one batch - or,
+ * before JS attached the channel, by evaluating JS for each event.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WindowEventBenchmark
+{
+    private static final int EVENTS_PER_FRAME = 16;
+    private static final int FRAME_MILLIS     = 16;
+
+    private final TestAd ad = new TestAd( "interstitial-ad-unit", MaxAdFormat.INTERSTITIAL );
+
+    private PluginHarness channelHarness;
+    private PluginHarness loadUrlHarness;
+
+    @Setup
+    public void setUp() throws JSONException
+    {
+        loadUrlHarness = new PluginHarness().start();
+
+        channelHarness = new PluginHarness().start();
+        channelHarness.call( "registerEventChannel" );
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpIteration()
+    {
+        // Iterations may run on another thread than the setup, and the event channel flushes on the main thread
+        Looper.prepareMainLooper( channelHarness.clock );
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS_PER_FRAME)
+    public void eventChannel()
+    {
+        for ( int i = 0; i < EVENTS_PER_FRAME; i++ )
+        {
+            channelHarness.plugin.fireWindowEvent( "OnInterstitialLoadedEvent", AdInfoSerializer.adInfo( ad ) );
+        }
+
+        channelHarness.clock.advanceBy( FRAME_MILLIS );
+    }
+
+    @Benchmark
+    public void loadUrl()
+    {
+        loadUrlHarness.plugin.fireWindowEvent( "OnInterstitialLoadedEvent", AdInfoSerializer.adInfo( ad ) );
+    }
+}
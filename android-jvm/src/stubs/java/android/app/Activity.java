@@ -0,0 +1,56 @@
+package android.app;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.view.View;
+import android.view.ViewGroup;
+import android.view.Window;
+import android.widget.FrameLayout;
+
+/**
+ * Stub of an Activity whose content views are added to a plain decor view.
+ */
+public class Activity
+        extends Context
+{
+    private final Application application = new Application();
+    private final Handler     handler     = new Handler( Looper.getMainLooper() );
+    private final FrameLayout decorView   = new FrameLayout( this );
+    private final Window      window      = new Window( decorView );
+
+    /**
+     * Run the action right away if called on the main thread, otherwise post it to the main thread.
+     */
+    public final void runOnUiThread(final Runnable action)
+    {
+        if ( Looper.myLooper() == Looper.getMainLooper() )
+        {
+            action.run();
+        }
+        else
+        {
+            handler.post( action );
+        }
+    }
+
+    public void addContentView(final View view, final ViewGroup.LayoutParams params)
+    {
+        decorView.addView( view, params );
+    }
+
+    public Window getWindow()
+    {
+        return window;
+    }
+
+    public final Application getApplication()
+    {
+        return application;
+    }
+
+    public boolean isFinishing()
+    {
+        return false;
+    }
+}
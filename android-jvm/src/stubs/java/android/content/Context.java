@@ -0,0 +1,57 @@
+package android.content;
+
+import android.content.res.Resources;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Stub of a context which is its own application context.
+ */
+public class Context
+{
+    private final Resources                resources          = new Resources();
+    private final List<ComponentCallbacks> componentCallbacks = new CopyOnWriteArrayList<>();
+
+    public Context getApplicationContext()
+    {
+        return this;
+    }
+
+    public Resources getResources()
+    {
+        return resources;
+    }
+
+    public void registerComponentCallbacks(final ComponentCallbacks callback)
+    {
+        componentCallbacks.add( callback );
+    }
+
+    public void unregisterComponentCallbacks(final ComponentCallbacks callback)
+    {
+        componentCallbacks.remove( callback );
+    }
+
+    /**
+     * Stub only: deliver {@link ComponentCallbacks2#onTrimMemory(int)} to the registered callbacks, as the system would.
+     */
+    public void dispatchTrimMemory(final int level)
+    {
+        for ( ComponentCallbacks callback : componentCallbacks )
+        {
+            if ( callback instanceof ComponentCallbacks2 )
+            {
+                ( (ComponentCallbacks2) callback ).onTrimMemory( level );
+            }
+        }
+    }
+
+    /**
+     * Stub only: the number of registered component callbacks.
+     */
+    public int getComponentCallbackCount()
+    {
+        return componentCallbacks.size();
+    }
+}
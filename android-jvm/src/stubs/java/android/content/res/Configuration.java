@@ -0,0 +1,9 @@
+package android.content.res;
+
+public class Configuration
+{
+    public int orientation;
+    public int screenWidthDp;
+    public int screenHeightDp;
+    public int densityDpi;
+}
@@ -0,0 +1,24 @@
+package android.content.res;
+
+import android.util.DisplayMetrics;
+
+/**
+ * Stub of the resources of an xhdpi phone.
+ */
+public class Resources
+{
+    private final DisplayMetrics displayMetrics = new DisplayMetrics();
+
+    public Resources()
+    {
+        displayMetrics.density = 2.0f;
+        displayMetrics.densityDpi = 320;
+        displayMetrics.widthPixels = 1080;
+        displayMetrics.heightPixels = 1920;
+    }
+
+    public DisplayMetrics getDisplayMetrics()
+    {
+        return displayMetrics;
+    }
+}
@@ -0,0 +1,25 @@
+package android.graphics;
+
+public class Color
+{
+    public static final int TRANSPARENT = 0;
+
+    /**
+     * Parse {@code #RRGGBB} or {@code #AARRGGBB}.
+     */
+    public static int parseColor(final String colorString)
+    {
+        if ( colorString != null && colorString.charAt( 0 ) == '#' && ( colorString.length() == 7 || colorString.length() == 9 ) )
+        {
+            long color = Long.parseLong( colorString.substring( 1 ), 16 );
+            if ( colorString.length() == 7 )
+            {
+                color |= 0x00000000ff000000L;
+            }
+
+            return (int) color;
+        }
+
+        throw new IllegalArgumentException( "Unknown color" );
+    }
+}
@@ -0,0 +1,27 @@
+package android.graphics;
+
+public final class Rect
+{
+    public int left;
+    public int top;
+    public int right;
+    public int bottom;
+
+    public void set(final int left, final int top, final int right, final int bottom)
+    {
+        this.left = left;
+        this.top = top;
+        this.right = right;
+        this.bottom = bottom;
+    }
+
+    public int width()
+    {
+        return right - left;
+    }
+
+    public int height()
+    {
+        return bottom - top;
+    }
+}
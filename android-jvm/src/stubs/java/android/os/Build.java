@@ -0,0 +1,15 @@
+package android.os;
+
+public class Build
+{
+    public static class VERSION
+    {
+        public static final int SDK_INT = 34;
+    }
+
+    public static class VERSION_CODES
+    {
+        public static final int M = 23;
+        public static final int N = 24;
+    }
+}
@@ -0,0 +1,116 @@
+package android.os;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Stub of a handler of the main looper, posting to its {@link Looper.Scheduler}. Removed callbacks stay scheduled but do not run.
+ */
+public class Handler
+{
+    private static final class Message
+            implements Runnable
+    {
+        final Handler  handler;
+        final Runnable callback;
+        final Object   token;
+
+        Message(final Handler handler, final Runnable callback, final Object token)
+        {
+            this.handler = handler;
+            this.callback = callback;
+            this.token = token;
+        }
+
+        @Override
+        public void run()
+        {
+            if ( handler.dequeue( this ) )
+            {
+                callback.run();
+            }
+        }
+    }
+
+    private final Looper        looper;
+    private final List<Message> messages = new ArrayList<>();
+
+    public Handler(final Looper looper)
+    {
+        this.looper = looper;
+    }
+
+    public final boolean post(final Runnable runnable)
+    {
+        return enqueue( runnable, null, 0 );
+    }
+
+    public final boolean postDelayed(final Runnable runnable, final long delayMillis)
+    {
+        return enqueue( runnable, null, delayMillis );
+    }
+
+    public final boolean postAtTime(final Runnable runnable, final Object token, final long uptimeMillis)
+    {
+        return enqueue( runnable, token, uptimeMillis - SystemClock.uptimeMillis() );
+    }
+
+    public final void removeCallbacks(final Runnable runnable)
+    {
+        synchronized ( messages )
+        {
+            for ( Iterator<Message> iterator = messages.iterator(); iterator.hasNext(); )
+            {
+                if ( iterator.next().callback == runnable ) iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Remove the callbacks posted with the given token, or all callbacks if it is {@code null}.
+     */
+    public final void removeCallbacksAndMessages(final Object token)
+    {
+        synchronized ( messages )
+        {
+            if ( token == null )
+            {
+                messages.clear();
+                return;
+            }
+
+            for ( Iterator<Message> iterator = messages.iterator(); iterator.hasNext(); )
+            {
+                if ( iterator.next().token == token ) iterator.remove();
+            }
+        }
+    }
+
+    public final Looper getLooper()
+    {
+        return looper;
+    }
+
+    private boolean enqueue(final Runnable runnable, final Object token, final long delayMillis)
+    {
+        final Message message = new Message( this, runnable, token );
+
+        synchronized ( messages )
+        {
+            messages.add( message );
+        }
+
+        Looper.getScheduler().schedule( message, Math.max( 0, delayMillis ) );
+        return true;
+    }
+
+    private boolean dequeue(final Message message)
+    {
+        synchronized ( messages )
+        {
+            // Identity based, as messages do not override equals()
+            return messages.remove( message );
+        }
+    }
+}
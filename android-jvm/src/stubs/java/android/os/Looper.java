@@ -0,0 +1,83 @@
+package android.os;
+
+/**
+ * Stub of the main looper only. Its messages are run by the {@link Scheduler} installed through {@link #prepareMainLooper(Scheduler)}, on
+ * the thread that installed it, which counts as the main thread from then on. Threads other than the main thread have no looper.
+ */
+public final class Looper
+{
+    /**
+     * Time source and message queue of the main thread, e.g. a virtual clock advanced by a test.
+     */
+    public interface Scheduler
+    {
+        /**
+         * @return The time in milliseconds, reported as both {@link SystemClock#uptimeMillis()} and {@link SystemClock#elapsedRealtime()}.
+         */
+        long nowMillis();
+
+        /**
+         * Run the task on the main thread once the given time has passed. Tasks due at the same time run in the order they were scheduled.
+         */
+        void schedule(Runnable task, long delayMillis);
+    }
+
+    private static final Looper MAIN_LOOPER = new Looper();
+
+    private static volatile Scheduler scheduler;
+    private static volatile Thread    mainThread;
+
+    private final MessageQueue queue = new MessageQueue();
+
+    private Looper() { }
+
+    /**
+     * Make the calling thread the main thread, with messages run by the given scheduler.
+     */
+    public static void prepareMainLooper(final Scheduler scheduler)
+    {
+        Looper.scheduler = scheduler;
+        Looper.mainThread = Thread.currentThread();
+    }
+
+    public static Looper getMainLooper()
+    {
+        return MAIN_LOOPER;
+    }
+
+    public static Looper myLooper()
+    {
+        return ( Thread.currentThread() == mainThread ) ? MAIN_LOOPER : null;
+    }
+
+    public static MessageQueue myQueue()
+    {
+        final Looper looper = myLooper();
+        if ( looper == null ) throw new IllegalStateException( "The calling thread has no looper" );
+
+        return looper.queue;
+    }
+
+    public Thread getThread()
+    {
+        return mainThread;
+    }
+
+    public MessageQueue getQueue()
+    {
+        return queue;
+    }
+
+    public boolean isCurrentThread()
+    {
+        return Thread.currentThread() == mainThread;
+    }
+
+    static Scheduler getScheduler()
+    {
+        final Scheduler scheduler = Looper.scheduler;
+        if ( scheduler == null ) throw new IllegalStateException( "Looper.prepareMainLooper(Scheduler) has not been called" );
+
+        return scheduler;
+    }
+}
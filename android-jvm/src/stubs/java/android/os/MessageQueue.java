@@ -0,0 +1,29 @@
+package android.os;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Stub of the main message queue. Idle handlers are kept but never run, as the stub queue is never idle.
+ */
+public final class MessageQueue
+{
+    public interface IdleHandler
+    {
+        boolean queueIdle();
+    }
+
+    private final List<IdleHandler> idleHandlers = new CopyOnWriteArrayList<>();
+
+    MessageQueue() { }
+
+    public void addIdleHandler(final IdleHandler handler)
+    {
+        idleHandlers.add( handler );
+    }
+
+    public void removeIdleHandler(final IdleHandler handler)
+    {
+        idleHandlers.remove( handler );
+    }
+}
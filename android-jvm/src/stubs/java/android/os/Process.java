@@ -0,0 +1,9 @@
+package android.os;
+
+public class Process
+{
+    public static long getStartElapsedRealtime()
+    {
+        return 0;
+    }
+}
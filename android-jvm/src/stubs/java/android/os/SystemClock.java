@@ -0,0 +1,19 @@
+package android.os;
+
+/**
+ * Stub reading the time of the main looper's {@link Looper.Scheduler}, so that time only moves when the scheduler says so.
+ */
+public final class SystemClock
+{
+    private SystemClock() { }
+
+    public static long elapsedRealtime()
+    {
+        return Looper.getScheduler().nowMillis();
+    }
+
+    public static long uptimeMillis()
+    {
+        return Looper.getScheduler().nowMillis();
+    }
+}
@@ -0,0 +1,11 @@
+package android.text;
+
+public final class TextUtils
+{
+    private TextUtils() { }
+
+    public static boolean isEmpty(final CharSequence text)
+    {
+        return text == null || text.length() == 0;
+    }
+}
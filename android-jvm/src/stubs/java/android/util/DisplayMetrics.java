@@ -0,0 +1,9 @@
+package android.util;
+
+public class DisplayMetrics
+{
+    public float density;
+    public int   densityDpi;
+    public int   widthPixels;
+    public int   heightPixels;
+}
@@ -0,0 +1,48 @@
+package android.util;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
+/**
+ * Stub writing warnings and errors to {@code System.err}. Debug messages are dropped, so that benchmarks and soak runs are not dominated by
+ * logging.
+ */
+public final class Log
+{
+    private Log() { }
+
+    public static int d(final String tag, final String message)
+    {
+        return 0;
+    }
+
+    public static int w(final String tag, final String message)
+    {
+        return print( "W", tag, message );
+    }
+
+    public static int e(final String tag, final String message)
+    {
+        return print( "E", tag, message );
+    }
+
+    public static int e(final String tag, final String message, final Throwable throwable)
+    {
+        return print( "E", tag, message + '\n' + getStackTraceString( throwable ) );
+    }
+
+    public static String getStackTraceString(final Throwable throwable)
+    {
+        if ( throwable == null ) return "";
+
+        final StringWriter writer = new StringWriter();
+        throwable.printStackTrace( new PrintWriter( writer ) );
+        return writer.toString();
+    }
+
+    private static int print(final String level, final String tag, final String message)
+    {
+        System.err.println( level + "/" + tag + ": " + message );
+        return 0;
+    }
+}
@@ -0,0 +1,34 @@
+package android.view;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+/**
+ * Stub running frame callbacks on the main looper, one frame interval after they were posted.
+ */
+public final class Choreographer
+{
+    private static final long FRAME_INTERVAL_MILLIS = 16;
+
+    public interface FrameCallback
+    {
+        void doFrame(long frameTimeNanos);
+    }
+
+    private static final Choreographer INSTANCE = new Choreographer();
+
+    private final Handler handler = new Handler( Looper.getMainLooper() );
+
+    private Choreographer() { }
+
+    public static Choreographer getInstance()
+    {
+        return INSTANCE;
+    }
+
+    public void postFrameCallback(final FrameCallback callback)
+    {
+        handler.postDelayed( () -> callback.doFrame( SystemClock.uptimeMillis() * 1000000L ), FRAME_INTERVAL_MILLIS );
+    }
+}
@@ -0,0 +1,13 @@
+package android.view;
+
+public class Gravity
+{
+    public static final int NO_GRAVITY        = 0;
+    public static final int CENTER_HORIZONTAL = 1;
+    public static final int LEFT              = 3;
+    public static final int RIGHT             = 5;
+    public static final int CENTER_VERTICAL   = 16;
+    public static final int CENTER            = 17;
+    public static final int TOP               = 48;
+    public static final int BOTTOM            = 80;
+}
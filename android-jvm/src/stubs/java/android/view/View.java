@@ -0,0 +1,149 @@
+package android.view;
+
+import android.content.Context;
+import android.content.res.Resources;
+import android.graphics.Rect;
+import android.os.Handler;
+import android.os.Looper;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Stub of a view which keeps its properties and parent but is never measured or laid out.
+ */
+public class View
+{
+    public static final int VISIBLE   = 0;
+    public static final int INVISIBLE = 4;
+    public static final int GONE      = 8;
+
+    public interface OnLayoutChangeListener
+    {
+        void onLayoutChange(View view, int left, int top, int right, int bottom, int oldLeft, int oldTop, int oldRight, int oldBottom);
+    }
+
+    private final Context                      context;
+    private final List<OnLayoutChangeListener> layoutChangeListeners = new CopyOnWriteArrayList<>();
+
+    ViewParent parent;
+
+    private ViewGroup.LayoutParams layoutParams;
+    private Handler                handler;
+    private int                    visibility = VISIBLE;
+    private int                    backgroundColor;
+    private float                  rotation;
+    private float                  translationX;
+
+    public View(final Context context)
+    {
+        this.context = context;
+    }
+
+    public Context getContext()
+    {
+        return context;
+    }
+
+    public Resources getResources()
+    {
+        return context.getResources();
+    }
+
+    public final ViewParent getParent()
+    {
+        return parent;
+    }
+
+    public ViewGroup.LayoutParams getLayoutParams()
+    {
+        return layoutParams;
+    }
+
+    public void setLayoutParams(final ViewGroup.LayoutParams params)
+    {
+        if ( params == null ) throw new NullPointerException( "Layout parameters cannot be null" );
+
+        layoutParams = params;
+    }
+
+    public int getVisibility()
+    {
+        return visibility;
+    }
+
+    public void setVisibility(final int visibility)
+    {
+        this.visibility = visibility;
+    }
+
+    public void setBackgroundColor(final int color)
+    {
+        backgroundColor = color;
+    }
+
+    public float getRotation()
+    {
+        return rotation;
+    }
+
+    public void setRotation(final float rotation)
+    {
+        this.rotation = rotation;
+    }
+
+    public float getTranslationX()
+    {
+        return translationX;
+    }
+
+    public void setTranslationX(final float translationX)
+    {
+        this.translationX = translationX;
+    }
+
+    public int getWidth()
+    {
+        return 0;
+    }
+
+    public int getHeight()
+    {
+        return 0;
+    }
+
+    public void requestLayout() { }
+
+    public void addOnLayoutChangeListener(final OnLayoutChangeListener listener)
+    {
+        layoutChangeListeners.add( listener );
+    }
+
+    public void removeOnLayoutChangeListener(final OnLayoutChangeListener listener)
+    {
+        layoutChangeListeners.remove( listener );
+    }
+
+    /**
+     * Stub only: the number of registered layout change listeners.
+     */
+    public int getLayoutChangeListenerCount()
+    {
+        return layoutChangeListeners.size();
+    }
+
+    public void getWindowVisibleDisplayFrame(final Rect outRect)
+    {
+        outRect.set( 0, 0, context.getResources().getDisplayMetrics().widthPixels, context.getResources().getDisplayMetrics().heightPixels );
+    }
+
+    public boolean post(final Runnable action)
+    {
+        if ( handler == null )
+        {
+            handler = new Handler( Looper.getMainLooper() );
+        }
+
+        return handler.post( action );
+    }
+}
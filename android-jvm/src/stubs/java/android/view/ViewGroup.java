@@ -0,0 +1,98 @@
+package android.view;
+
+import android.content.Context;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stub of a view group which keeps its children in order.
+ */
+public class ViewGroup
+        extends View
+        implements ViewParent
+{
+    public static class LayoutParams
+    {
+        public static final int MATCH_PARENT = -1;
+        public static final int WRAP_CONTENT = -2;
+
+        public int width;
+        public int height;
+
+        public LayoutParams(final int width, final int height)
+        {
+            this.width = width;
+            this.height = height;
+        }
+    }
+
+    public static class MarginLayoutParams
+            extends LayoutParams
+    {
+        public int leftMargin;
+        public int topMargin;
+        public int rightMargin;
+        public int bottomMargin;
+
+        public MarginLayoutParams(final int width, final int height)
+        {
+            super( width, height );
+        }
+
+        public void setMargins(final int left, final int top, final int right, final int bottom)
+        {
+            leftMargin = left;
+            topMargin = top;
+            rightMargin = right;
+            bottomMargin = bottom;
+        }
+    }
+
+    private final List<View> children = new ArrayList<>();
+
+    public ViewGroup(final Context context)
+    {
+        super( context );
+    }
+
+    public void addView(final View child)
+    {
+        addView( child, ( child.getLayoutParams() != null ) ? child.getLayoutParams() : generateDefaultLayoutParams() );
+    }
+
+    public void addView(final View child, final LayoutParams params)
+    {
+        if ( child.parent != null )
+        {
+            throw new IllegalStateException( "The specified child already has a parent. You must call removeView() on the child's parent first." );
+        }
+
+        child.setLayoutParams( params );
+        child.parent = this;
+        children.add( child );
+    }
+
+    public void removeView(final View child)
+    {
+        if ( children.remove( child ) )
+        {
+            child.parent = null;
+        }
+    }
+
+    public int getChildCount()
+    {
+        return children.size();
+    }
+
+    public View getChildAt(final int index)
+    {
+        return ( index >= 0 && index < children.size() ) ? children.get( index ) : null;
+    }
+
+    protected LayoutParams generateDefaultLayoutParams()
+    {
+        return new LayoutParams( LayoutParams.WRAP_CONTENT, LayoutParams.WRAP_CONTENT );
+    }
+}
@@ -0,0 +1,16 @@
+package android.view;
+
+public class Window
+{
+    private final View decorView;
+
+    public Window(final View decorView)
+    {
+        this.decorView = decorView;
+    }
+
+    public View getDecorView()
+    {
+        return decorView;
+    }
+}
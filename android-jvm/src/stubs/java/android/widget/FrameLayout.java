@@ -0,0 +1,36 @@
+package android.widget;
+
+import android.content.Context;
+import android.view.ViewGroup;
+
+public class FrameLayout
+        extends ViewGroup
+{
+    public static class LayoutParams
+            extends ViewGroup.MarginLayoutParams
+    {
+        public int gravity = -1;
+
+        public LayoutParams(final int width, final int height)
+        {
+            super( width, height );
+        }
+
+        public LayoutParams(final int width, final int height, final int gravity)
+        {
+            super( width, height );
+            this.gravity = gravity;
+        }
+    }
+
+    public FrameLayout(final Context context)
+    {
+        super( context );
+    }
+
+    @Override
+    protected ViewGroup.LayoutParams generateDefaultLayoutParams()
+    {
+        return new LayoutParams( LayoutParams.MATCH_PARENT, LayoutParams.MATCH_PARENT );
+    }
+}
@@ -0,0 +1,22 @@
+package android.widget;
+
+import android.content.Context;
+import android.view.ViewGroup;
+
+public class LinearLayout
+        extends ViewGroup
+{
+    public static class LayoutParams
+            extends ViewGroup.MarginLayoutParams
+    {
+        public LayoutParams(final int width, final int height)
+        {
+            super( width, height );
+        }
+    }
+
+    public LinearLayout(final Context context)
+    {
+        super( context );
+    }
+}
@@ -0,0 +1,35 @@
+package android.widget;
+
+import android.content.Context;
+import android.view.ViewGroup;
+
+public class RelativeLayout
+        extends ViewGroup
+{
+    public static class LayoutParams
+            extends ViewGroup.MarginLayoutParams
+    {
+        public LayoutParams(final int width, final int height)
+        {
+            super( width, height );
+        }
+    }
+
+    private int gravity;
+
+    public RelativeLayout(final Context context)
+    {
+        super( context );
+    }
+
+    public void setGravity(final int gravity)
+    {
+        this.gravity = gravity;
+    }
+
+    @Override
+    protected ViewGroup.LayoutParams generateDefaultLayoutParams()
+    {
+        return new LayoutParams( LayoutParams.WRAP_CONTENT, LayoutParams.WRAP_CONTENT );
+    }
+}
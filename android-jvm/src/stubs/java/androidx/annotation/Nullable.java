@@ -0,0 +1 @@
+package androidx.annotation; public @interface Nullable {}
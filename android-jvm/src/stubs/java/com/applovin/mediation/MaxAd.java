@@ -0,0 +1,26 @@
+package com.applovin.mediation;
+
+public interface MaxAd
+{
+    MaxAdFormat getFormat();
+
+    String getAdUnitId();
+
+    String getNetworkName();
+
+    String getNetworkPlacement();
+
+    String getCreativeId();
+
+    String getPlacement();
+
+    double getRevenue();
+
+    String getRevenuePrecision();
+
+    MaxAdWaterfallInfo getWaterfall();
+
+    long getRequestLatencyMillis();
+
+    String getDspName();
+}
@@ -0,0 +1,40 @@
+package com.applovin.mediation;
+
+public class MaxAdFormat
+{
+    public static final MaxAdFormat BANNER       = new MaxAdFormat( "BANNER" );
+    public static final MaxAdFormat LEADER       = new MaxAdFormat( "LEADER" );
+    public static final MaxAdFormat MREC         = new MaxAdFormat( "MREC" );
+    public static final MaxAdFormat INTERSTITIAL = new MaxAdFormat( "INTER" );
+    public static final MaxAdFormat REWARDED     = new MaxAdFormat( "REWARDED" );
+    public static final MaxAdFormat APP_OPEN     = new MaxAdFormat( "APPOPEN" );
+    public static final MaxAdFormat NATIVE       = new MaxAdFormat( "NATIVE" );
+
+    private final String label;
+
+    private MaxAdFormat(final String label)
+    {
+        this.label = label;
+    }
+
+    public String getLabel()
+    {
+        return label;
+    }
+
+    public boolean isAdViewAd()
+    {
+        return this == BANNER || this == LEADER || this == MREC;
+    }
+
+    public boolean isFullscreenAd()
+    {
+        return this == INTERSTITIAL || this == REWARDED || this == APP_OPEN;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "MaxAdFormat{label=" + label + "}";
+    }
+}
@@ -0,0 +1,16 @@
+package com.applovin.mediation;
+
+public interface MaxAdListener
+{
+    void onAdLoaded(MaxAd ad);
+
+    void onAdDisplayed(MaxAd ad);
+
+    void onAdHidden(MaxAd ad);
+
+    void onAdClicked(MaxAd ad);
+
+    void onAdLoadFailed(String adUnitId, MaxError error);
+
+    void onAdDisplayFailed(MaxAd ad, MaxError error);
+}
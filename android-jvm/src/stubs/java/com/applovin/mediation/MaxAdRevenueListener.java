@@ -0,0 +1,6 @@
+package com.applovin.mediation;
+
+public interface MaxAdRevenueListener
+{
+    void onAdRevenuePaid(MaxAd ad);
+}
@@ -0,0 +1,9 @@
+package com.applovin.mediation;
+
+public interface MaxAdViewAdListener
+        extends MaxAdListener
+{
+    void onAdExpanded(MaxAd ad);
+
+    void onAdCollapsed(MaxAd ad);
+}
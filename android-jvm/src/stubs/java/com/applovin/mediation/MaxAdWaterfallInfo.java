@@ -0,0 +1,16 @@
+package com.applovin.mediation;
+
+import java.util.List;
+
+public interface MaxAdWaterfallInfo
+{
+    MaxAd getLoadedAd();
+
+    String getName();
+
+    String getTestName();
+
+    List<MaxNetworkResponseInfo> getNetworkResponses();
+
+    long getLatencyMillis();
+}
@@ -0,0 +1,16 @@
+package com.applovin.mediation;
+
+public interface MaxError
+{
+    int getCode();
+
+    String getMessage();
+
+    int getMediatedNetworkErrorCode();
+
+    String getMediatedNetworkErrorMessage();
+
+    MaxAdWaterfallInfo getWaterfall();
+
+    long getRequestLatencyMillis();
+}
@@ -0,0 +1,12 @@
+package com.applovin.mediation;
+
+public interface MaxMediatedNetworkInfo
+{
+    String getName();
+
+    String getAdapterClassName();
+
+    String getAdapterVersion();
+
+    String getSdkVersion();
+}
@@ -0,0 +1,25 @@
+package com.applovin.mediation;
+
+import android.os.Bundle;
+
+public interface MaxNetworkResponseInfo
+{
+    enum AdLoadState
+    {
+        AD_LOAD_NOT_ATTEMPTED,
+        AD_LOADED,
+        FAILED_TO_LOAD
+    }
+
+    AdLoadState getAdLoadState();
+
+    MaxMediatedNetworkInfo getMediatedNetwork();
+
+    Bundle getCredentials();
+
+    boolean isBidding();
+
+    long getLatencyMillis();
+
+    MaxError getError();
+}
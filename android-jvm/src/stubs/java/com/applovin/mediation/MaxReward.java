@@ -0,0 +1,8 @@
+package com.applovin.mediation;
+
+public interface MaxReward
+{
+    String getLabel();
+
+    int getAmount();
+}
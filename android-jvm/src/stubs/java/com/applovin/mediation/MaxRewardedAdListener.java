@@ -0,0 +1,7 @@
+package com.applovin.mediation;
+
+public interface MaxRewardedAdListener
+        extends MaxAdListener
+{
+    void onUserRewarded(MaxAd ad, MaxReward reward);
+}
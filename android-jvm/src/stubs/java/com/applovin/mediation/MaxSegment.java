@@ -0,0 +1,25 @@
+package com.applovin.mediation;
+
+import java.util.List;
+
+public class MaxSegment
+{
+    private final int           key;
+    private final List<Integer> values;
+
+    public MaxSegment(final int key, final List<Integer> values)
+    {
+        this.key = key;
+        this.values = values;
+    }
+
+    public int getKey()
+    {
+        return key;
+    }
+
+    public List<Integer> getValues()
+    {
+        return values;
+    }
+}
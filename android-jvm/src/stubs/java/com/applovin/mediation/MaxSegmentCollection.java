@@ -0,0 +1,40 @@
+package com.applovin.mediation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class MaxSegmentCollection
+{
+    private final List<MaxSegment> segments;
+
+    private MaxSegmentCollection(final List<MaxSegment> segments)
+    {
+        this.segments = segments;
+    }
+
+    public static Builder builder()
+    {
+        return new Builder();
+    }
+
+    public List<MaxSegment> getSegments()
+    {
+        return segments;
+    }
+
+    public static class Builder
+    {
+        private final List<MaxSegment> segments = new ArrayList<>();
+
+        public Builder addSegment(final MaxSegment segment)
+        {
+            segments.add( segment );
+            return this;
+        }
+
+        public MaxSegmentCollection build()
+        {
+            return new MaxSegmentCollection( new ArrayList<>( segments ) );
+        }
+    }
+}
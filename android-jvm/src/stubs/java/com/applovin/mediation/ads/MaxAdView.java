@@ -0,0 +1,82 @@
+package com.applovin.mediation.ads;
+
+import android.content.Context;
+import android.widget.RelativeLayout;
+
+import com.applovin.mediation.MaxAdFormat;
+import com.applovin.mediation.MaxAdRevenueListener;
+import com.applovin.mediation.MaxAdViewAdListener;
+import com.applovin.sdk.AppLovinSdk;
+
+/**
+ * Stub of an ad view which never loads an ad.
+ */
+public class MaxAdView
+        extends RelativeLayout
+{
+    private final String      adUnitId;
+    private final MaxAdFormat adFormat;
+
+    private MaxAdViewAdListener  listener;
+    private MaxAdRevenueListener revenueListener;
+    private String               placement;
+    private boolean              isAutoRefreshEnabled = true;
+    private boolean              isDestroyed;
+
+    public MaxAdView(final String adUnitId, final MaxAdFormat adFormat, final AppLovinSdk sdk, final Context context)
+    {
+        super( context );
+
+        this.adUnitId = adUnitId;
+        this.adFormat = adFormat;
+    }
+
+    public String getAdUnitId()
+    {
+        return adUnitId;
+    }
+
+    public MaxAdFormat getAdFormat()
+    {
+        return adFormat;
+    }
+
+    public void setListener(final MaxAdViewAdListener listener)
+    {
+        this.listener = listener;
+    }
+
+    public void setRevenueListener(final MaxAdRevenueListener revenueListener)
+    {
+        this.revenueListener = revenueListener;
+    }
+
+    public void setPlacement(final String placement)
+    {
+        this.placement = placement;
+    }
+
+    public String getPlacement()
+    {
+        return placement;
+    }
+
+    public void setExtraParameter(final String key, final String value) { }
+
+    public void loadAd() { }
+
+    public void startAutoRefresh()
+    {
+        isAutoRefreshEnabled = true;
+    }
+
+    public void stopAutoRefresh()
+    {
+        isAutoRefreshEnabled = false;
+    }
+
+    public void destroy()
+    {
+        isDestroyed = true;
+    }
+}
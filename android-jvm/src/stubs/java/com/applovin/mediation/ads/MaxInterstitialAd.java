@@ -0,0 +1,51 @@
+package com.applovin.mediation.ads;
+
+import android.app.Activity;
+
+import com.applovin.mediation.MaxAdListener;
+import com.applovin.mediation.MaxAdRevenueListener;
+import com.applovin.sdk.AppLovinSdk;
+
+/**
+ * Stub of an interstitial which never loads an ad.
+ */
+public class MaxInterstitialAd
+{
+    private final String adUnitId;
+
+    private MaxAdListener        listener;
+    private MaxAdRevenueListener revenueListener;
+
+    public MaxInterstitialAd(final String adUnitId, final AppLovinSdk sdk, final Activity activity)
+    {
+        this.adUnitId = adUnitId;
+    }
+
+    public String getAdUnitId()
+    {
+        return adUnitId;
+    }
+
+    public void setListener(final MaxAdListener listener)
+    {
+        this.listener = listener;
+    }
+
+    public void setRevenueListener(final MaxAdRevenueListener revenueListener)
+    {
+        this.revenueListener = revenueListener;
+    }
+
+    public void setExtraParameter(final String key, final String value) { }
+
+    public void loadAd() { }
+
+    public void showAd(final String placement) { }
+
+    public boolean isReady()
+    {
+        return false;
+    }
+
+    public void destroy() { }
+}
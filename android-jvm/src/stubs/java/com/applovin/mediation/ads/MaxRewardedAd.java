@@ -0,0 +1,80 @@
+package com.applovin.mediation.ads;
+
+import android.app.Activity;
+
+import com.applovin.mediation.MaxAdRevenueListener;
+import com.applovin.mediation.MaxRewardedAdListener;
+import com.applovin.sdk.AppLovinSdk;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Stub of a rewarded ad which never loads an ad. Like the SDK's, instances are shared per ad unit until destroyed.
+ */
+public class MaxRewardedAd
+{
+    private static final Map<String, MaxRewardedAd> INSTANCES = new HashMap<>();
+
+    private final String adUnitId;
+
+    private MaxRewardedAdListener listener;
+    private MaxAdRevenueListener  revenueListener;
+
+    private MaxRewardedAd(final String adUnitId)
+    {
+        this.adUnitId = adUnitId;
+    }
+
+    public static MaxRewardedAd getInstance(final String adUnitId, final AppLovinSdk sdk, final Activity activity)
+    {
+        synchronized ( INSTANCES )
+        {
+            MaxRewardedAd instance = INSTANCES.get( adUnitId );
+            if ( instance == null )
+            {
+                instance = new MaxRewardedAd( adUnitId );
+                INSTANCES.put( adUnitId, instance );
+            }
+
+            return instance;
+        }
+    }
+
+    public String getAdUnitId()
+    {
+        return adUnitId;
+    }
+
+    public void setListener(final MaxRewardedAdListener listener)
+    {
+        this.listener = listener;
+    }
+
+    public void setRevenueListener(final MaxAdRevenueListener revenueListener)
+    {
+        this.revenueListener = revenueListener;
+    }
+
+    public void setExtraParameter(final String key, final String value) { }
+
+    public void loadAd() { }
+
+    public void showAd(final String placement) { }
+
+    public boolean isReady()
+    {
+        return false;
+    }
+
+    public void destroy()
+    {
+        synchronized ( INSTANCES )
+        {
+            if ( INSTANCES.get( adUnitId ) == this )
+            {
+                INSTANCES.remove( adUnitId );
+            }
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.applovin.sdk;
+
+import java.util.Map;
+
+public interface AppLovinEventService
+{
+    void trackEvent(String event, Map<String, String> parameters);
+}
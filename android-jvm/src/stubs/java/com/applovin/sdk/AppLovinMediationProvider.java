@@ -0,0 +1,6 @@
+package com.applovin.sdk;
+
+public class AppLovinMediationProvider
+{
+    public static final String MAX = "max";
+}
@@ -0,0 +1,42 @@
+package com.applovin.sdk;
+
+import android.content.Context;
+
+/**
+ * Stub keeping the privacy settings in memory, shared by all contexts.
+ */
+public class AppLovinPrivacySettings
+{
+    private static volatile Boolean hasUserConsent;
+    private static volatile Boolean isDoNotSell;
+
+    public static void setHasUserConsent(final boolean hasUserConsent, final Context context)
+    {
+        AppLovinPrivacySettings.hasUserConsent = hasUserConsent;
+    }
+
+    public static boolean hasUserConsent(final Context context)
+    {
+        return Boolean.TRUE.equals( hasUserConsent );
+    }
+
+    public static boolean isUserConsentSet(final Context context)
+    {
+        return hasUserConsent != null;
+    }
+
+    public static void setDoNotSell(final boolean doNotSell, final Context context)
+    {
+        AppLovinPrivacySettings.isDoNotSell = doNotSell;
+    }
+
+    public static boolean isDoNotSell(final Context context)
+    {
+        return Boolean.TRUE.equals( isDoNotSell );
+    }
+
+    public static boolean isDoNotSellSet(final Context context)
+    {
+        return isDoNotSell != null;
+    }
+}
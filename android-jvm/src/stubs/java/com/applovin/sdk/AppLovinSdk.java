@@ -0,0 +1,58 @@
+package com.applovin.sdk;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+
+/**
+ * Stub of the SDK singleton. Initialization completes on the main thread right away, with a configuration for the US.
+ */
+public class AppLovinSdk
+{
+    public interface SdkInitializationListener
+    {
+        void onSdkInitialized(AppLovinSdkConfiguration configuration);
+    }
+
+    private static AppLovinSdk instance;
+
+    private final AppLovinSdkSettings  settings     = new AppLovinSdkSettings();
+    private final AppLovinEventService eventService = (event, parameters) -> { };
+
+    private volatile boolean isInitialized;
+
+    public static synchronized AppLovinSdk getInstance(final Context context)
+    {
+        if ( instance == null )
+        {
+            instance = new AppLovinSdk();
+        }
+
+        return instance;
+    }
+
+    public void initialize(final AppLovinSdkInitializationConfiguration initConfig, final SdkInitializationListener listener)
+    {
+        new Handler( Looper.getMainLooper() ).post( () -> {
+            isInitialized = true;
+            listener.onSdkInitialized( () -> "US" );
+        } );
+    }
+
+    public boolean isInitialized()
+    {
+        return isInitialized;
+    }
+
+    public AppLovinSdkSettings getSettings()
+    {
+        return settings;
+    }
+
+    public AppLovinEventService getEventService()
+    {
+        return eventService;
+    }
+
+    public void showMediationDebugger() { }
+}
@@ -0,0 +1,6 @@
+package com.applovin.sdk;
+
+public interface AppLovinSdkConfiguration
+{
+    String getCountryCode();
+}
@@ -0,0 +1,100 @@
+package com.applovin.sdk;
+
+import android.content.Context;
+
+import com.applovin.mediation.MaxSegmentCollection;
+
+import java.util.Collections;
+import java.util.List;
+
+public class AppLovinSdkInitializationConfiguration
+{
+    private final String               sdkKey;
+    private final String               pluginVersion;
+    private final String               mediationProvider;
+    private final MaxSegmentCollection segmentCollection;
+    private final List<String>         testDeviceAdvertisingIds;
+
+    private AppLovinSdkInitializationConfiguration(final Builder builder)
+    {
+        sdkKey = builder.sdkKey;
+        pluginVersion = builder.pluginVersion;
+        mediationProvider = builder.mediationProvider;
+        segmentCollection = builder.segmentCollection;
+        testDeviceAdvertisingIds = builder.testDeviceAdvertisingIds;
+    }
+
+    public static Builder builder(final String sdkKey, final Context context)
+    {
+        return new Builder( sdkKey );
+    }
+
+    public String getSdkKey()
+    {
+        return sdkKey;
+    }
+
+    public String getPluginVersion()
+    {
+        return pluginVersion;
+    }
+
+    public String getMediationProvider()
+    {
+        return mediationProvider;
+    }
+
+    public MaxSegmentCollection getSegmentCollection()
+    {
+        return segmentCollection;
+    }
+
+    public List<String> getTestDeviceAdvertisingIds()
+    {
+        return testDeviceAdvertisingIds;
+    }
+
+    public static class Builder
+    {
+        private final String sdkKey;
+
+        private String               pluginVersion;
+        private String               mediationProvider;
+        private MaxSegmentCollection segmentCollection;
+        private List<String>         testDeviceAdvertisingIds = Collections.emptyList();
+
+        private Builder(final String sdkKey)
+        {
+            this.sdkKey = sdkKey;
+        }
+
+        public Builder setPluginVersion(final String pluginVersion)
+        {
+            this.pluginVersion = pluginVersion;
+            return this;
+        }
+
+        public Builder setMediationProvider(final String mediationProvider)
+        {
+            this.mediationProvider = mediationProvider;
+            return this;
+        }
+
+        public Builder setSegmentCollection(final MaxSegmentCollection segmentCollection)
+        {
+            this.segmentCollection = segmentCollection;
+            return this;
+        }
+
+        public Builder setTestDeviceAdvertisingIds(final List<String> testDeviceAdvertisingIds)
+        {
+            this.testDeviceAdvertisingIds = testDeviceAdvertisingIds;
+            return this;
+        }
+
+        public AppLovinSdkInitializationConfiguration build()
+        {
+            return new AppLovinSdkInitializationConfiguration( this );
+        }
+    }
+}
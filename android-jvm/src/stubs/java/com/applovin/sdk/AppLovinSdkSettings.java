@@ -0,0 +1,38 @@
+package com.applovin.sdk;
+
+public class AppLovinSdkSettings
+{
+    private volatile String  userIdentifier;
+    private volatile boolean isMuted;
+    private volatile boolean isVerboseLoggingEnabled;
+
+    public void setUserIdentifier(final String userIdentifier)
+    {
+        this.userIdentifier = userIdentifier;
+    }
+
+    public String getUserIdentifier()
+    {
+        return userIdentifier;
+    }
+
+    public void setMuted(final boolean isMuted)
+    {
+        this.isMuted = isMuted;
+    }
+
+    public boolean isMuted()
+    {
+        return isMuted;
+    }
+
+    public void setVerboseLogging(final boolean isVerboseLoggingEnabled)
+    {
+        this.isVerboseLoggingEnabled = isVerboseLoggingEnabled;
+    }
+
+    public boolean isVerboseLoggingEnabled()
+    {
+        return isVerboseLoggingEnabled;
+    }
+}
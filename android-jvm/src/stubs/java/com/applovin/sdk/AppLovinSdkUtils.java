@@ -0,0 +1,47 @@
+package com.applovin.sdk;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+public class AppLovinSdkUtils
+{
+    public static boolean isTablet(final Context context)
+    {
+        return false;
+    }
+
+    public static int dpToPx(final Context context, final int dp)
+    {
+        return Math.round( dp * context.getResources().getDisplayMetrics().density );
+    }
+
+    public static Map<String, String> toMap(final JSONObject jsonObject) throws JSONException
+    {
+        final Map<String, String> map = new HashMap<>();
+        for ( Iterator<String> keys = jsonObject.keys(); keys.hasNext(); )
+        {
+            final String key = keys.next();
+            map.put( key, jsonObject.getString( key ) );
+        }
+
+        return map;
+    }
+
+    public static void runOnUiThread(final Runnable runnable)
+    {
+        runOnUiThreadDelayed( runnable, 0 );
+    }
+
+    public static void runOnUiThreadDelayed(final Runnable runnable, final long delayMillis)
+    {
+        new Handler( Looper.getMainLooper() ).postDelayed( runnable, delayMillis );
+    }
+}
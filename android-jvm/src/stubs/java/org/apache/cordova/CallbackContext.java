@@ -0,0 +1,91 @@
+package org.apache.cordova;
+
+import android.util.Log;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * Same semantics as Cordova's: the first result without keep-callback finishes the callback, later results are dropped with a warning.
+ */
+public class CallbackContext
+{
+    private static final String LOG_TAG = "CordovaPlugin";
+
+    private final String         callbackId;
+    private final CordovaWebView webView;
+
+    protected boolean finished;
+
+    public CallbackContext(final String callbackId, final CordovaWebView webView)
+    {
+        this.callbackId = callbackId;
+        this.webView = webView;
+    }
+
+    public boolean isFinished()
+    {
+        return finished;
+    }
+
+    public String getCallbackId()
+    {
+        return callbackId;
+    }
+
+    public void sendPluginResult(final PluginResult pluginResult)
+    {
+        synchronized ( this )
+        {
+            if ( finished )
+            {
+                Log.w( LOG_TAG, "Attempted to send a second callback for ID: " + callbackId + "\nResult was: " + pluginResult.getMessage() );
+                return;
+            }
+
+            finished = !pluginResult.getKeepCallback();
+        }
+
+        webView.sendPluginResult( pluginResult, callbackId );
+    }
+
+    public void success(final JSONObject message)
+    {
+        sendPluginResult( new PluginResult( PluginResult.Status.OK, message ) );
+    }
+
+    public void success(final JSONArray message)
+    {
+        sendPluginResult( new PluginResult( PluginResult.Status.OK, message ) );
+    }
+
+    public void success(final String message)
+    {
+        sendPluginResult( new PluginResult( PluginResult.Status.OK, message ) );
+    }
+
+    public void success(final int message)
+    {
+        sendPluginResult( new PluginResult( PluginResult.Status.OK, message ) );
+    }
+
+    public void success()
+    {
+        sendPluginResult( new PluginResult( PluginResult.Status.OK ) );
+    }
+
+    public void error(final JSONObject message)
+    {
+        sendPluginResult( new PluginResult( PluginResult.Status.ERROR, message ) );
+    }
+
+    public void error(final String message)
+    {
+        sendPluginResult( new PluginResult( PluginResult.Status.ERROR, message ) );
+    }
+
+    public void error(final int message)
+    {
+        sendPluginResult( new PluginResult( PluginResult.Status.ERROR, message ) );
+    }
+}
@@ -0,0 +1,15 @@
+package org.apache.cordova;
+
+import android.app.Activity;
+import android.content.Context;
+
+import java.util.concurrent.ExecutorService;
+
+public interface CordovaInterface
+{
+    Activity getActivity();
+
+    Context getContext();
+
+    ExecutorService getThreadPool();
+}
@@ -0,0 +1,54 @@
+package org.apache.cordova;
+
+import android.content.res.Configuration;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+
+public class CordovaPlugin
+{
+    public    CordovaWebView     webView;
+    public    CordovaInterface   cordova;
+    protected CordovaPreferences preferences;
+
+    private String serviceName;
+
+    /**
+     * Called by Cordova's plugin manager right after construction.
+     */
+    public final void privateInitialize(final String serviceName, final CordovaInterface cordova, final CordovaWebView webView, final CordovaPreferences preferences)
+    {
+        this.serviceName = serviceName;
+        this.cordova = cordova;
+        this.webView = webView;
+        this.preferences = preferences;
+
+        initialize( cordova, webView );
+    }
+
+    public String getServiceName()
+    {
+        return serviceName;
+    }
+
+    public void initialize(final CordovaInterface cordova, final CordovaWebView webView) { }
+
+    public boolean execute(final String action, final JSONArray args, final CallbackContext callbackContext) throws JSONException
+    {
+        return false;
+    }
+
+    public void onPause(final boolean multitasking) { }
+
+    public void onResume(final boolean multitasking) { }
+
+    public void onStart() { }
+
+    public void onStop() { }
+
+    public void onDestroy() { }
+
+    public void onReset() { }
+
+    public void onConfigurationChanged(final Configuration newConfig) { }
+}
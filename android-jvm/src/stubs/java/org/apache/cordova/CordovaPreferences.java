@@ -0,0 +1,46 @@
+package org.apache.cordova;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The {@code <preference>} values of config.xml, with case-insensitive names.
+ */
+public class CordovaPreferences
+{
+    private final Map<String, String> preferences = new HashMap<>();
+
+    public void set(final String name, final String value)
+    {
+        preferences.put( name.toLowerCase( Locale.ENGLISH ), value );
+    }
+
+    public void set(final String name, final boolean value)
+    {
+        set( name, String.valueOf( value ) );
+    }
+
+    public void set(final String name, final int value)
+    {
+        set( name, String.valueOf( value ) );
+    }
+
+    public boolean getBoolean(final String name, final boolean defaultValue)
+    {
+        final String value = preferences.get( name.toLowerCase( Locale.ENGLISH ) );
+        return ( value != null ) ? Boolean.parseBoolean( value ) : defaultValue;
+    }
+
+    public int getInteger(final String name, final int defaultValue)
+    {
+        final String value = preferences.get( name.toLowerCase( Locale.ENGLISH ) );
+        return ( value != null ) ? Integer.decode( value ) : defaultValue;
+    }
+
+    public String getString(final String name, final String defaultValue)
+    {
+        final String value = preferences.get( name.toLowerCase( Locale.ENGLISH ) );
+        return ( value != null ) ? value : defaultValue;
+    }
+}
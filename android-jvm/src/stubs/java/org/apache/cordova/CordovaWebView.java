@@ -0,0 +1,12 @@
+package org.apache.cordova;
+
+import android.view.View;
+
+public interface CordovaWebView
+{
+    View getView();
+
+    void loadUrl(String url);
+
+    void sendPluginResult(PluginResult result, String callbackId);
+}
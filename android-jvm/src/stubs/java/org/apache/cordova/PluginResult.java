@@ -0,0 +1,132 @@
+package org.apache.cordova;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * Same encoding as Cordova's: {@link #getMessage()} is the message as a JSON value.
+ */
+public class PluginResult
+{
+    public enum Status
+    {
+        NO_RESULT,
+        OK,
+        CLASS_NOT_FOUND_EXCEPTION,
+        ILLEGAL_ACCESS_EXCEPTION,
+        INSTANTIATION_EXCEPTION,
+        MALFORMED_URL_EXCEPTION,
+        IO_EXCEPTION,
+        INVALID_ACTION,
+        JSON_EXCEPTION,
+        ERROR
+    }
+
+    public static final int MESSAGE_TYPE_STRING  = 1;
+    public static final int MESSAGE_TYPE_JSON    = 2;
+    public static final int MESSAGE_TYPE_NUMBER  = 3;
+    public static final int MESSAGE_TYPE_BOOLEAN = 4;
+    public static final int MESSAGE_TYPE_NULL    = 5;
+
+    public static final String[] StatusMessages = new String[] {
+            "No result",
+            "OK",
+            "Class not found",
+            "Illegal access",
+            "Instantiation error",
+            "Malformed url",
+            "IO error",
+            "Invalid action",
+            "JSON error",
+            "Error"
+    };
+
+    private final int status;
+    private final int messageType;
+
+    private boolean keepCallback;
+    private String  strMessage;
+    private String  encodedMessage;
+
+    public PluginResult(final Status status)
+    {
+        this( status, StatusMessages[status.ordinal()] );
+    }
+
+    public PluginResult(final Status status, final String message)
+    {
+        this.status = status.ordinal();
+        this.messageType = ( message == null ) ? MESSAGE_TYPE_NULL : MESSAGE_TYPE_STRING;
+        this.strMessage = message;
+    }
+
+    public PluginResult(final Status status, final JSONArray message)
+    {
+        this.status = status.ordinal();
+        this.messageType = MESSAGE_TYPE_JSON;
+        this.encodedMessage = message.toString();
+    }
+
+    public PluginResult(final Status status, final JSONObject message)
+    {
+        this.status = status.ordinal();
+        this.messageType = MESSAGE_TYPE_JSON;
+        this.encodedMessage = message.toString();
+    }
+
+    public PluginResult(final Status status, final int i)
+    {
+        this.status = status.ordinal();
+        this.messageType = MESSAGE_TYPE_NUMBER;
+        this.encodedMessage = "" + i;
+    }
+
+    public PluginResult(final Status status, final float f)
+    {
+        this.status = status.ordinal();
+        this.messageType = MESSAGE_TYPE_NUMBER;
+        this.encodedMessage = "" + f;
+    }
+
+    public PluginResult(final Status status, final boolean b)
+    {
+        this.status = status.ordinal();
+        this.messageType = MESSAGE_TYPE_BOOLEAN;
+        this.encodedMessage = Boolean.toString( b );
+    }
+
+    public void setKeepCallback(final boolean keepCallback)
+    {
+        this.keepCallback = keepCallback;
+    }
+
+    public boolean getKeepCallback()
+    {
+        return keepCallback;
+    }
+
+    public int getStatus()
+    {
+        return status;
+    }
+
+    public int getMessageType()
+    {
+        return messageType;
+    }
+
+    public String getMessage()
+    {
+        if ( encodedMessage == null )
+        {
+            encodedMessage = JSONObject.quote( strMessage );
+        }
+
+        return encodedMessage;
+    }
+
+    public String getStrMessage()
+    {
+        return strMessage;
+    }
+}
@@ -0,0 +1,81 @@
+package com.applovin.cordova;
+
+import org.apache.cordova.CallbackContext;
+import org.apache.cordova.PluginResult;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Drives the {@code batch} action, as sent by the JS auto-batching, before and after the SDK is initialized.
+ */
+public class BatchTest
+{
+    private static final long MAX_WAIT_MILLIS = 10000;
+    private static final long STEP_MILLIS     = 100;
+
+    private PluginHarness harness;
+
+    @Before
+    public void setUp() throws JSONException
+    {
+        harness = PluginHarness.withSimulatedAdBackend( 1 );
+        harness.simulatedAdBackend.configure( new JSONObject( "{fillRate: 1, latencyMedianMillis: 100, latencyP90Millis: 200}" ) );
+        harness.start();
+    }
+
+    @Test
+    public void defersCommandsBeforeInitialization() throws JSONException
+    {
+        final JSONArray commands = new JSONArray();
+        commands.put( command( "setHasUserConsent", true ) );
+        commands.put( command( "loadInterstitial", "interstitial-1" ) );
+
+        final CallbackContext batch = harness.call( "batch", commands );
+        final PluginResult result = harness.awaitResult( batch );
+        assertEquals( PluginResult.Status.OK.ordinal(), result.getStatus() );
+
+        final JSONArray results = new JSONArray( result.getMessage() );
+        assertEquals( "ok", results.getJSONObject( 0 ).getString( "status" ) );
+        assertEquals( "deferred", results.getJSONObject( 1 ).getString( "status" ) );
+
+        // The deferred load is replayed once the SDK is initialized
+        harness.initializeSdk();
+
+        for ( long elapsedMillis = 0; elapsedMillis < MAX_WAIT_MILLIS; elapsedMillis += STEP_MILLIS )
+        {
+            if ( harness.simulatedAdBackend.toJson().getInt( "filledLoadCount" ) > 0 ) break;
+
+            harness.awaitWorkersIdle();
+            harness.clock.advanceBy( STEP_MILLIS );
+        }
+
+        assertEquals( 1, harness.simulatedAdBackend.toJson().getInt( "filledLoadCount" ) );
+    }
+
+    @Test
+    public void reportsResultsAfterInitialization() throws JSONException
+    {
+        harness.initializeSdk();
+
+        final JSONArray commands = new JSONArray();
+        commands.put( command( "setMuted", true ) );
+        commands.put( command( "noSuchAction" ) );
+
+        final JSONArray results = new JSONArray( harness.awaitResult( harness.call( "batch", commands ) ).getMessage() );
+        assertEquals( "ok", results.getJSONObject( 0 ).getString( "status" ) );
+        assertEquals( "error", results.getJSONObject( 1 ).getString( "status" ) );
+    }
+
+    private static JSONObject command(final String action, final Object... args) throws JSONException
+    {
+        final JSONObject command = new JSONObject();
+        command.put( "action", action );
+        command.put( "args", new JSONArray( args ) );
+        return command;
+    }
+}
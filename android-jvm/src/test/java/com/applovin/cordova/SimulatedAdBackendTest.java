@@ -0,0 +1,94 @@
+package com.applovin.cordova;
+
+import android.view.Gravity;
+import android.widget.FrameLayout;
+
+import com.applovin.mediation.MaxAdFormat;
+import com.applovin.mediation.ads.MaxAdView;
+
+import org.apache.cordova.CallbackContext;
+import org.apache.cordova.PluginResult;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+/**
+ * Drives the plugin against the {@link SimulatedAdBackend} on virtual time.
+ */
+public class SimulatedAdBackendTest
+{
+    private static final long MAX_WAIT_MILLIS = 10000;
+    private static final long STEP_MILLIS     = 100;
+
+    private PluginHarness harness;
+
+    @Before
+    public void setUp() throws JSONException
+    {
+        harness = PluginHarness.withSimulatedAdBackend( 1 );
+        harness.simulatedAdBackend.configure( new JSONObject( "{fillRate: 1, latencyMedianMillis: 100, latencyP90Millis: 200, displayDurationMillis: 50}" ) );
+        harness.start().initializeSdk();
+    }
+
+    @Test
+    public void loadsAndShowsInterstitial() throws JSONException
+    {
+        final CallbackContext load = harness.call( "loadInterstitial", "interstitial-1" );
+        assertEquals( PluginResult.Status.OK.ordinal(), harness.advanceUntilResult( load, MAX_WAIT_MILLIS ).getStatus() );
+
+        final CallbackContext show = harness.call( "showInterstitial", "interstitial-1", "placement" );
+        assertEquals( PluginResult.Status.OK.ordinal(), harness.advanceUntilResult( show, MAX_WAIT_MILLIS ).getStatus() );
+
+        final JSONObject simulation = harness.simulatedAdBackend.toJson();
+        assertEquals( 1, simulation.getInt( "filledLoadCount" ) );
+        assertEquals( 1, simulation.getInt( "showCount" ) );
+        assertEquals( 0, simulation.getInt( "failedShowCount" ) );
+    }
+
+    @Test
+    public void loadsPositionsAndDestroysBanner() throws JSONException
+    {
+        assertEquals( PluginResult.Status.OK.ordinal(), harness.awaitResult( harness.call( "createBanner", "banner-1", "bottom_center" ) ).getStatus() );
+        advanceUntilFilledLoadCount( 1 );
+
+        JSONObject diagnostics = harness.getDiagnostics();
+        assertEquals( 1, diagnostics.getInt( "adViewCount" ) );
+        assertEquals( 1, diagnostics.getInt( "adViewOverlayChildCount" ) );
+        assertEquals( 1, harness.simulatedAdBackend.toJson().getInt( "liveAdViewCount" ) );
+
+        final MaxAdView adView = harness.plugin.retrieveAdView( "banner-1", MaxAdFormat.BANNER, null );
+        assertEquals( Gravity.BOTTOM | Gravity.CENTER_HORIZONTAL, ( (FrameLayout.LayoutParams) adView.getLayoutParams() ).gravity );
+
+        assertEquals( PluginResult.Status.OK.ordinal(), harness.awaitResult( harness.call( "setBannerPlacement", "banner-1", "home" ) ).getStatus() );
+        assertEquals( "home", adView.getPlacement() );
+
+        assertEquals( PluginResult.Status.OK.ordinal(), harness.awaitResult( harness.call( "updateBannerPosition", "banner-1", "top_center" ) ).getStatus() );
+        assertEquals( Gravity.TOP | Gravity.CENTER_HORIZONTAL, ( (FrameLayout.LayoutParams) adView.getLayoutParams() ).gravity );
+
+        assertEquals( PluginResult.Status.OK.ordinal(), harness.awaitResult( harness.call( "destroyBanner", "banner-1" ) ).getStatus() );
+        assertNull( adView.getParent() );
+
+        diagnostics = harness.getDiagnostics();
+        assertEquals( 0, diagnostics.getInt( "adViewCount" ) );
+        assertEquals( 0, diagnostics.getInt( "adViewOverlayChildCount" ) );
+        assertEquals( 0, harness.simulatedAdBackend.toJson().getInt( "liveAdViewCount" ) );
+    }
+
+    private void advanceUntilFilledLoadCount(final int filledLoadCount) throws JSONException
+    {
+        for ( long elapsedMillis = 0; elapsedMillis < MAX_WAIT_MILLIS; elapsedMillis += STEP_MILLIS )
+        {
+            if ( harness.simulatedAdBackend.toJson().getInt( "filledLoadCount" ) >= filledLoadCount ) return;
+
+            harness.awaitWorkersIdle();
+            harness.clock.advanceBy( STEP_MILLIS );
+        }
+
+        fail( "Fewer than " + filledLoadCount + " loads filled within " + MAX_WAIT_MILLIS + " ms" );
+    }
+}
@@ -0,0 +1,399 @@
+package com.applovin.cordova;
+
+import org.apache.cordova.CallbackContext;
+import org.apache.cordova.PluginResult;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Soak test for long sessions: drives the plugin with a seeded random sequence of load / show / preload calls over many fullscreen ad units
+ * and create / show / hide / destroy calls over banners and MRECs, on virtual time, and checks that native objects, views, registry maps,
+ * pending callbacks and buffers stay bounded and do not grow with the number of calls. Runs against the {@link SimulatedAdBackend}, and with
+ * ad views only against the SDK backend, whose stub ad views never load. Each run prints its event throughput and retained objects.
+ * <p>
+ * A failing sequence replays with the same {@link #SEED}.
+ */
+public class SoakTest
+{
+    private static final long   SEED                    = 1;
+    private static final int    CYCLES                  = 5000;
+    private static final int    CHECKPOINTS             = 20;
+    private static final int    AD_UNIT_COUNT           = 8;
+    private static final int    AD_VIEW_UNIT_COUNT      = 4;
+    private static final double AD_VIEW_CYCLE_SHARE     = 0.3;
+    private static final int    MAX_IN_FLIGHT           = 16;
+    private static final int    MAX_CYCLE_MILLIS        = 40;
+    private static final int    MAX_EVENT_BUFFER_LENGTH = 64 * 1024;
+    private static final long   DRAIN_MILLIS            = 20 * 1000L;
+    private static final long   CALLBACK_TIMEOUT_MILLIS = 10 * 1000L;
+    private static final long   REVENUE_SUMMARY_MILLIS  = 1000;
+
+    private static final String[] AD_VIEW_POSITIONS = { "top_center", "bottom_center", "centered" };
+
+    // Retained state which may grow until every ad unit was used, but not with the number of calls after that
+    private static final String[] PLATEAU_METRICS = { "fullscreenAds", "liveSimulatedAds", "adViews", "adViewOverlayChildren",
+                                                      "liveSimulatedAdViews", "adUnits", "preloaderAdUnits", "revenueBuckets",
+                                                      "loadCallbackAdUnits", "showCallbackAdUnits" };
+
+    // Also reported, but only checked against its bound: the event buffer keeps the capacity of the largest frame of events so far, so a
+    // burst late in the run raises it for good
+    private static final String[] RETAINED_METRICS = { "fullscreenAds", "liveSimulatedAds", "adViews", "adViewOverlayChildren",
+                                                       "liveSimulatedAdViews", "adUnits", "preloaderAdUnits", "revenueBuckets",
+                                                       "loadCallbackAdUnits", "showCallbackAdUnits", "eventBufferCapacity" };
+
+    private final Random                random           = new Random( SEED );
+    private final List<CallbackContext> inFlight         = new ArrayList<>( MAX_IN_FLIGHT );
+    private final List<JSONObject>      samples          = new ArrayList<>( CHECKPOINTS );
+    private final String[]              adUnitIds        = new String[AD_UNIT_COUNT];
+    private final boolean[]             isPreloadEnabled = new boolean[AD_UNIT_COUNT];
+    private final String[]              adViewUnitIds    = new String[AD_VIEW_UNIT_COUNT];
+    private final boolean[]             isAdViewCreated  = new boolean[AD_VIEW_UNIT_COUNT];
+
+    private PluginHarness harness;
+    private boolean       isFullscreenEnabled;
+    private int           callCount;
+    private int           failedCallCount;
+
+    @Test
+    public void staysBoundedOverLongSession() throws JSONException
+    {
+        harness = PluginHarness.withSimulatedAdBackend( SEED );
+
+        // Fast network, so that a cycle covers a full load / show / hide round trip
+        harness.simulatedAdBackend.configure( new JSONObject( "{fillRate: 0.8, latencyMedianMillis: 20, latencyP90Millis: 100, displayDurationMillis: 50, adViewRefreshMillis: 500}" ) );
+
+        runSoak( "simulated backend", true );
+    }
+
+    @Test
+    public void adViewsStayBoundedOnSdkBackend() throws JSONException
+    {
+        harness = new PluginHarness();
+
+        runSoak( "SDK backend, ad views only", false );
+    }
+
+    private void runSoak(final String name, final boolean isFullscreenEnabled) throws JSONException
+    {
+        this.isFullscreenEnabled = isFullscreenEnabled;
+
+        final long startNanos = System.nanoTime();
+        final long startMillis = harness.clock.nowMillis();
+
+        harness.start();
+        harness.call( "registerEventChannel" );
+        harness.initializeSdk();
+
+        // Callbacks which are never completed by the plugin show up as timeouts
+        harness.awaitResult( harness.call( "setCallbackTimeout", CALLBACK_TIMEOUT_MILLIS ) );
+
+        // Interstitials and rewarded ads alternate, as do banners and MRECs
+        for ( int i = 0; i < AD_UNIT_COUNT; i++ )
+        {
+            adUnitIds[i] = "soak-" + ( isRewarded( i ) ? "rewarded" : "interstitial" ) + "-" + i;
+        }
+        for ( int i = 0; i < AD_VIEW_UNIT_COUNT; i++ )
+        {
+            adViewUnitIds[i] = "soak-" + ( isMRec( i ) ? "mrec" : "banner" ) + "-" + i;
+        }
+
+        final int checkpointInterval = CYCLES / CHECKPOINTS;
+        for ( int cycle = 1; cycle <= CYCLES; cycle++ )
+        {
+            runCycle();
+
+            harness.awaitWorkersIdle();
+            harness.clock.advanceBy( random.nextInt( MAX_CYCLE_MILLIS ) );
+            collectResults();
+
+            if ( cycle % checkpointInterval == 0 )
+            {
+                checkpoint( cycle );
+            }
+        }
+
+        drain();
+
+        final JSONObject diagnostics = harness.getDiagnostics();
+        report( name, diagnostics, harness.clock.nowMillis() - startMillis, ( System.nanoTime() - startNanos ) / 1000000L );
+
+        checkDrained( diagnostics );
+        checkNoGrowth();
+    }
+
+    private void runCycle() throws JSONException
+    {
+        // Let calls complete before issuing more, as JS callers awaiting their promises would
+        if ( inFlight.size() >= MAX_IN_FLIGHT ) return;
+
+        if ( !isFullscreenEnabled || random.nextDouble() < AD_VIEW_CYCLE_SHARE )
+        {
+            runAdViewCycle();
+            return;
+        }
+
+        final int index = random.nextInt( AD_UNIT_COUNT );
+        final String adUnitId = adUnitIds[index];
+        final String name = isRewarded( index ) ? "RewardedAd" : "Interstitial";
+        final double roll = random.nextDouble();
+
+        if ( roll < 0.05 )
+        {
+            // Switches between per-impression revenue events and summaries, covering the revenue buckets
+            call( "setRevenueSummaryInterval", random.nextBoolean() ? REVENUE_SUMMARY_MILLIS : 0 );
+        }
+        else if ( roll < 0.15 )
+        {
+            isPreloadEnabled[index] = !isPreloadEnabled[index];
+            call( "set" + name + "PreloadEnabled", adUnitId, isPreloadEnabled[index] );
+        }
+        else if ( roll < 0.5 )
+        {
+            // Also shows ads that are not ready, to cover display failures
+            call( "show" + name, adUnitId, "soak" );
+        }
+        else
+        {
+            call( "load" + name, adUnitId );
+        }
+    }
+
+    private void runAdViewCycle() throws JSONException
+    {
+        final int index = random.nextInt( AD_VIEW_UNIT_COUNT );
+        final String adUnitId = adViewUnitIds[index];
+        final String name = isMRec( index ) ? "MRec" : "Banner";
+
+        if ( !isAdViewCreated[index] )
+        {
+            isAdViewCreated[index] = true;
+            call( "create" + name, adUnitId, AD_VIEW_POSITIONS[random.nextInt( AD_VIEW_POSITIONS.length )] );
+            return;
+        }
+
+        final double roll = random.nextDouble();
+        if ( roll < 0.5 )
+        {
+            call( "show" + name, adUnitId );
+        }
+        else if ( roll < 0.7 )
+        {
+            call( "hide" + name, adUnitId );
+        }
+        else
+        {
+            isAdViewCreated[index] = false;
+            call( "destroy" + name, adUnitId );
+        }
+    }
+
+    private void call(final String action, final Object... args) throws JSONException
+    {
+        inFlight.add( harness.call( action, args ) );
+        callCount++;
+    }
+
+    private void collectResults()
+    {
+        for ( Iterator<CallbackContext> iterator = inFlight.iterator(); iterator.hasNext(); )
+        {
+            final CallbackContext callbackContext = iterator.next();
+            if ( !callbackContext.isFinished() ) continue;
+
+            final PluginResult result = harness.webView.takeResult( callbackContext.getCallbackId() );
+            if ( result.getStatus() != PluginResult.Status.OK.ordinal() ) failedCallCount++;
+
+            iterator.remove();
+        }
+    }
+
+    private void checkpoint(final int cycle) throws JSONException
+    {
+        // Loads started by timers, e.g. preload retries, go through the settings worker first
+        harness.awaitWorkersIdle();
+
+        final JSONObject diagnostics = harness.getDiagnostics();
+        final JSONObject sample = createSample( diagnostics );
+        samples.add( sample );
+
+        final String label = "cycle " + cycle + ": ";
+
+        assertAtMost( label + "fullscreen ads", sample.getInt( "fullscreenAds" ), AD_UNIT_COUNT );
+        assertAtMost( label + "live simulated ads", sample.getInt( "liveSimulatedAds" ), AD_UNIT_COUNT );
+        assertAtMost( label + "ad views", sample.getInt( "adViews" ), AD_VIEW_UNIT_COUNT );
+        assertAtMost( label + "ad view overlay children", sample.getInt( "adViewOverlayChildren" ), AD_VIEW_UNIT_COUNT );
+        assertAtMost( label + "live simulated ad views", sample.getInt( "liveSimulatedAdViews" ), AD_VIEW_UNIT_COUNT );
+        assertAtMost( label + "ad units", sample.getInt( "adUnits" ), AD_UNIT_COUNT + AD_VIEW_UNIT_COUNT );
+        assertAtMost( label + "preloader ad units", sample.getInt( "preloaderAdUnits" ), AD_UNIT_COUNT );
+        assertAtMost( label + "revenue buckets", sample.getInt( "revenueBuckets" ), AD_UNIT_COUNT + AD_VIEW_UNIT_COUNT );
+        assertAtMost( label + "event buffer capacity", sample.getInt( "eventBufferCapacity" ), MAX_EVENT_BUFFER_LENGTH );
+        assertAtMost( label + "pending events", sample.getInt( "eventPendingLength" ), MAX_EVENT_BUFFER_LENGTH );
+        assertAtMost( label + "load callback ad units", sample.getInt( "loadCallbackAdUnits" ), AD_UNIT_COUNT );
+        assertAtMost( label + "show callback ad units", sample.getInt( "showCallbackAdUnits" ), AD_UNIT_COUNT );
+        assertAtMost( label + "pending callbacks", sample.getInt( "pendingCallbacks" ), inFlight.size() );
+        assertAtMost( label + "callbacks of one ad unit", sample.getInt( "maxAdUnitCallbacks" ), inFlight.size() );
+        assertAtMost( label + "pending loads", sample.getInt( "pendingLoads" ), AD_UNIT_COUNT + AD_VIEW_UNIT_COUNT );
+
+        assertEquals( label + "timed out callbacks", 0, diagnostics.getInt( "timedOutCallbackCount" ) );
+        assertEquals( label + "pending worker tasks", 0, diagnostics.getJSONObject( "workers" ).getInt( "pendingTaskCount" ) );
+        assertEquals( label + "rejected worker tasks", 0, diagnostics.getJSONObject( "workers" ).getInt( "rejectedTaskCount" ) );
+        assertEquals( label + "buffered commands", 0, diagnostics.getJSONObject( "pendingCommands" ).getInt( "pendingCount" ) );
+    }
+
+    private JSONObject createSample(final JSONObject diagnostics) throws JSONException
+    {
+        final JSONObject loadCallbacks = diagnostics.getJSONObject( "loadCallbacks" );
+        final JSONObject showCallbacks = diagnostics.getJSONObject( "showCallbacks" );
+        final JSONObject loadScheduler = diagnostics.getJSONObject( "loadScheduler" );
+        final JSONObject simulation = ( harness.simulatedAdBackend != null ) ? harness.simulatedAdBackend.toJson() : new JSONObject();
+
+        final JSONObject sample = new JSONObject();
+        sample.put( "fullscreenAds", diagnostics.getInt( "interstitialCount" ) + diagnostics.getInt( "rewardedAdCount" ) );
+        sample.put( "liveSimulatedAds", simulation.optInt( "liveAdCount" ) );
+        sample.put( "adViews", diagnostics.getInt( "adViewCount" ) );
+        sample.put( "adViewOverlayChildren", diagnostics.getInt( "adViewOverlayChildCount" ) );
+        sample.put( "liveSimulatedAdViews", simulation.optInt( "liveAdViewCount" ) );
+        sample.put( "adUnits", diagnostics.getInt( "adUnitCount" ) );
+        sample.put( "preloaderAdUnits", diagnostics.getJSONObject( "preloader" ).getInt( "adUnitCount" ) );
+        sample.put( "revenueBuckets", diagnostics.getJSONObject( "revenue" ).getInt( "bucketCount" ) );
+        sample.put( "eventBufferCapacity", diagnostics.getJSONObject( "eventChannel" ).getInt( "bufferCapacity" ) );
+        sample.put( "eventPendingLength", diagnostics.getJSONObject( "eventChannel" ).getInt( "pendingLength" ) );
+        sample.put( "loadCallbackAdUnits", loadCallbacks.getInt( "adUnitCount" ) );
+        sample.put( "showCallbackAdUnits", showCallbacks.getInt( "adUnitCount" ) );
+        sample.put( "pendingCallbacks", loadCallbacks.getInt( "pendingCount" ) + showCallbacks.getInt( "pendingCount" ) );
+        sample.put( "maxAdUnitCallbacks", Math.max( loadCallbacks.getInt( "maxAdUnitPendingCount" ), showCallbacks.getInt( "maxAdUnitPendingCount" ) ) );
+        sample.put( "pendingLoads", loadScheduler.getInt( "loadingCount" ) + loadScheduler.getInt( "queuedCount" ) + loadScheduler.getInt( "deferredCount" ) );
+        return sample;
+    }
+
+    private void drain() throws JSONException
+    {
+        for ( int i = 0; i < AD_UNIT_COUNT; i++ )
+        {
+            if ( !isPreloadEnabled[i] ) continue;
+
+            isPreloadEnabled[i] = false;
+            call( "set" + ( isRewarded( i ) ? "RewardedAd" : "Interstitial" ) + "PreloadEnabled", adUnitIds[i], false );
+        }
+
+        for ( int i = 0; i < AD_VIEW_UNIT_COUNT; i++ )
+        {
+            if ( !isAdViewCreated[i] ) continue;
+
+            isAdViewCreated[i] = false;
+            call( "destroy" + ( isMRec( i ) ? "MRec" : "Banner" ), adViewUnitIds[i] );
+        }
+
+        call( "setRevenueSummaryInterval", 0 );
+
+        // Let loads and shows in flight complete and the last event batches go out
+        for ( long elapsedMillis = 0; elapsedMillis < DRAIN_MILLIS; elapsedMillis += MAX_CYCLE_MILLIS )
+        {
+            harness.awaitWorkersIdle();
+            harness.clock.advanceBy( MAX_CYCLE_MILLIS );
+            harness.awaitWorkersIdle();
+        }
+
+        collectResults();
+    }
+
+    private void report(final String name, final JSONObject diagnostics, final long virtualMillis, final long wallMillis) throws JSONException
+    {
+        final long firedEventCount = diagnostics.getLong( "firedEventCount" );
+        final JSONObject drainedSample = createSample( diagnostics );
+
+        final StringBuilder report = new StringBuilder();
+        report.append( String.format( Locale.ENGLISH, "Soak test (%s): %d cycles, %d calls (%d failed), %.1f s of virtual time in %d ms%n",
+                                      name, CYCLES, callCount, failedCallCount, virtualMillis / 1000.0, wallMillis ) );
+        report.append( String.format( Locale.ENGLISH, "  events: %d fired, %.1f per virtual second, %.0f per wall-clock second%n",
+                                      firedEventCount, firedEventCount * 1000.0 / virtualMillis, firedEventCount * 1000.0 / Math.max( 1, wallMillis ) ) );
+        report.append( "  retained objects (max at checkpoints / after draining):\n" );
+
+        for ( String metric : RETAINED_METRICS )
+        {
+            int max = 0;
+            for ( JSONObject sample : samples )
+            {
+                max = Math.max( max, sample.getInt( metric ) );
+            }
+
+            report.append( String.format( Locale.ENGLISH, "    %-22s %6d / %d%n", metric, max, drainedSample.getInt( metric ) ) );
+        }
+
+        System.out.print( report );
+    }
+
+    // Once all calls completed, nothing may be left behind
+    private void checkDrained(final JSONObject diagnostics) throws JSONException
+    {
+        final JSONObject sample = createSample( diagnostics );
+
+        assertEquals( "calls in flight after draining", 0, inFlight.size() );
+        assertEquals( "pending callbacks after draining", 0, sample.getInt( "pendingCallbacks" ) );
+        assertEquals( "load callback ad units after draining", 0, sample.getInt( "loadCallbackAdUnits" ) );
+        assertEquals( "show callback ad units after draining", 0, sample.getInt( "showCallbackAdUnits" ) );
+        assertEquals( "callbacks of one ad unit after draining", 0, sample.getInt( "maxAdUnitCallbacks" ) );
+        assertEquals( "pending loads after draining", 0, sample.getInt( "pendingLoads" ) );
+        assertEquals( "preloader ad units after draining", 0, sample.getInt( "preloaderAdUnits" ) );
+        assertEquals( "revenue buckets after draining", 0, sample.getInt( "revenueBuckets" ) );
+        assertEquals( "pending events after draining", 0, sample.getInt( "eventPendingLength" ) );
+        assertEquals( "ad views after the final destroy", 0, sample.getInt( "adViews" ) );
+        assertEquals( "ad view overlay children after the final destroy", 0, sample.getInt( "adViewOverlayChildren" ) );
+        assertEquals( "live simulated ad views after the final destroy", 0, sample.getInt( "liveSimulatedAdViews" ) );
+        assertEquals( "timed out callbacks", 0, diagnostics.getInt( "timedOutCallbackCount" ) );
+
+        // Some loads do not fill and some shows are of ads that are not ready, but not all of them
+        assertTrue( "all calls failed", failedCallCount < callCount / 2 );
+    }
+
+    // A per-call leak makes the later samples exceed, on average, everything seen in the first half of the run. A bounded value does not,
+    // even if a single sample of it (e.g. callbacks in flight) peaks late.
+    private void checkNoGrowth() throws JSONException
+    {
+        final int half = samples.size() / 2;
+
+        for ( String metric : PLATEAU_METRICS )
+        {
+            int firstHalfMax = 0;
+            for ( int i = 0; i < half; i++ )
+            {
+                firstHalfMax = Math.max( firstHalfMax, samples.get( i ).getInt( metric ) );
+            }
+
+            long secondHalfSum = 0;
+            for ( int i = half; i < samples.size(); i++ )
+            {
+                secondHalfSum += samples.get( i ).getInt( metric );
+            }
+
+            final double secondHalfMean = (double) secondHalfSum / ( samples.size() - half );
+            assertTrue( metric + " grew to a mean of " + secondHalfMean + " in the second half, expected at most " + firstHalfMax,
+                        secondHalfMean <= firstHalfMax );
+        }
+    }
+
+    private static boolean isRewarded(final int index)
+    {
+        return index % 2 == 1;
+    }
+
+    private static boolean isMRec(final int index)
+    {
+        return index % 2 == 1;
+    }
+
+    private static void assertAtMost(final String label, final int value, final int bound)
+    {
+        assertTrue( label + " is " + value + ", expected at most " + bound, value <= bound );
+    }
+}
@@ -0,0 +1,99 @@
+package com.applovin.cordova;
+
+import android.os.Looper;
+
+import java.util.PriorityQueue;
+
+/**
+ * Virtual time for the main looper and the {@link SimulatedAdBackend}: nothing scheduled runs until the test moves time forward with
+ * {@link #advanceBy(long)}, on the thread that installed the clock through {@link Looper#prepareMainLooper(Looper.Scheduler)}.
+ */
+public final class ManualClock
+        implements Looper.Scheduler, SimulatedAdBackend.Clock
+{
+    private static final class Task
+            implements Comparable<Task>
+    {
+        final long     dueTimeMillis;
+        final long     sequence;
+        final Runnable runnable;
+
+        Task(final long dueTimeMillis, final long sequence, final Runnable runnable)
+        {
+            this.dueTimeMillis = dueTimeMillis;
+            this.sequence = sequence;
+            this.runnable = runnable;
+        }
+
+        @Override
+        public int compareTo(final Task other)
+        {
+            if ( dueTimeMillis != other.dueTimeMillis ) return Long.compare( dueTimeMillis, other.dueTimeMillis );
+
+            return Long.compare( sequence, other.sequence );
+        }
+    }
+
+    private final PriorityQueue<Task> tasks = new PriorityQueue<>( 16 );
+
+    // Starts past zero, as the plugin treats a zero timestamp as unset
+    private long nowMillis = 1000;
+    private long nextSequence;
+
+    @Override
+    public synchronized long nowMillis()
+    {
+        return nowMillis;
+    }
+
+    @Override
+    public synchronized void schedule(final Runnable task, final long delayMillis)
+    {
+        tasks.add( new Task( nowMillis + Math.max( 0, delayMillis ), nextSequence++, task ) );
+    }
+
+    /**
+     * Move time forward, running all tasks that become due (including ones they schedule) in time order.
+     */
+    public void advanceBy(final long millis)
+    {
+        final long targetTimeMillis;
+        synchronized ( this )
+        {
+            targetTimeMillis = nowMillis + millis;
+        }
+
+        while ( true )
+        {
+            final Task task;
+
+            synchronized ( this )
+            {
+                final Task nextTask = tasks.peek();
+                if ( nextTask == null || nextTask.dueTimeMillis > targetTimeMillis )
+                {
+                    nowMillis = targetTimeMillis;
+                    return;
+                }
+
+                task = tasks.poll();
+                nowMillis = task.dueTimeMillis;
+            }
+
+            task.runnable.run();
+        }
+    }
+
+    /**
+     * Run the tasks which are due now, without moving time forward.
+     */
+    public void runDueTasks()
+    {
+        advanceBy( 0 );
+    }
+
+    public synchronized int getPendingTaskCount()
+    {
+        return tasks.size();
+    }
+}
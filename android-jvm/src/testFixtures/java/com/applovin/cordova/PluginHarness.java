@@ -0,0 +1,178 @@
+package com.applovin.cordova;
+
+import android.app.Activity;
+import android.content.Context;
+import android.os.Looper;
+
+import org.apache.cordova.CallbackContext;
+import org.apache.cordova.CordovaInterface;
+import org.apache.cordova.CordovaPreferences;
+import org.apache.cordova.PluginResult;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.concurrent.ExecutorService;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Runs the plugin on the stub runtime: the calling thread becomes the main thread, with time driven by a {@link ManualClock}, while the
+ * plugin's worker threads are real. The plugin talks to the SDK stubs, or to a {@link SimulatedAdBackend} on the same clock.
+ */
+public final class PluginHarness
+{
+    private static final long AWAIT_TIMEOUT_MILLIS      = 5000;
+    private static final long INITIALIZE_TIMEOUT_MILLIS = 10000;
+    private static final long FRAME_MILLIS              = 16;
+
+    public final ManualClock        clock       = new ManualClock();
+    public final CordovaPreferences preferences = new CordovaPreferences();
+    public final Activity           activity;
+    public final RecordingWebView   webView;
+    public final AppLovinMAX        plugin;
+
+    @Nullable
+    final SimulatedAdBackend simulatedAdBackend;
+
+    private int nextCallbackId;
+
+    public PluginHarness()
+    {
+        this( null );
+    }
+
+    private PluginHarness(@Nullable final Long simulationSeed)
+    {
+        Looper.prepareMainLooper( clock );
+
+        activity = new Activity();
+        webView = new RecordingWebView( activity );
+        simulatedAdBackend = ( simulationSeed != null ) ? new SimulatedAdBackend( simulationSeed, clock ) : null;
+        plugin = new AppLovinMAX( simulatedAdBackend );
+    }
+
+    /**
+     * @return A harness whose plugin loads and shows ads from a {@link SimulatedAdBackend} seeded with {@code seed}.
+     */
+    static PluginHarness withSimulatedAdBackend(final long seed)
+    {
+        return new PluginHarness( seed );
+    }
+
+    /**
+     * Hand the plugin to Cordova, once the {@link #preferences} are set.
+     */
+    public PluginHarness start()
+    {
+        final CordovaInterface cordova = new CordovaInterface()
+        {
+            @Override
+            public Activity getActivity()
+            {
+                return activity;
+            }
+
+            @Override
+            public Context getContext()
+            {
+                return activity;
+            }
+
+            @Override
+            public ExecutorService getThreadPool()
+            {
+                throw new UnsupportedOperationException();
+            }
+        };
+
+        plugin.privateInitialize( "AppLovinMAX", cordova, webView, preferences );
+        return this;
+    }
+
+    /**
+     * Initialize the SDK and wait for the result, so that actions are no longer buffered.
+     */
+    public PluginHarness initializeSdk() throws JSONException
+    {
+        final CallbackContext callbackContext = call( "initialize", "1.0.0", "test-sdk-key" );
+        final PluginResult result = advanceUntilResult( callbackContext, INITIALIZE_TIMEOUT_MILLIS );
+        if ( result.getStatus() != PluginResult.Status.OK.ordinal() ) throw new IllegalStateException( "Failed to initialize: " + result.getMessage() );
+
+        return this;
+    }
+
+    /**
+     * Execute the action as Cordova would, from the calling (main) thread.
+     */
+    public CallbackContext call(final String action, final Object... args) throws JSONException
+    {
+        final CallbackContext callbackContext = new CallbackContext( "AppLovinMAX" + nextCallbackId++, webView );
+        if ( !plugin.execute( action, new JSONArray( args ), callbackContext ) ) throw new IllegalArgumentException( "Unknown action: " + action );
+
+        return callbackContext;
+    }
+
+    /**
+     * Run main thread tasks as they come in from the workers, without moving time forward, until the callback has a final result.
+     */
+    public PluginResult awaitResult(final CallbackContext callbackContext)
+    {
+        final long deadlineNanos = System.nanoTime() + AWAIT_TIMEOUT_MILLIS * 1000000L;
+
+        while ( true )
+        {
+            clock.runDueTasks();
+
+            if ( callbackContext.isFinished() ) return webView.takeResult( callbackContext.getCallbackId() );
+
+            if ( System.nanoTime() > deadlineNanos ) throw new IllegalStateException( "No result for " + callbackContext.getCallbackId() );
+
+            Thread.yield();
+        }
+    }
+
+    /**
+     * @return The plugin's {@code getDiagnostics()}, which completes right away on the main thread.
+     */
+    public JSONObject getDiagnostics() throws JSONException
+    {
+        return new JSONObject( awaitResult( call( "getDiagnostics" ) ).getMessage() );
+    }
+
+    /**
+     * Move time forward in frame-sized steps, waiting for the workers to catch up after each one, until the callback has a final result,
+     * e.g. from an ad the {@link SimulatedAdBackend} loads after a latency.
+     */
+    public PluginResult advanceUntilResult(final CallbackContext callbackContext, final long maxMillis) throws JSONException
+    {
+        for ( long elapsedMillis = 0; elapsedMillis <= maxMillis; elapsedMillis += FRAME_MILLIS )
+        {
+            awaitWorkersIdle();
+            clock.advanceBy( FRAME_MILLIS );
+
+            if ( callbackContext.isFinished() ) return webView.takeResult( callbackContext.getCallbackId() );
+        }
+
+        throw new IllegalStateException( "No result for " + callbackContext.getCallbackId() + " within " + maxMillis + " ms" );
+    }
+
+    /**
+     * Run main thread tasks as they come in from the workers, without moving time forward, until no worker task is pending.
+     */
+    public void awaitWorkersIdle() throws JSONException
+    {
+        final long deadlineNanos = System.nanoTime() + AWAIT_TIMEOUT_MILLIS * 1000000L;
+
+        while ( true )
+        {
+            clock.runDueTasks();
+
+            if ( getDiagnostics().getJSONObject( "workers" ).getInt( "pendingTaskCount" ) == 0 ) return;
+
+            if ( System.nanoTime() > deadlineNanos ) throw new IllegalStateException( "Workers did not go idle" );
+
+            Thread.yield();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.applovin.cordova;
+
+import android.content.Context;
+import android.view.View;
+
+import org.apache.cordova.CordovaWebView;
+import org.apache.cordova.PluginResult;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Web view keeping the last plugin result of each callback, and counting what was sent to JS. Thread-safe.
+ */
+public final class RecordingWebView
+        implements CordovaWebView
+{
+    private final View view;
+
+    private final Map<String, PluginResult> lastResults = new HashMap<>();
+
+    private long   resultCount;
+    private long   loadedUrlCount;
+    private String lastLoadedUrl;
+
+    public RecordingWebView(final Context context)
+    {
+        view = new View( context );
+    }
+
+    @Override
+    public View getView()
+    {
+        return view;
+    }
+
+    @Override
+    public synchronized void loadUrl(final String url)
+    {
+        loadedUrlCount++;
+        lastLoadedUrl = url;
+    }
+
+    @Override
+    public synchronized void sendPluginResult(final PluginResult result, final String callbackId)
+    {
+        resultCount++;
+        lastResults.put( callbackId, result );
+    }
+
+    /**
+     * @return The last result sent for the callback, which stops being recorded, or {@code null} if there is none.
+     */
+    public synchronized PluginResult takeResult(final String callbackId)
+    {
+        return lastResults.remove( callbackId );
+    }
+
+    public synchronized PluginResult getResult(final String callbackId)
+    {
+        return lastResults.get( callbackId );
+    }
+
+    public synchronized long getResultCount()
+    {
+        return resultCount;
+    }
+
+    public synchronized long getLoadedUrlCount()
+    {
+        return loadedUrlCount;
+    }
+
+    public synchronized String getLastLoadedUrl()
+    {
+        return lastLoadedUrl;
+    }
+}
@@ -0,0 +1,634 @@
+package com.applovin.cordova;
+
+import android.app.Activity;
+import android.content.Context;
+
+import com.applovin.mediation.MaxAd;
+import com.applovin.mediation.MaxAdFormat;
+import com.applovin.mediation.MaxAdListener;
+import com.applovin.mediation.MaxAdRevenueListener;
+import com.applovin.mediation.MaxAdViewAdListener;
+import com.applovin.mediation.MaxError;
+import com.applovin.mediation.MaxReward;
+import com.applovin.mediation.MaxRewardedAdListener;
+import com.applovin.mediation.ads.MaxAdView;
+import com.applovin.sdk.AppLovinSdk;
+import com.applovin.sdk.AppLovinSdkConfiguration;
+import com.applovin.sdk.AppLovinSdkInitializationConfiguration;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.Random;
+
+import androidx.annotation.Nullable;
+
+/**
+ * {@link AdBackend} which simulates the ad network, for load testing the plugin's own paths on the JVM without network traffic.
+ * <p>
+ * Loads fill with the configured probability after a log-normally distributed latency, otherwise they fail with one of the configured error
+ * codes. Loaded ads stop being ready once they expire. Shown ads are displayed, pay revenue, reward (if rewarded) and are hidden after the
+ * configured display duration. Ad views are stub {@link MaxAdView}s which pay revenue for each filled load and, while auto-refresh is on,
+ * load again after the configured refresh interval. All randomness is drawn from per ad unit generators derived from the seed, and all delays are scheduled on a
+ * {@link Clock}, so runs driven by a {@link ManualClock} are deterministic regardless of the threads calls are made on.
+ */
+final class SimulatedAdBackend
+        implements AdBackend
+{
+    private static final String NETWORK_NAME                = "Simulated";
+    private static final int    ERROR_CODE_NO_FILL          = 204;
+    private static final int    ERROR_CODE_AD_NOT_READY     = -24;
+    private static final double Z_90TH_PERCENTILE           = 1.2815515655446004;
+
+    /**
+     * Time source and scheduler of the simulation. Scheduled tasks must run on a single thread, in time order.
+     */
+    interface Clock
+    {
+        long nowMillis();
+
+        void schedule(Runnable task, long delayMillis);
+    }
+
+    /**
+     * Simulation parameters, see {@link #configure(JSONObject)}.
+     */
+    private static final class Config
+    {
+        long   seed;
+        double fillRate              = 0.9;
+        long   latencyMedianMillis   = 800;
+        long   latencyP90Millis      = 2500;
+        long   initLatencyMillis     = 300;
+        long   expiryMillis          = 60 * 60 * 1000L;
+        long   displayDurationMillis = 5000;
+        long   adViewRefreshMillis   = 30 * 1000L;
+        double revenue               = 0.01;
+        int[]  failureCodes          = { ERROR_CODE_NO_FILL };
+    }
+
+    private final Clock clock;
+
+    private volatile Config config = new Config();
+
+    // Stats, guarded by this
+    private long loadCount;
+    private long filledLoadCount;
+    private long showCount;
+    private long failedShowCount;
+    private long trackedEventCount;
+    private long createdAdCount;
+    private long destroyedAdCount;
+    private long createdAdViewCount;
+    private long destroyedAdViewCount;
+
+    SimulatedAdBackend(final long seed, final Clock clock)
+    {
+        this.clock = clock;
+        config.seed = seed;
+    }
+
+    /**
+     * Replace the simulation parameters with the ones given in {@code {seed, fillRate, latencyMedianMillis, latencyP90Millis,
+     * initLatencyMillis, expiryMillis, displayDurationMillis, adViewRefreshMillis, revenue, failureCodes}}, keeping the current value of
+     * absent ones. Only applies to ads created afterwards.
+     */
+    void configure(final JSONObject json) throws JSONException
+    {
+        final Config current = config;
+        final Config updated = new Config();
+
+        updated.seed = json.optLong( "seed", current.seed );
+        updated.fillRate = Math.min( 1, Math.max( 0, json.optDouble( "fillRate", current.fillRate ) ) );
+        updated.latencyMedianMillis = Math.max( 1, json.optLong( "latencyMedianMillis", current.latencyMedianMillis ) );
+        updated.latencyP90Millis = Math.max( updated.latencyMedianMillis, json.optLong( "latencyP90Millis", current.latencyP90Millis ) );
+        updated.initLatencyMillis = Math.max( 0, json.optLong( "initLatencyMillis", current.initLatencyMillis ) );
+        updated.expiryMillis = Math.max( 1, json.optLong( "expiryMillis", current.expiryMillis ) );
+        updated.displayDurationMillis = Math.max( 0, json.optLong( "displayDurationMillis", current.displayDurationMillis ) );
+        updated.adViewRefreshMillis = Math.max( 1, json.optLong( "adViewRefreshMillis", current.adViewRefreshMillis ) );
+        updated.revenue = json.optDouble( "revenue", current.revenue );
+        updated.failureCodes = current.failureCodes;
+
+        final JSONArray failureCodes = json.optJSONArray( "failureCodes" );
+        if ( failureCodes != null && failureCodes.length() > 0 )
+        {
+            updated.failureCodes = new int[failureCodes.length()];
+            for ( int i = 0; i < failureCodes.length(); i++ )
+            {
+                updated.failureCodes[i] = failureCodes.getInt( i );
+            }
+        }
+
+        config = updated;
+    }
+
+    /**
+     * @return {@code {seed, fillRate, latencyMedianMillis, latencyP90Millis, loadCount, filledLoadCount, showCount, failedShowCount,
+     * trackedEventCount, liveAdCount, liveAdViewCount}} where {@code liveAdCount} and {@code liveAdViewCount} are the numbers of fullscreen
+     * ads and ad views created and not destroyed yet
+     */
+    synchronized JSONObject toJson() throws JSONException
+    {
+        final Config config = this.config;
+
+        final JSONObject json = new JSONObject();
+        json.put( "seed", config.seed );
+        json.put( "fillRate", config.fillRate );
+        json.put( "latencyMedianMillis", config.latencyMedianMillis );
+        json.put( "latencyP90Millis", config.latencyP90Millis );
+        json.put( "loadCount", loadCount );
+        json.put( "filledLoadCount", filledLoadCount );
+        json.put( "showCount", showCount );
+        json.put( "failedShowCount", failedShowCount );
+        json.put( "trackedEventCount", trackedEventCount );
+        json.put( "liveAdCount", createdAdCount - destroyedAdCount );
+        json.put( "liveAdViewCount", createdAdViewCount - destroyedAdViewCount );
+        return json;
+    }
+
+    private synchronized void onAdCreated()
+    {
+        createdAdCount++;
+    }
+
+    private synchronized void onAdDestroyed()
+    {
+        destroyedAdCount++;
+    }
+
+    private synchronized void onAdViewCreated()
+    {
+        createdAdViewCount++;
+    }
+
+    private synchronized void onAdViewDestroyed()
+    {
+        destroyedAdViewCount++;
+    }
+
+    private synchronized void onLoaded(final boolean isFilled)
+    {
+        loadCount++;
+        if ( isFilled ) filledLoadCount++;
+    }
+
+    private synchronized void onShown(final boolean isReady)
+    {
+        showCount++;
+        if ( !isReady ) failedShowCount++;
+    }
+
+    @Override
+    public void initialize(final AppLovinSdkInitializationConfiguration initConfig, final AppLovinSdk.SdkInitializationListener listener)
+    {
+        final AppLovinSdkConfiguration configuration = proxy( AppLovinSdkConfiguration.class, (name) -> "getCountryCode".equals( name ) ? "US" : null );
+        clock.schedule( () -> listener.onSdkInitialized( configuration ), config.initLatencyMillis );
+    }
+
+    @Override
+    public FullscreenAd createInterstitial(final String adUnitId, final Activity activity, final MaxAdListener listener, final MaxAdRevenueListener revenueListener)
+    {
+        return new SimulatedFullscreenAd( adUnitId, MaxAdFormat.INTERSTITIAL, config, listener, null, revenueListener );
+    }
+
+    @Override
+    public FullscreenAd createRewardedAd(final String adUnitId, final Activity activity, final MaxRewardedAdListener listener, final MaxAdRevenueListener revenueListener)
+    {
+        return new SimulatedFullscreenAd( adUnitId, MaxAdFormat.REWARDED, config, listener, listener, revenueListener );
+    }
+
+    @Override
+    public MaxAdView createAdView(final String adUnitId, final MaxAdFormat adFormat, final Activity activity, final MaxAdViewAdListener listener, final MaxAdRevenueListener revenueListener)
+    {
+        final SimulatedAdView adView = new SimulatedAdView( adUnitId, adFormat, config, activity );
+        adView.setListener( listener );
+        adView.setRevenueListener( revenueListener );
+
+        return adView;
+    }
+
+    @Override
+    public synchronized void trackEvent(final String event, final Map<String, String> parameters)
+    {
+        trackedEventCount++;
+    }
+
+    @Override
+    public void showMediationDebugger() { }
+
+    /**
+     * A fullscreen ad whose state is guarded by its monitor. Callbacks are delivered on the clock's thread.
+     */
+    private final class SimulatedFullscreenAd
+            implements FullscreenAd
+    {
+        private final String      adUnitId;
+        private final MaxAdFormat adFormat;
+        private final Config      config;
+        private final Random      random;
+
+        @Nullable
+        private MaxAdListener         listener;
+        @Nullable
+        private MaxRewardedAdListener rewardedListener;
+        @Nullable
+        private MaxAdRevenueListener  revenueListener;
+
+        private boolean isLoading;
+        private long    loadedTimeMillis = -1;
+        private long    requestLatencyMillis;
+        private int     adSequence;
+
+        SimulatedFullscreenAd(final String adUnitId,
+                              final MaxAdFormat adFormat,
+                              final Config config,
+                              final MaxAdListener listener,
+                              @Nullable final MaxRewardedAdListener rewardedListener,
+                              final MaxAdRevenueListener revenueListener)
+        {
+            this.adUnitId = adUnitId;
+            this.adFormat = adFormat;
+            this.config = config;
+            this.listener = listener;
+            this.rewardedListener = rewardedListener;
+            this.revenueListener = revenueListener;
+
+            // Per ad unit, so that draws do not depend on how calls for different ad units interleave
+            random = new Random( config.seed * 31 + adUnitId.hashCode() );
+
+            onAdCreated();
+        }
+
+        @Override
+        public synchronized void loadAd()
+        {
+            if ( isLoading || listener == null ) return;
+
+            isLoading = true;
+
+            final long latencyMillis = sampleLatencyMillis( config, random );
+            final boolean isFilled = random.nextDouble() < config.fillRate;
+            final int errorCode = config.failureCodes[random.nextInt( config.failureCodes.length )];
+
+            clock.schedule( () -> {
+
+                final MaxAdListener listener;
+                final MaxAd ad;
+
+                synchronized ( this )
+                {
+                    isLoading = false;
+                    listener = this.listener;
+                    if ( listener == null ) return;
+
+                    requestLatencyMillis = latencyMillis;
+                    adSequence++;
+                    onLoaded( isFilled );
+
+                    if ( isFilled ) loadedTimeMillis = clock.nowMillis();
+
+                    ad = createAd( null );
+                }
+
+                if ( isFilled )
+                {
+                    listener.onAdLoaded( ad );
+                }
+                else
+                {
+                    listener.onAdLoadFailed( adUnitId, createError( errorCode, "Simulated load failure", latencyMillis ) );
+                }
+            }, latencyMillis );
+        }
+
+        @Override
+        public void showAd(final String placement)
+        {
+            final MaxAd ad;
+
+            synchronized ( this )
+            {
+                if ( listener == null ) return;
+
+                ad = createAd( placement );
+
+                final boolean isReady = isReady();
+                onShown( isReady );
+
+                if ( !isReady )
+                {
+                    clock.schedule( () -> {
+                        final MaxAdListener listener = getListener();
+                        if ( listener != null ) listener.onAdDisplayFailed( ad, createError( ERROR_CODE_AD_NOT_READY, "Ad not ready", 0 ) );
+                    }, 0 );
+                    return;
+                }
+
+                loadedTimeMillis = -1;
+            }
+
+            clock.schedule( () -> {
+
+                final MaxAdListener listener = getListener();
+                if ( listener != null ) listener.onAdDisplayed( ad );
+
+                final MaxAdRevenueListener revenueListener = getRevenueListener();
+                if ( revenueListener != null ) revenueListener.onAdRevenuePaid( ad );
+            }, 0 );
+
+            clock.schedule( () -> {
+
+                final MaxRewardedAdListener rewardedListener = getRewardedListener();
+                if ( rewardedListener != null ) rewardedListener.onUserRewarded( ad, createReward() );
+
+                final MaxAdListener listener = getListener();
+                if ( listener != null ) listener.onAdHidden( ad );
+            }, config.displayDurationMillis );
+        }
+
+        @Override
+        public synchronized boolean isReady()
+        {
+            return loadedTimeMillis >= 0 && clock.nowMillis() - loadedTimeMillis < config.expiryMillis;
+        }
+
+        @Override
+        public void setExtraParameter(final String key, final String value) { }
+
+        @Override
+        public synchronized void destroy()
+        {
+            if ( listener == null ) return;
+
+            onAdDestroyed();
+
+            listener = null;
+            rewardedListener = null;
+            revenueListener = null;
+            loadedTimeMillis = -1;
+        }
+
+        @Override
+        public void discard()
+        {
+            destroy();
+        }
+
+        @Nullable
+        private synchronized MaxAdListener getListener()
+        {
+            return listener;
+        }
+
+        @Nullable
+        private synchronized MaxRewardedAdListener getRewardedListener()
+        {
+            return rewardedListener;
+        }
+
+        @Nullable
+        private synchronized MaxAdRevenueListener getRevenueListener()
+        {
+            return revenueListener;
+        }
+
+        private MaxAd createAd(@Nullable final String placement)
+        {
+            return SimulatedAdBackend.createAd( adUnitId, adFormat, config, adSequence, placement, requestLatencyMillis );
+        }
+
+        private MaxReward createReward()
+        {
+            return proxy( MaxReward.class, (name) -> {
+                if ( "getLabel".equals( name ) ) return "coins";
+                if ( "getAmount".equals( name ) ) return 1;
+                return null;
+            } );
+        }
+    }
+
+    /**
+     * A stub ad view, only accessed on the main thread like the SDK's. Callbacks are delivered on the clock's thread.
+     */
+    private final class SimulatedAdView
+            extends MaxAdView
+    {
+        private final Config config;
+        private final Random random;
+
+        @Nullable
+        private MaxAdViewAdListener  listener;
+        @Nullable
+        private MaxAdRevenueListener revenueListener;
+
+        private boolean isLoading;
+        private boolean isAutoRefreshEnabled = true;
+        private boolean isDestroyed;
+        private int     adSequence;
+
+        SimulatedAdView(final String adUnitId, final MaxAdFormat adFormat, final Config config, final Context context)
+        {
+            super( adUnitId, adFormat, null, context );
+
+            this.config = config;
+
+            // Per ad unit, so that draws do not depend on how calls for different ad units interleave
+            random = new Random( config.seed * 31 + adUnitId.hashCode() );
+
+            onAdViewCreated();
+        }
+
+        @Override
+        public void setListener(final MaxAdViewAdListener listener)
+        {
+            super.setListener( listener );
+            this.listener = listener;
+        }
+
+        @Override
+        public void setRevenueListener(final MaxAdRevenueListener revenueListener)
+        {
+            super.setRevenueListener( revenueListener );
+            this.revenueListener = revenueListener;
+        }
+
+        @Override
+        public void loadAd()
+        {
+            if ( isLoading || isDestroyed ) return;
+
+            isLoading = true;
+
+            final long latencyMillis = sampleLatencyMillis( config, random );
+            final boolean isFilled = random.nextDouble() < config.fillRate;
+            final int errorCode = config.failureCodes[random.nextInt( config.failureCodes.length )];
+
+            clock.schedule( () -> {
+
+                isLoading = false;
+                if ( isDestroyed ) return;
+
+                adSequence++;
+                onLoaded( isFilled );
+
+                if ( isFilled )
+                {
+                    final MaxAd ad = createAd( getAdUnitId(), getAdFormat(), config, adSequence, getPlacement(), latencyMillis );
+                    if ( listener != null ) listener.onAdLoaded( ad );
+                    if ( revenueListener != null ) revenueListener.onAdRevenuePaid( ad );
+                }
+                else if ( listener != null )
+                {
+                    listener.onAdLoadFailed( getAdUnitId(), createError( errorCode, "Simulated load failure", latencyMillis ) );
+                }
+
+                // Like the SDK, refresh after failures too
+                clock.schedule( this::refresh, config.adViewRefreshMillis );
+            }, latencyMillis );
+        }
+
+        @Override
+        public void startAutoRefresh()
+        {
+            super.startAutoRefresh();
+            isAutoRefreshEnabled = true;
+        }
+
+        @Override
+        public void stopAutoRefresh()
+        {
+            super.stopAutoRefresh();
+            isAutoRefreshEnabled = false;
+        }
+
+        @Override
+        public void destroy()
+        {
+            if ( isDestroyed ) return;
+
+            super.destroy();
+            onAdViewDestroyed();
+
+            isDestroyed = true;
+            listener = null;
+            revenueListener = null;
+        }
+
+        private void refresh()
+        {
+            if ( isAutoRefreshEnabled )
+            {
+                loadAd();
+            }
+            else if ( !isDestroyed )
+            {
+                // Check again later, as the SDK resumes refreshing on its own schedule
+                clock.schedule( this::refresh, config.adViewRefreshMillis );
+            }
+        }
+    }
+
+    /**
+     * Log-normal with the configured median and 90th percentile.
+     */
+    private static long sampleLatencyMillis(final Config config, final Random random)
+    {
+        final double sigma = Math.log( (double) config.latencyP90Millis / config.latencyMedianMillis ) / Z_90TH_PERCENTILE;
+        return Math.round( config.latencyMedianMillis * Math.exp( sigma * random.nextGaussian() ) );
+    }
+
+    private static MaxAd createAd(final String adUnitId,
+                                  final MaxAdFormat adFormat,
+                                  final Config config,
+                                  final int adSequence,
+                                  @Nullable final String placement,
+                                  final long requestLatencyMillis)
+    {
+        final String creativeId = adUnitId + "-" + adSequence;
+
+        return proxy( MaxAd.class, (name) -> {
+            switch ( name )
+            {
+                case "getAdUnitId":
+                    return adUnitId;
+                case "getFormat":
+                    return adFormat;
+                case "getNetworkName":
+                    return NETWORK_NAME;
+                case "getNetworkPlacement":
+                    return NETWORK_NAME + "-" + adUnitId;
+                case "getCreativeId":
+                    return creativeId;
+                case "getPlacement":
+                    return placement;
+                case "getRevenue":
+                    return config.revenue;
+                case "getRevenuePrecision":
+                    return "exact";
+                case "getRequestLatencyMillis":
+                    return requestLatencyMillis;
+                default:
+                    return null;
+            }
+        } );
+    }
+
+    private static MaxError createError(final int code, final String message, final long requestLatencyMillis)
+    {
+        return proxy( MaxError.class, (name) -> {
+            switch ( name )
+            {
+                case "getCode":
+                    return code;
+                case "getMessage":
+                    return message;
+                case "getMediatedNetworkErrorMessage":
+                    return "";
+                case "getRequestLatencyMillis":
+                    return requestLatencyMillis;
+                default:
+                    return null;
+            }
+        } );
+    }
+
+    /**
+     * Answers a no-argument getter by name, {@code null} meaning the method's default value.
+     */
+    private interface Getters
+    {
+        @Nullable
+        Object get(String methodName);
+    }
+
+    /**
+     * Implement an SDK interface through its getters, so that the simulation does not depend on the exact method set of the SDK version.
+     * Methods the getters do not answer return {@code null}, {@code 0} or {@code false}.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(final Class<T> type, final Getters getters)
+    {
+        return (T) Proxy.newProxyInstance( type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+
+            final String name = method.getName();
+            if ( "equals".equals( name ) ) return proxy == args[0];
+            if ( "hashCode".equals( name ) ) return System.identityHashCode( proxy );
+            if ( "toString".equals( name ) ) return type.getSimpleName() + "@Simulated";
+
+            final Object value = getters.get( name );
+            if ( value != null ) return value;
+
+            final Class<?> returnType = method.getReturnType();
+            if ( returnType == boolean.class ) return false;
+            if ( returnType == int.class ) return 0;
+            if ( returnType == long.class ) return 0L;
+            if ( returnType == double.class ) return 0.0;
+            if ( returnType == float.class ) return 0f;
+
+            return null;
+        } );
+    }
+}
@@ -0,0 +1,87 @@
+package com.applovin.cordova;
+
+import com.applovin.mediation.MaxAd;
+import com.applovin.mediation.MaxAdFormat;
+import com.applovin.mediation.MaxAdWaterfallInfo;
+
+/**
+ * A loaded ad with fixed, typical values.
+ */
+public final class TestAd
+        implements MaxAd
+{
+    private final String      adUnitId;
+    private final MaxAdFormat format;
+
+    public TestAd(final String adUnitId, final MaxAdFormat format)
+    {
+        this.adUnitId = adUnitId;
+        this.format = format;
+    }
+
+    @Override
+    public MaxAdFormat getFormat()
+    {
+        return format;
+    }
+
+    @Override
+    public String getAdUnitId()
+    {
+        return adUnitId;
+    }
+
+    @Override
+    public String getNetworkName()
+    {
+        return "AppLovin";
+    }
+
+    @Override
+    public String getNetworkPlacement()
+    {
+        return "inter_regular";
+    }
+
+    @Override
+    public String getCreativeId()
+    {
+        return "e2a7c1b9-3f6d-4c1e-9a0b-5d8f7e6c4b21";
+    }
+
+    @Override
+    public String getPlacement()
+    {
+        return "level_end";
+    }
+
+    @Override
+    public double getRevenue()
+    {
+        return 0.0123456789;
+    }
+
+    @Override
+    public String getRevenuePrecision()
+    {
+        return "exact";
+    }
+
+    @Override
+    public MaxAdWaterfallInfo getWaterfall()
+    {
+        return null;
+    }
+
+    @Override
+    public long getRequestLatencyMillis()
+    {
+        return 250;
+    }
+
+    @Override
+    public String getDspName()
+    {
+        return null;
+    }
+}
@@ -0,0 +1,65 @@
+package com.applovin.cordova;
+
+import android.app.Activity;
+
+import com.applovin.mediation.MaxAdFormat;
+import com.applovin.mediation.MaxAdListener;
+import com.applovin.mediation.MaxAdRevenueListener;
+import com.applovin.mediation.MaxAdViewAdListener;
+import com.applovin.mediation.MaxRewardedAdListener;
+import com.applovin.mediation.ads.MaxAdView;
+import com.applovin.sdk.AppLovinSdk;
+import com.applovin.sdk.AppLovinSdkInitializationConfiguration;
+
+import java.util.Map;
+
+/**
+ * The ad network operations the plugin relies on for initialization, ads and event tracking, so that its own event, state and scheduling
+ * paths can be exercised by the JVM tests against a simulated network instead of the live one. {@link MaxAdBackend} forwards to the
+ * AppLovin SDK.
+ * <p>
+ * Implementations deliver ad and initialization callbacks on the main thread, as the SDK does, and must accept calls from any thread.
+ */
+interface AdBackend
+{
+    /**
+     * A loaded-on-demand interstitial or rewarded ad of a single ad unit.
+     */
+    interface FullscreenAd
+    {
+        void loadAd();
+
+        void showAd(String placement);
+
+        boolean isReady();
+
+        void setExtraParameter(String key, String value);
+
+        /**
+         * Detach the listeners and release the ad. No callbacks are delivered afterwards.
+         */
+        void destroy();
+
+        /**
+         * Release an ad that was created but not used, because another thread created the ad unit's ad first. Unlike {@link #destroy()},
+         * this must leave any ad of the same ad unit that is in use alone.
+         */
+        void discard();
+    }
+
+    void initialize(AppLovinSdkInitializationConfiguration initConfig, AppLovinSdk.SdkInitializationListener listener);
+
+    FullscreenAd createInterstitial(String adUnitId, Activity activity, MaxAdListener listener, MaxAdRevenueListener revenueListener);
+
+    FullscreenAd createRewardedAd(String adUnitId, Activity activity, MaxRewardedAdListener listener, MaxAdRevenueListener revenueListener);
+
+    /**
+     * Create a banner, leader or MREC ad view. The plugin adds it to the view hierarchy, and loads, places and destroys it through its
+     * {@link MaxAdView} methods, which the backend's view implements.
+     */
+    MaxAdView createAdView(String adUnitId, MaxAdFormat adFormat, Activity activity, MaxAdViewAdListener listener, MaxAdRevenueListener revenueListener);
+
+    void trackEvent(String event, Map<String, String> parameters);
+
+    void showMediationDebugger();
+}
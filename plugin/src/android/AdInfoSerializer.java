@@ -0,0 +1,224 @@
+package com.applovin.cordova;
+
+import android.text.TextUtils;
+
+import com.applovin.mediation.MaxAd;
+import com.applovin.mediation.MaxError;
+
+/**
+ * Writes ad callback payloads directly into a reusable, per-thread {@link StringBuilder} instead of building a {@link org.json.JSONObject}
+ * for every event.
+ * <p>
+ * The output is byte-identical to what {@code org.json.JSONObject#toString()} produced for the same keys and values: keys are written in
+ * insertion order, {@code null} values omit their key, strings are escaped like {@code org.json.JSONStringer} and numbers are formatted
+ * like {@code JSONObject.numberToString()}.
+ * <p>
+ * The returned builder is only valid until the next call on the same thread and must be consumed (appended or copied) right away.
+ */
+final class AdInfoSerializer
+{
+    private static final String KEY_AD_UNIT_ID        = "\"adUnitId\":";
+    private static final String KEY_CREATIVE_ID       = "\"creativeId\":";
+    private static final String KEY_NETWORK_NAME      = "\"networkName\":";
+    private static final String KEY_PLACEMENT         = "\"placement\":";
+    private static final String KEY_REVENUE           = "\"revenue\":";
+    private static final String KEY_ERROR_CODE        = "\"errorCode\":";
+    private static final String KEY_REWARD_LABEL      = "\"rewardLabel\":";
+    private static final String KEY_REWARD_AMOUNT     = "\"rewardAmount\":";
+    private static final String KEY_IS_READY          = "\"isReady\":";
+    private static final String KEY_EXPIRES_IN        = "\"expiresInMillis\":";
+    private static final String KEY_AD_FORMAT         = "\"adFormat\":";
+    private static final String KEY_NETWORK_PLACEMENT = "\"networkPlacement\":";
+    private static final String KEY_REVENUE_PRECISION = "\"revenuePrecision\":";
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private static final ThreadLocal<StringBuilder> BUILDERS = new ThreadLocal<StringBuilder>()
+    {
+        @Override
+        protected StringBuilder initialValue()
+        {
+            return new StringBuilder( 256 );
+        }
+    };
+
+    private AdInfoSerializer() { }
+
+    /**
+     * {@code {adUnitId, creativeId, networkName, placement, revenue}}
+     */
+    static StringBuilder adInfo(final MaxAd ad)
+    {
+        final StringBuilder builder = begin();
+        appendAdInfo( ad, builder );
+        return end( builder );
+    }
+
+    /**
+     * Ad info followed by {@code errorCode}, as sent for display failures.
+     */
+    static StringBuilder adInfo(final MaxAd ad, final MaxError error)
+    {
+        final StringBuilder builder = begin();
+        appendAdInfo( ad, builder );
+        appendString( KEY_ERROR_CODE, Integer.toString( error.getCode() ), builder );
+        return end( builder );
+    }
+
+    /**
+     * Ad info followed by {@code rewardLabel} and {@code rewardAmount}.
+     */
+    static StringBuilder adInfo(final MaxAd ad, final String rewardLabel, final int rewardAmount)
+    {
+        final StringBuilder builder = begin();
+        appendAdInfo( ad, builder );
+        appendString( KEY_REWARD_LABEL, rewardLabel, builder );
+        appendKey( KEY_REWARD_AMOUNT, builder ).append( rewardAmount );
+        return end( builder );
+    }
+
+    /**
+     * {@code {adUnitId, errorCode}}, as sent for load failures.
+     */
+    static StringBuilder loadFailure(final String adUnitId, final MaxError error)
+    {
+        final StringBuilder builder = begin();
+        appendString( KEY_AD_UNIT_ID, adUnitId, builder );
+        appendString( KEY_ERROR_CODE, Integer.toString( error.getCode() ), builder );
+        return end( builder );
+    }
+
+    /**
+     * {@code {adUnitId, isReady, expiresInMillis}}, as sent for readiness changes of fullscreen ads. {@code expiresInMillis} is only
+     * written for ready ads.
+     */
+    static StringBuilder readiness(final String adUnitId, final boolean isReady, final long expiresInMillis)
+    {
+        final StringBuilder builder = begin();
+        appendString( KEY_AD_UNIT_ID, adUnitId, builder );
+        appendKey( KEY_IS_READY, builder ).append( isReady );
+
+        if ( isReady )
+        {
+            appendKey( KEY_EXPIRES_IN, builder ).append( expiresInMillis );
+        }
+
+        return end( builder );
+    }
+
+    /**
+     * Ad info followed by {@code adFormat}, {@code networkPlacement} and {@code revenuePrecision}, as sent for paid impressions.
+     */
+    static StringBuilder revenue(final MaxAd ad)
+    {
+        final StringBuilder builder = begin();
+        appendAdInfo( ad, builder );
+        appendString( KEY_AD_FORMAT, ad.getFormat().getLabel(), builder );
+        appendString( KEY_NETWORK_PLACEMENT, ad.getNetworkPlacement(), builder );
+        appendString( KEY_REVENUE_PRECISION, ad.getRevenuePrecision(), builder );
+        return end( builder );
+    }
+
+    private static StringBuilder begin()
+    {
+        final StringBuilder builder = BUILDERS.get();
+        builder.setLength( 0 );
+        return builder.append( '{' );
+    }
+
+    private static StringBuilder end(final StringBuilder builder)
+    {
+        return builder.append( '}' );
+    }
+
+    private static void appendAdInfo(final MaxAd ad, final StringBuilder builder)
+    {
+        appendString( KEY_AD_UNIT_ID, ad.getAdUnitId(), builder );
+        appendString( KEY_CREATIVE_ID, !TextUtils.isEmpty( ad.getCreativeId() ) ? ad.getCreativeId() : "", builder );
+        appendString( KEY_NETWORK_NAME, ad.getNetworkName(), builder );
+        appendString( KEY_PLACEMENT, !TextUtils.isEmpty( ad.getPlacement() ) ? ad.getPlacement() : "", builder );
+        appendNumber( KEY_REVENUE, ad.getRevenue(), builder );
+    }
+
+    private static StringBuilder appendKey(final String keyFragment, final StringBuilder builder)
+    {
+        if ( builder.length() > 1 )
+        {
+            builder.append( ',' );
+        }
+
+        return builder.append( keyFragment );
+    }
+
+    private static void appendString(final String keyFragment, final String value, final StringBuilder builder)
+    {
+        // JSONObject.put() removes the key for null values
+        if ( value == null ) return;
+
+        appendKey( keyFragment, builder ).append( '"' );
+
+        for ( int i = 0; i < value.length(); i++ )
+        {
+            final char c = value.charAt( i );
+            switch ( c )
+            {
+                case '"':
+                case '\\':
+                case '/':
+                    builder.append( '\\' ).append( c );
+                    break;
+                case '\t':
+                    builder.append( "\\t" );
+                    break;
+                case '\b':
+                    builder.append( "\\b" );
+                    break;
+                case '\n':
+                    builder.append( "\\n" );
+                    break;
+                case '\r':
+                    builder.append( "\\r" );
+                    break;
+                case '\f':
+                    builder.append( "\\f" );
+                    break;
+                default:
+                    if ( c <= 0x1F )
+                    {
+                        builder.append( "\\u00" ).append( HEX_DIGITS[c >> 4] ).append( HEX_DIGITS[c & 0xF] );
+                    }
+                    else
+                    {
+                        builder.append( c );
+                    }
+                    break;
+            }
+        }
+
+        builder.append( '"' );
+    }
+
+    private static void appendNumber(final String keyFragment, final double value, final StringBuilder builder)
+    {
+        // JSONObject.put() rejects non-finite numbers, which previously left the key out
+        if ( Double.isNaN( value ) || Double.isInfinite( value ) ) return;
+
+        appendKey( keyFragment, builder );
+
+        if ( value == 0 && Double.doubleToRawLongBits( value ) != 0 )
+        {
+            builder.append( "-0" );
+            return;
+        }
+
+        final long longValue = (long) value;
+        if ( value == (double) longValue )
+        {
+            builder.append( longValue );
+        }
+        else
+        {
+            builder.append( value );
+        }
+    }
+}
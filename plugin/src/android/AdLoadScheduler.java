@@ -0,0 +1,304 @@
+package com.applovin.cordova;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.MessageQueue;
+
+import com.applovin.mediation.MaxAdFormat;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Orders ad loads by priority and limits how many run at once, so that loads requested together (e.g. right after initialization) do not
+ * all compete for the network and main thread while the first screen is rendering.
+ * <p>
+ * Rewarded ads default to {@link #PRIORITY_HIGH}, interstitials to {@link #PRIORITY_NORMAL} and banners and MRECs to {@link #PRIORITY_LOW}.
+ * Loads of the same priority run in the order they were scheduled. Low priority loads are optionally held back until the main thread is
+ * idle, or for at most {@value #MAX_IDLE_DEFERRAL_MILLIS} ms.
+ * <p>
+ * A load occupies its slot until {@link #onLoadFinished(String)} or {@link #cancel(String)} is called for its ad unit, or for at most
+ * {@value #LOAD_SLOT_TIMEOUT_MILLIS} ms in case the SDK never reports back. Must only be accessed on the main thread.
+ */
+final class AdLoadScheduler
+{
+    static final int PRIORITY_HIGH   = 0;
+    static final int PRIORITY_NORMAL = 1;
+    static final int PRIORITY_LOW    = 2;
+
+    private static final int  DEFAULT_MAX_CONCURRENT_LOADS = 3;
+    private static final long MAX_IDLE_DEFERRAL_MILLIS     = 3000;
+    private static final long LOAD_SLOT_TIMEOUT_MILLIS     = 60 * 1000L;
+
+    /**
+     * Called on the main thread.
+     */
+    interface Listener
+    {
+        /**
+         * The ad unit's load did not report back within {@value #LOAD_SLOT_TIMEOUT_MILLIS} ms and its slot was freed, so the next load of
+         * the ad unit must be issued rather than wait for this one.
+         */
+        void onLoadTimedOut(String adUnitId);
+    }
+
+    private static final class Request
+            implements Comparable<Request>
+    {
+        final String   adUnitId;
+        final int      priority;
+        final long     sequence;
+        final Runnable load;
+
+        Request(final String adUnitId, final int priority, final long sequence, final Runnable load)
+        {
+            this.adUnitId = adUnitId;
+            this.priority = priority;
+            this.sequence = sequence;
+            this.load = load;
+        }
+
+        @Override
+        public int compareTo(final Request other)
+        {
+            if ( priority != other.priority ) return Integer.compare( priority, other.priority );
+
+            return Long.compare( sequence, other.sequence );
+        }
+    }
+
+    private final Listener               listener;
+    private final Handler                handler                 = new Handler( Looper.getMainLooper() );
+    private final Map<String, Integer>   priorityOverrides       = new HashMap<>( 4 );
+    private final PriorityQueue<Request> queuedRequests          = new PriorityQueue<>( 8 );
+    private final List<Request>          deferredRequests        = new ArrayList<>( 4 );
+    // Running loads, with the runnable that frees their slot on timeout
+    private final Map<String, Runnable>  loadingAdUnitIds        = new HashMap<>( 8 );
+    private final Runnable               releaseDeferredRequests = this::releaseDeferredRequests;
+
+    private final MessageQueue.IdleHandler idleHandler = () -> {
+        releaseDeferredRequests();
+        return false;
+    };
+
+    private int     maxConcurrentLoads = DEFAULT_MAX_CONCURRENT_LOADS;
+    private boolean deferLowPriorityLoadsUntilIdle;
+    private boolean isWaitingForIdle;
+    private long    nextSequence;
+    private long    scheduledLoadCount;
+    private long    deferredLoadCount;
+    private long    timedOutLoadCount;
+
+    AdLoadScheduler(final Listener listener)
+    {
+        this.listener = listener;
+    }
+
+    void setMaxConcurrentLoads(final int maxConcurrentLoads)
+    {
+        this.maxConcurrentLoads = Math.max( 1, maxConcurrentLoads );
+        startQueuedLoads();
+    }
+
+    void setDeferLowPriorityLoadsUntilIdle(final boolean deferLowPriorityLoadsUntilIdle)
+    {
+        this.deferLowPriorityLoadsUntilIdle = deferLowPriorityLoadsUntilIdle;
+
+        if ( !deferLowPriorityLoadsUntilIdle )
+        {
+            releaseDeferredRequests();
+        }
+    }
+
+    /**
+     * Override the default, format-based priority of the given ad unit for loads scheduled from now on.
+     */
+    void setPriority(final String adUnitId, final int priority)
+    {
+        priorityOverrides.put( adUnitId, priority );
+    }
+
+    /**
+     * Run the load once a slot is free and all loads of higher priority have started. No-op if a load of the ad unit is already waiting.
+     */
+    void schedule(final String adUnitId, final MaxAdFormat adFormat, final Runnable load)
+    {
+        if ( isWaiting( adUnitId ) ) return;
+
+        final Request request = new Request( adUnitId, getPriority( adUnitId, adFormat ), nextSequence++, load );
+        scheduledLoadCount++;
+
+        if ( request.priority >= PRIORITY_LOW && deferLowPriorityLoadsUntilIdle )
+        {
+            deferredRequests.add( request );
+            deferredLoadCount++;
+            waitForIdle();
+            return;
+        }
+
+        queuedRequests.add( request );
+        startQueuedLoads();
+    }
+
+    /**
+     * Drop any waiting load of the ad unit and free the slot of a running one, e.g. because its ad was destroyed.
+     */
+    void cancel(final String adUnitId)
+    {
+        removeWaiting( queuedRequests, adUnitId );
+        removeWaiting( deferredRequests, adUnitId );
+
+        onLoadFinished( adUnitId );
+    }
+
+    /**
+     * Free the slot of the ad unit's running load. Ignored for loads the scheduler did not start, e.g. banner auto-refreshes.
+     */
+    void onLoadFinished(final String adUnitId)
+    {
+        final Runnable timeOut = loadingAdUnitIds.remove( adUnitId );
+        if ( timeOut == null ) return;
+
+        handler.removeCallbacks( timeOut );
+        startQueuedLoads();
+    }
+
+    /**
+     * Drop all waiting loads and forget running ones, e.g. because the plugin is being destroyed.
+     */
+    void clear()
+    {
+        queuedRequests.clear();
+        deferredRequests.clear();
+
+        for ( Runnable timeOut : loadingAdUnitIds.values() )
+        {
+            handler.removeCallbacks( timeOut );
+        }
+        loadingAdUnitIds.clear();
+
+        releaseDeferredRequests();
+    }
+
+    /**
+     * @return {@code {maxConcurrentLoads, deferLowPriorityLoadsUntilIdle, loadingCount, queuedCount, deferredCount, scheduledLoadCount,
+     * deferredLoadCount, timedOutLoadCount}}
+     */
+    JSONObject toJson() throws JSONException
+    {
+        final JSONObject json = new JSONObject();
+        json.put( "maxConcurrentLoads", maxConcurrentLoads );
+        json.put( "deferLowPriorityLoadsUntilIdle", deferLowPriorityLoadsUntilIdle );
+        json.put( "loadingCount", loadingAdUnitIds.size() );
+        json.put( "queuedCount", queuedRequests.size() );
+        json.put( "deferredCount", deferredRequests.size() );
+        json.put( "scheduledLoadCount", scheduledLoadCount );
+        json.put( "deferredLoadCount", deferredLoadCount );
+        json.put( "timedOutLoadCount", timedOutLoadCount );
+        return json;
+    }
+
+    private int getPriority(final String adUnitId, final MaxAdFormat adFormat)
+    {
+        final Integer priorityOverride = priorityOverrides.get( adUnitId );
+        if ( priorityOverride != null ) return priorityOverride;
+
+        if ( MaxAdFormat.REWARDED == adFormat )
+        {
+            return PRIORITY_HIGH;
+        }
+        else if ( MaxAdFormat.INTERSTITIAL == adFormat )
+        {
+            return PRIORITY_NORMAL;
+        }
+        else
+        {
+            return PRIORITY_LOW;
+        }
+    }
+
+    private boolean isWaiting(final String adUnitId)
+    {
+        for ( Request request : queuedRequests )
+        {
+            if ( request.adUnitId.equals( adUnitId ) ) return true;
+        }
+
+        for ( Request request : deferredRequests )
+        {
+            if ( request.adUnitId.equals( adUnitId ) ) return true;
+        }
+
+        return false;
+    }
+
+    private static void removeWaiting(final Iterable<Request> requests, final String adUnitId)
+    {
+        for ( Iterator<Request> iterator = requests.iterator(); iterator.hasNext(); )
+        {
+            if ( iterator.next().adUnitId.equals( adUnitId ) )
+            {
+                iterator.remove();
+            }
+        }
+    }
+
+    private void startQueuedLoads()
+    {
+        while ( loadingAdUnitIds.size() < maxConcurrentLoads && !queuedRequests.isEmpty() )
+        {
+            final Request request = queuedRequests.poll();
+            final Runnable timeOut = () -> onLoadTimedOut( request.adUnitId );
+
+            loadingAdUnitIds.put( request.adUnitId, timeOut );
+            handler.postDelayed( timeOut, LOAD_SLOT_TIMEOUT_MILLIS );
+
+            request.load.run();
+        }
+    }
+
+    private void onLoadTimedOut(final String adUnitId)
+    {
+        if ( loadingAdUnitIds.remove( adUnitId ) == null ) return;
+
+        timedOutLoadCount++;
+        listener.onLoadTimedOut( adUnitId );
+
+        startQueuedLoads();
+    }
+
+    private void waitForIdle()
+    {
+        if ( isWaitingForIdle ) return;
+
+        isWaitingForIdle = true;
+
+        Looper.myQueue().addIdleHandler( idleHandler );
+        handler.postDelayed( releaseDeferredRequests, MAX_IDLE_DEFERRAL_MILLIS );
+    }
+
+    private void releaseDeferredRequests()
+    {
+        if ( isWaitingForIdle )
+        {
+            isWaitingForIdle = false;
+
+            Looper.myQueue().removeIdleHandler( idleHandler );
+            handler.removeCallbacks( releaseDeferredRequests );
+        }
+
+        if ( deferredRequests.isEmpty() ) return;
+
+        queuedRequests.addAll( deferredRequests );
+        deferredRequests.clear();
+
+        startQueuedLoads();
+    }
+}
@@ -0,0 +1,233 @@
+package com.applovin.cordova;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import com.applovin.mediation.MaxAdFormat;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Keeps the fullscreen ads of opted-in ad units loaded, so that show calls find a ready ad without JS having to drive reloads.
+ * <p>
+ * An ad unit is reloaded as soon as its ad is hidden or fails to display. Failed loads are retried after an exponentially growing delay,
+ * capped at {@value #MAX_RETRY_DELAY_MILLIS} ms and randomized by up to half of it so that ad units failing together do not retry in
+ * lockstep. Preloads are issued like any other load, so the {@link AdLoadScheduler} alone limits how many run at once.
+ * <p>
+ * MAX keeps a single ad per interstitial / rewarded ad unit, so "ready" means one loaded ad per ad unit. Must only be accessed on the main
+ * thread, which is also where the SDK delivers ad callbacks.
+ */
+final class AdPreloader
+{
+    private static final long INITIAL_RETRY_DELAY_MILLIS = 2000;
+    private static final long MAX_RETRY_DELAY_MILLIS     = 64000;
+
+    /**
+     * Called on the main thread.
+     */
+    interface Listener
+    {
+        /**
+         * Start loading an ad for the given ad unit, or attach to a load that is already outstanding. Its outcome must be reported through
+         * {@link AdPreloader#onAdLoaded(String)} or {@link AdPreloader#onAdLoadFailed(String)}.
+         *
+         * @return {@code false} if no load was needed because the ad unit already has a ready ad.
+         */
+        boolean onPreloadAd(String adUnitId, MaxAdFormat adFormat);
+    }
+
+    private static final class Entry
+    {
+        final String      adUnitId;
+        final MaxAdFormat adFormat;
+
+        boolean isReady;
+        boolean isLoading;
+        int     failedLoadCount;
+
+        @Nullable
+        Runnable retryRunnable;
+
+        Entry(final String adUnitId, final MaxAdFormat adFormat)
+        {
+            this.adUnitId = adUnitId;
+            this.adFormat = adFormat;
+        }
+    }
+
+    private final Listener           listener;
+    private final Handler            handler = new Handler( Looper.getMainLooper() );
+    private final Random             random  = new Random();
+    private final Map<String, Entry> entries = new HashMap<>( 4 );
+
+    private long retryCount;
+
+    AdPreloader(final Listener listener)
+    {
+        this.listener = listener;
+    }
+
+    /**
+     * Start keeping an ad loaded for the given ad unit. No-op if it is already preloaded.
+     */
+    void enable(final String adUnitId, final MaxAdFormat adFormat)
+    {
+        if ( entries.containsKey( adUnitId ) ) return;
+
+        final Entry entry = new Entry( adUnitId, adFormat );
+        entries.put( adUnitId, entry );
+
+        requestLoad( entry );
+    }
+
+    /**
+     * Stop reloading the given ad unit. An already loaded ad is kept and can still be shown.
+     */
+    void disable(final String adUnitId)
+    {
+        final Entry entry = entries.remove( adUnitId );
+        if ( entry == null ) return;
+
+        // A load in flight cannot be cancelled, its callback finds no entry and is reported to JS as usual
+        cancelRetry( entry );
+    }
+
+    boolean isPreloading(final String adUnitId)
+    {
+        return entries.containsKey( adUnitId );
+    }
+
+    /**
+     * @return Whether the ad unit is preloaded, in which case JS should only hear about the readiness change.
+     */
+    boolean onAdLoaded(final String adUnitId)
+    {
+        final Entry entry = entries.get( adUnitId );
+        if ( entry == null ) return false;
+
+        entry.isLoading = false;
+        cancelRetry( entry );
+        entry.failedLoadCount = 0;
+
+        entry.isReady = true;
+
+        return true;
+    }
+
+    /**
+     * @return Whether the ad unit is preloaded, in which case the failure is retried instead of being reported to JS.
+     */
+    boolean onAdLoadFailed(final String adUnitId)
+    {
+        final Entry entry = entries.get( adUnitId );
+        if ( entry == null ) return false;
+
+        entry.isLoading = false;
+        scheduleRetry( entry );
+
+        return true;
+    }
+
+    void onAdDisplayed(final String adUnitId)
+    {
+        final Entry entry = entries.get( adUnitId );
+        if ( entry == null ) return;
+
+        entry.isReady = false;
+    }
+
+    /**
+     * The ad was hidden or failed to display, and thus consumed.
+     */
+    void onAdClosed(final String adUnitId)
+    {
+        final Entry entry = entries.get( adUnitId );
+        if ( entry == null ) return;
+
+        entry.isReady = false;
+        requestLoad( entry );
+    }
+
+    /**
+     * Stop preloading all ad units, e.g. because the plugin is being destroyed.
+     */
+    void clear()
+    {
+        for ( Entry entry : entries.values() )
+        {
+            cancelRetry( entry );
+        }
+
+        entries.clear();
+    }
+
+    /**
+     * @return {@code {adUnitCount, readyCount, loadingCount, retryCount}}
+     */
+    JSONObject toJson() throws JSONException
+    {
+        int readyCount = 0;
+        int loadingCount = 0;
+        for ( Entry entry : entries.values() )
+        {
+            if ( entry.isReady ) readyCount++;
+            if ( entry.isLoading ) loadingCount++;
+        }
+
+        final JSONObject json = new JSONObject();
+        json.put( "adUnitCount", entries.size() );
+        json.put( "readyCount", readyCount );
+        json.put( "loadingCount", loadingCount );
+        json.put( "retryCount", retryCount );
+        return json;
+    }
+
+    private void requestLoad(final Entry entry)
+    {
+        if ( entry.isReady || entry.isLoading || entry.retryRunnable != null ) return;
+
+        entry.isLoading = true;
+
+        // The ad may have been loaded already, e.g. by an explicit load from JS
+        if ( !listener.onPreloadAd( entry.adUnitId, entry.adFormat ) )
+        {
+            entry.isLoading = false;
+            entry.failedLoadCount = 0;
+
+            entry.isReady = true;
+        }
+    }
+
+    private void scheduleRetry(final Entry entry)
+    {
+        cancelRetry( entry );
+
+        // 2s, 4s, 8s, ... capped, then randomized into [delay / 2, delay]
+        final long delayMillis = Math.min( MAX_RETRY_DELAY_MILLIS, INITIAL_RETRY_DELAY_MILLIS << Math.min( entry.failedLoadCount, 16 ) );
+        final long jitteredDelayMillis = delayMillis / 2 + (long) ( random.nextDouble() * ( delayMillis / 2 ) );
+
+        entry.failedLoadCount++;
+        retryCount++;
+
+        entry.retryRunnable = () -> {
+            entry.retryRunnable = null;
+            requestLoad( entry );
+        };
+        handler.postDelayed( entry.retryRunnable, jitteredDelayMillis );
+    }
+
+    private void cancelRetry(final Entry entry)
+    {
+        if ( entry.retryRunnable == null ) return;
+
+        handler.removeCallbacks( entry.retryRunnable );
+        entry.retryRunnable = null;
+    }
+}
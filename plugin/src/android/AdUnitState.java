@@ -0,0 +1,100 @@
+package com.applovin.cordova;
+
+import com.applovin.mediation.MaxAdFormat;
+import com.applovin.mediation.ads.MaxAdView;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Everything the plugin tracks for a single ad unit, so that callbacks and bridge calls need one registry lookup instead of one per map.
+ * <p>
+ * Threading model: states live in a concurrent registry keyed by ad unit id and may be looked up from any thread (the Cordova WebCore
+ * thread, the main thread and SDK callbacks).
+ * <ul>
+ * <li>Fullscreen ad fields are written once, under the state's monitor, by whichever thread first stores the ad and are safe to read from
+ * any thread.</li>
+ * <li>The fullscreen {@link #loadState} and {@link #readyTimeMillis} are guarded by the state's monitor.</li>
+ * <li>Ad view fields are confined to the main thread.</li>
+ * </ul>
+ */
+final class AdUnitState
+{
+    /**
+     * Lifecycle of the ad unit's fullscreen ad, used to avoid issuing loads that are already outstanding or not needed.
+     */
+    enum LoadState
+    {
+        IDLE,
+        LOADING,
+        READY,
+        SHOWING
+    }
+
+    final String adUnitId;
+
+    // Fullscreen Ads
+    @Nullable
+    volatile AdBackend.FullscreenAd interstitial;
+    @Nullable
+    volatile AdBackend.FullscreenAd rewardedAd;
+    LoadState                       loadState = LoadState.IDLE;
+    /**
+     * {@code SystemClock.elapsedRealtime()} of when the fullscreen ad that can currently be shown was loaded, or 0 if there is none.
+     */
+    long                            readyTimeMillis;
+    /**
+     * Whether the state was dropped from the registry, so that fullscreen ads have to be stored in its replacement instead. Guarded by the
+     * state's monitor.
+     */
+    boolean                         isRemoved;
+
+    /**
+     * {@code SystemClock.elapsedRealtime()} of when the fullscreen ad was last retrieved for a load, show or other call, so the least
+     * recently used ads can be evicted first.
+     */
+    volatile long                   lastUsedTimeMillis;
+
+    // Latency tracking - SystemClock.elapsedRealtime() of the pending load / show request, or 0 if none
+    volatile long loadStartTimeMillis;
+    volatile long showStartTimeMillis;
+
+    // Ad Views (main thread only)
+    @Nullable
+    MaxAdView   adView;
+    /**
+     * The format the ad view is laid out with, which may differ from the ad's format if the publisher set "force_banner".
+     */
+    @Nullable
+    MaxAdFormat adViewFormat;
+    @Nullable
+    String      adViewPosition;
+    /**
+     * Whether the ad view is a rotated banner ("center_left" / "center_right") that needs to be laid out again when the window size changes.
+     */
+    boolean     isAdViewVertical;
+    /**
+     * Whether the ad view's layout reflects its current position, format and the window size, so loads (e.g. auto-refresh) can skip it.
+     */
+    boolean     isAdViewLayoutCurrent;
+    /**
+     * Whether the publisher asked to show the ad view before it was created.
+     */
+    boolean     showAdViewAfterCreate;
+    /**
+     * Whether the ad view was visible when the Activity was paused, so auto-refresh was stopped and needs to be restarted on resume.
+     */
+    boolean     isAdViewAutoRefreshPaused;
+
+    AdUnitState(final String adUnitId)
+    {
+        this.adUnitId = adUnitId;
+    }
+
+    /**
+     * @return Whether the state no longer holds any ad or pending request and can be dropped from the registry.
+     */
+    boolean isEmpty()
+    {
+        return interstitial == null && rewardedAd == null && adView == null && !showAdViewAfterCreate;
+    }
+}
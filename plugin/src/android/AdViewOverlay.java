@@ -0,0 +1,134 @@
+package com.applovin.cordova;
+
+import android.app.Activity;
+import android.graphics.Color;
+import android.view.View;
+import android.view.ViewGroup;
+import android.view.ViewParent;
+import android.widget.FrameLayout;
+
+import androidx.annotation.Nullable;
+
+/**
+ * A single full-screen container, shared by all banners and MRECs, that is added on top of the Activity's content.
+ * <p>
+ * The container is created lazily when the first ad view is attached and removed from the view hierarchy again once the last ad view is
+ * detached, so creating and destroying ad views does not grow the hierarchy. Ad views are positioned through their
+ * {@link FrameLayout.LayoutParams}. Must only be accessed on the main thread.
+ */
+class AdViewOverlay
+{
+    private final Runnable                    onSizeChangedListener;
+    private final View.OnLayoutChangeListener layoutChangeListener;
+
+    @Nullable
+    private FrameLayout container;
+
+    /**
+     * @param onSizeChangedListener Run on the main thread, once per layout, after the overlay changed size (e.g. the device was rotated).
+     */
+    AdViewOverlay(final Runnable onSizeChangedListener)
+    {
+        this.onSizeChangedListener = onSizeChangedListener;
+        this.layoutChangeListener = (view, left, top, right, bottom, oldLeft, oldTop, oldRight, oldBottom) -> {
+
+            // Ignore the initial layout and layouts that did not change the size
+            if ( oldRight - oldLeft == 0 && oldBottom - oldTop == 0 ) return;
+            if ( right - left == oldRight - oldLeft && bottom - top == oldBottom - oldTop ) return;
+
+            // Updating layout params during a layout pass is deferred by Android anyway, so apply all changes in the next pass at once
+            view.post( this.onSizeChangedListener );
+        };
+    }
+
+    /**
+     * Attach the ad view to the overlay, creating and adding the overlay to the Activity if needed.
+     */
+    FrameLayout attach(final Activity activity, final View adView)
+    {
+        if ( container == null || container.getContext() != activity )
+        {
+            final FrameLayout previousContainer = container;
+            container = new FrameLayout( activity );
+
+            // Hack alert: For the rotation and translation of vertical banners to be applied correctly, need to set the background color (Unity only, similar to what we do in Cross Promo).
+            container.setBackgroundColor( Color.TRANSPARENT );
+            container.addOnLayoutChangeListener( layoutChangeListener );
+
+            activity.addContentView( container, new ViewGroup.LayoutParams( ViewGroup.LayoutParams.MATCH_PARENT,
+                                                                            ViewGroup.LayoutParams.MATCH_PARENT ) );
+
+            // The Activity changed, so move the ad views over rather than leave them in the previous Activity's hierarchy
+            if ( previousContainer != null )
+            {
+                moveAdViews( previousContainer, container );
+            }
+        }
+
+        container.addView( adView, new FrameLayout.LayoutParams( FrameLayout.LayoutParams.WRAP_CONTENT,
+                                                                 FrameLayout.LayoutParams.WRAP_CONTENT ) );
+
+        return container;
+    }
+
+    /**
+     * Detach the ad view from its parent. Removes the overlay itself from the view hierarchy once it has no ad views left.
+     */
+    void detach(final View adView)
+    {
+        final ViewParent parent = adView.getParent();
+        if ( parent instanceof ViewGroup )
+        {
+            ( (ViewGroup) parent ).removeView( adView );
+        }
+
+        if ( container != null && container.getChildCount() == 0 )
+        {
+            final ViewParent containerParent = container.getParent();
+            if ( containerParent instanceof ViewGroup )
+            {
+                ( (ViewGroup) containerParent ).removeView( container );
+            }
+
+            container.removeOnLayoutChangeListener( layoutChangeListener );
+
+            container = null;
+        }
+    }
+
+    /**
+     * Move all ad views with their positions to the new container, and remove the previous one from the view hierarchy.
+     */
+    private void moveAdViews(final FrameLayout previousContainer, final FrameLayout newContainer)
+    {
+        while ( previousContainer.getChildCount() > 0 )
+        {
+            final View adView = previousContainer.getChildAt( 0 );
+            final ViewGroup.LayoutParams layoutParams = adView.getLayoutParams();
+
+            previousContainer.removeView( adView );
+            newContainer.addView( adView, layoutParams );
+        }
+
+        final ViewParent previousContainerParent = previousContainer.getParent();
+        if ( previousContainerParent instanceof ViewGroup )
+        {
+            ( (ViewGroup) previousContainerParent ).removeView( previousContainer );
+        }
+
+        previousContainer.removeOnLayoutChangeListener( layoutChangeListener );
+    }
+
+    /**
+     * @return The number of ad views currently attached to the overlay, or {@code 0} if it does not exist.
+     */
+    int getChildCount()
+    {
+        return container != null ? container.getChildCount() : 0;
+    }
+
+    boolean isAttached()
+    {
+        return container != null;
+    }
+}
@@ -0,0 +1,123 @@
+package com.applovin.cordova;
+
+import android.view.Gravity;
+
+import com.applovin.mediation.MaxAdFormat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An ad view position string (e.g. "top_center", "center_left") compiled into the layout decisions it implies, so that positioning an ad
+ * view does not re-parse the string every time.
+ * <p>
+ * Specs are immutable and cached per position for MRECs and banners (banners and leaders share the same layout rules, only their size
+ * differs). The cache must only be accessed on the main thread.
+ */
+final class AdViewPositionSpec
+{
+    private static final Map<String, AdViewPositionSpec> MREC_SPECS   = new HashMap<>( 8 );
+    private static final Map<String, AdViewPositionSpec> BANNER_SPECS = new HashMap<>( 8 );
+
+    /**
+     * Gravity of the ad view within the overlay.
+     */
+    final int     gravity;
+    /**
+     * Whether the ad view is stretched to the width of the overlay instead of using the width of its format.
+     */
+    final boolean isWidthMatchParent;
+    /**
+     * Whether the ad view is a banner rotated by 270 degrees along the left or right edge ("center_left" / "center_right"). Rotated ad
+     * views depend on the window size and need to be laid out again when it changes.
+     */
+    final boolean isRotated;
+    /**
+     * Direction of the translation applied to rotated banners before rotating them: {@code -1} for left, {@code 1} for right.
+     */
+    final int     translationDirection;
+
+    private AdViewPositionSpec(final int gravity, final boolean isWidthMatchParent, final boolean isRotated, final int translationDirection)
+    {
+        this.gravity = gravity;
+        this.isWidthMatchParent = isWidthMatchParent;
+        this.isRotated = isRotated;
+        this.translationDirection = translationDirection;
+    }
+
+    static AdViewPositionSpec get(final String adViewPosition, final MaxAdFormat adFormat)
+    {
+        final boolean isMRec = MaxAdFormat.MREC == adFormat;
+        final Map<String, AdViewPositionSpec> specs = isMRec ? MREC_SPECS : BANNER_SPECS;
+
+        AdViewPositionSpec spec = specs.get( adViewPosition );
+        if ( spec == null )
+        {
+            spec = compile( adViewPosition, isMRec );
+            specs.put( adViewPosition, spec );
+        }
+
+        return spec;
+    }
+
+    private static AdViewPositionSpec compile(final String adViewPosition, final boolean isMRec)
+    {
+        if ( "centered".equalsIgnoreCase( adViewPosition ) )
+        {
+            return new AdViewPositionSpec( Gravity.CENTER_VERTICAL | Gravity.CENTER_HORIZONTAL, false, false, 0 );
+        }
+
+        int gravity = 0;
+
+        // Figure out vertical params
+        if ( adViewPosition.contains( "top" ) )
+        {
+            gravity = Gravity.TOP;
+        }
+        else if ( adViewPosition.contains( "bottom" ) )
+        {
+            gravity = Gravity.BOTTOM;
+        }
+
+        final boolean containsLeft = adViewPosition.contains( "left" );
+        final boolean containsRight = adViewPosition.contains( "right" );
+
+        // Figure out horizontal params
+        if ( adViewPosition.contains( "center" ) )
+        {
+            gravity |= Gravity.CENTER_HORIZONTAL;
+
+            // Stretch width if banner
+            final boolean isWidthMatchParent = !isMRec;
+
+            // Check if the publisher wants the ad view to be vertical ('CenterLeft' or 'CenterRight')
+            if ( !containsLeft && !containsRight )
+            {
+                return new AdViewPositionSpec( gravity, isWidthMatchParent, false, 0 );
+            }
+
+            // First, center the ad view in the view
+            gravity |= Gravity.CENTER_VERTICAL;
+
+            // MRECs are simply aligned to the side, banners are rotated to span the side of the screen
+            if ( isMRec )
+            {
+                gravity |= containsLeft ? Gravity.LEFT : Gravity.RIGHT;
+                return new AdViewPositionSpec( gravity, isWidthMatchParent, false, 0 );
+            }
+
+            return new AdViewPositionSpec( gravity, isWidthMatchParent, true, containsLeft ? -1 : 1 );
+        }
+
+        if ( containsLeft )
+        {
+            gravity |= Gravity.LEFT;
+        }
+        else if ( containsRight )
+        {
+            gravity |= Gravity.RIGHT;
+        }
+
+        return new AdViewPositionSpec( gravity, false, false, 0 );
+    }
+}
@@ -1,21 +1,25 @@
 package com.applovin.cordova;
 
 import android.app.Activity;
+import android.content.ComponentCallbacks2;
 import android.content.Context;
+import android.content.res.Configuration;
 import android.graphics.Color;
 import android.graphics.Rect;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
 import android.text.TextUtils;
 import android.util.Log;
-import android.view.Gravity;
+import android.view.Choreographer;
 import android.view.View;
 import android.view.ViewGroup;
-import android.view.ViewParent;
-import android.widget.LinearLayout;
-import android.widget.RelativeLayout;
+import android.widget.FrameLayout;
 
 import com.applovin.mediation.MaxAd;
 import com.applovin.mediation.MaxAdFormat;
 import com.applovin.mediation.MaxAdListener;
+import com.applovin.mediation.MaxAdRevenueListener;
 import com.applovin.mediation.MaxAdViewAdListener;
 import com.applovin.mediation.MaxError;
 import com.applovin.mediation.MaxReward;
@@ -23,10 +27,7 @@ import com.applovin.mediation.MaxRewardedAdListener;
 import com.applovin.mediation.MaxSegment;
 import com.applovin.mediation.MaxSegmentCollection;
 import com.applovin.mediation.ads.MaxAdView;
-import com.applovin.mediation.ads.MaxInterstitialAd;
-import com.applovin.mediation.ads.MaxRewardedAd;
 import com.applovin.sdk.AppLovinMediationProvider;
-import com.applovin.sdk.AppLovinPrivacySettings;
 import com.applovin.sdk.AppLovinSdk;
 import com.applovin.sdk.AppLovinSdkConfiguration;
 import com.applovin.sdk.AppLovinSdkInitializationConfiguration;
@@ -40,15 +41,23 @@ import org.apache.cordova.PluginResult;
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
+import org.json.JSONTokener;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import androidx.annotation.Nullable;
 
 import static org.apache.cordova.PluginResult.Status.ERROR;
+import static org.apache.cordova.PluginResult.Status.NO_RESULT;
 import static org.apache.cordova.PluginResult.Status.OK;
 
 /**
@@ -56,41 +65,310 @@ import static org.apache.cordova.PluginResult.Status.OK;
  */
 public class AppLovinMAX
         extends CordovaPlugin
-        implements MaxAdListener, MaxAdViewAdListener, MaxRewardedAdListener
+        implements MaxAdListener, MaxAdViewAdListener, MaxRewardedAdListener, MaxAdRevenueListener, AdPreloader.Listener,
+                   AdLoadScheduler.Listener
 {
     private static final String SDK_TAG = "AppLovinSdk";
     private static final String TAG     = "AppLovinMAX";
 
-    // Parent Fields
-    private AppLovinSdk              sdk;
-    private boolean                  isPluginInitialized;
-    private boolean                  isSdkInitialized;
-    private AppLovinSdkConfiguration sdkConfiguration;
+    private static final String FIRE_WINDOW_EVENT_PREFIX = "javascript:cordova.fireWindowEvent('";
+
+    // Worker keys of SDK-bound actions that are not tied to an ad unit
+    private static final String SETTINGS_WORKER_KEY       = "@settings";
+    private static final String EVENT_TRACKING_WORKER_KEY = "@eventTracking";
+
+    // config.xml preference to create the SDK instance after the first frame (or the first call needing it) instead of during startup
+    private static final String PREFERENCE_LAZY_SDK_INSTANCE = "AppLovinMaxLazySdkInstance";
+
+    private static final long DEFAULT_AD_EXPIRY_ESTIMATE_MILLIS = 60 * 60 * 1000L;
+    private static final long BATCH_RESULTS_TIMEOUT_MILLIS      = 10 * 1000L;
+    private static final int  DEFAULT_MAX_IDLE_FULLSCREEN_ADS   = 4;
+
+    // Declared first so that it covers the construction of all other fields
+    private final StartupTimings startupTimings = new StartupTimings();
+
+    // Parent Fields - access the SDK through getSdk(), as it may be created lazily
+    private volatile AppLovinSdk              sdk;
+    private final    Object                   sdkLock = new Object();
+    private          boolean                  isPluginInitialized;
+    private volatile boolean                  isSdkInitialized;
+    private          AppLovinSdkConfiguration sdkConfiguration;
 
     // Store these values if pub attempts to set it before initializing
     private       List<String>                 testDeviceAdvertisingIdsToSet;
     private final MaxSegmentCollection.Builder segmentCollectionBuilder = MaxSegmentCollection.builder();
 
-    // Fullscreen Ad Fields
-    private final Map<String, MaxInterstitialAd> mInterstitials = new HashMap<>( 2 );
-    private final Map<String, MaxRewardedAd>     mRewardedAds   = new HashMap<>( 2 );
+    // SDK-bound actions run off the WebCore thread, ordered per ad unit (or per SETTINGS_WORKER_KEY / EVENT_TRACKING_WORKER_KEY)
+    private final KeyedExecutor sdkExecutor = new KeyedExecutor();
+
+    // Initialization, fullscreen ads and event tracking go through the backend, which only the JVM tests replace
+    private final AdBackend adBackend;
+
+    // Privacy and SDK settings as last set from JS or read from the SDK, written to the SDK behind the settings worker key
+    private final SettingsMirror settings = new SettingsMirror();
+
+    // Ad Unit Fields - see AdUnitState for the threading model
+    private final Map<String, AdUnitState> adUnitStates = new ConcurrentHashMap<>( 8 );
+
+    // Priority ordering and concurrency limit of all ad loads (main thread only)
+    private final AdLoadScheduler loadScheduler = new AdLoadScheduler( this );
+
+    // Fullscreen ads kept loaded natively (main thread only)
+    private final AdPreloader adPreloader = new AdPreloader( this );
+
+    // Fullscreen ads are assumed to expire this long after loading, and are reloaded shortly before
+    private volatile long    adExpiryEstimateMillis = DEFAULT_AD_EXPIRY_ESTIMATE_MILLIS;
+    private final    Handler mainHandler            = new Handler( Looper.getMainLooper() );
+
+    // Load and show calls waiting for their SDK callback
+    private final PendingCallbacks pendingLoadCallbacks = new PendingCallbacks();
+    private final PendingCallbacks pendingShowCallbacks = new PendingCallbacks();
+
+    // Fullscreen loads that were not issued since a load was already outstanding, or an ad was already ready
+    private final AtomicLong coalescedLoadCount    = new AtomicLong();
+    private final AtomicLong skippedReadyLoadCount = new AtomicLong();
+
+    // Window events raised since launch, for event throughput in the diagnostics
+    private final AtomicLong firedEventCount = new AtomicLong();
+
+    // Idle fullscreen ads kept when the system asks to trim memory, least recently used ones are destroyed first
+    private volatile int  maxIdleFullscreenAds = DEFAULT_MAX_IDLE_FULLSCREEN_ADS;
+    private          long evictedFullscreenAdCount;
+
+    private final ComponentCallbacks2 memoryTrimCallbacks = new ComponentCallbacks2()
+    {
+        @Override
+        public void onTrimMemory(final int level)
+        {
+            if ( level < TRIM_MEMORY_RUNNING_LOW ) return;
+
+            // Keep nothing idle once the process is about to be killed
+            final boolean isCritical = level == TRIM_MEMORY_RUNNING_CRITICAL || level >= TRIM_MEMORY_COMPLETE;
+            evictIdleFullscreenAds( isCritical ? 0 : maxIdleFullscreenAds );
+        }
+
+        @Override
+        public void onLowMemory()
+        {
+            evictIdleFullscreenAds( 0 );
+        }
+
+        @Override
+        public void onConfigurationChanged(final Configuration newConfig) { }
+    };
 
     // Banner Fields
-    private final Map<String, MaxAdView>   mAdViews                    = new HashMap<>( 2 );
-    private final Map<String, MaxAdFormat> mAdViewAdFormats            = new HashMap<>( 2 );
-    private final Map<String, String>      mAdViewPositions            = new HashMap<>( 2 );
-    private final Map<String, MaxAdFormat> mVerticalAdViewFormats      = new HashMap<>( 2 );
-    private final List<String>             mAdUnitIdsToShowAfterCreate = new ArrayList<>( 2 );
+    private long skippedAdViewLayoutCount;
+
+    // Impression-level revenue, sent to JS per impression or as summaries every revenueSummaryIntervalMillis if set (main thread only)
+    private final RevenueAggregator revenueAggregator = new RevenueAggregator();
+    private final Runnable          sendRevenueSummary = this::sendRevenueSummary;
+    private       long              revenueSummaryIntervalMillis;
+    private       boolean           isRevenueSummaryScheduled;
+
+    // Load and show latencies
+    private final PerformanceMetrics performanceMetrics = new PerformanceMetrics();
+
+    // Opt-in mediation waterfall statistics
+    private final    WaterfallMetrics waterfallMetrics = new WaterfallMetrics();
+    private volatile boolean          isWaterfallTrackingEnabled;
+
+    // Shared container for all banners and MRECs
+    private final AdViewOverlay adViewOverlay = new AdViewOverlay( this::relayoutVerticalAdViews );
+    private final Rect          windowRect    = new Rect();
+
+    // Batched delivery of window events to JS
+    private final EventChannel eventChannel = new EventChannel();
+
+    // Actions which need an initialized SDK, buffered until it is
+    private final PendingCommandQueue pendingCommands = new PendingCommandQueue();
+
+    // Bridge actions, keyed by both their exact and lower-cased names
+    private final Map<String, ActionHandler> actionHandlers = new HashMap<>( 128 );
+
+    // Main thread work queued while a batch is dispatched on the calling thread, to be run in a single main thread runnable
+    private final ThreadLocal<List<Runnable>> batchedUiRunnables = new ThreadLocal<>();
 
     private Activity getCurrentActivity() { return cordova.getActivity(); }
 
-    public AppLovinMAX() { }
+    /**
+     * Run on the main thread, deferring to the end of the current {@link #batch} if one is being dispatched on this thread.
+     */
+    private void runOnUiThread(final Runnable runnable)
+    {
+        final List<Runnable> runnables = batchedUiRunnables.get();
+        if ( runnables != null )
+        {
+            runnables.add( runnable );
+            return;
+        }
+
+        getCurrentActivity().runOnUiThread( runnable );
+    }
+
+    public AppLovinMAX()
+    {
+        this( null );
+    }
+
+    /**
+     * @param adBackend The backend to use instead of the AppLovin SDK, or {@code null} for the SDK.
+     */
+    AppLovinMAX(@Nullable final AdBackend adBackend)
+    {
+        this.adBackend = ( adBackend != null ) ? adBackend : new MaxAdBackend( this::getSdk );
+
+        registerActions();
+
+        startupTimings.onConstructed();
+    }
 
     @Override
     public void initialize(final CordovaInterface cordova, final CordovaWebView webView)
     {
         super.initialize( cordova, webView );
-        sdk = AppLovinSdk.getInstance( cordova.getContext() );
+
+        if ( preferences != null && preferences.getBoolean( PREFERENCE_LAZY_SDK_INSTANCE, false ) )
+        {
+            // Keep SDK work out of the WebView's startup - warm up on a worker once the first frame is drawn, unless a call needs it sooner
+            getCurrentActivity().runOnUiThread( () -> Choreographer.getInstance().postFrameCallback(
+                    frameTimeNanos -> sdkExecutor.execute( SETTINGS_WORKER_KEY, () -> getSdk( "warmUp" ) ) ) );
+        }
+        else
+        {
+            getSdk( "startup" );
+        }
+
+        cordova.getContext().getApplicationContext().registerComponentCallbacks( memoryTrimCallbacks );
+
+        // Load the settings mirror once, keeping any values JS sets first
+        sdkExecutor.execute( SETTINGS_WORKER_KEY, () -> settings.load( cordova.getContext() ) );
+    }
+
+    private AppLovinSdk getSdk()
+    {
+        return getSdk( "call" );
+    }
+
+    /**
+     * @param trigger What needs the SDK instance, recorded in the startup timings if this call creates it.
+     */
+    private AppLovinSdk getSdk(final String trigger)
+    {
+        final AppLovinSdk existingSdk = sdk;
+        if ( existingSdk != null ) return existingSdk;
+
+        synchronized ( sdkLock )
+        {
+            if ( sdk == null )
+            {
+                final long startTimeMillis = SystemClock.elapsedRealtime();
+                sdk = AppLovinSdk.getInstance( cordova.getContext() );
+                startupTimings.onSdkInstanceCreated( trigger, SystemClock.elapsedRealtime() - startTimeMillis );
+            }
+
+            return sdk;
+        }
+    }
+
+    @Override
+    public void onReset()
+    {
+        super.onReset();
+
+        // The page is reloading so the event channel callback is no longer valid - JS will attach a new one
+        eventChannel.detach();
+
+        // Neither are callbacks of calls from the previous page
+        pendingLoadCallbacks.clear();
+        pendingShowCallbacks.clear();
+        pendingCommands.clear();
+    }
+
+    @Override
+    public void onPause(final boolean multitasking)
+    {
+        super.onPause( multitasking );
+
+        // The app may not come back, so do not hold on to revenue that has not been reported yet
+        if ( isRevenueSummaryScheduled )
+        {
+            mainHandler.removeCallbacks( sendRevenueSummary );
+            sendRevenueSummary();
+        }
+
+        // Stop refreshing ad views nobody can see, remembering which ones to restart
+        for ( AdUnitState state : adUnitStates.values() )
+        {
+            final MaxAdView adView = state.adView;
+            if ( adView == null || adView.getVisibility() != View.VISIBLE ) continue;
+
+            adView.stopAutoRefresh();
+            state.isAdViewAutoRefreshPaused = true;
+        }
+    }
+
+    @Override
+    public void onResume(final boolean multitasking)
+    {
+        super.onResume( multitasking );
+
+        for ( AdUnitState state : adUnitStates.values() )
+        {
+            if ( !state.isAdViewAutoRefreshPaused ) continue;
+
+            state.isAdViewAutoRefreshPaused = false;
+
+            final MaxAdView adView = state.adView;
+            if ( adView != null && adView.getVisibility() == View.VISIBLE )
+            {
+                adView.startAutoRefresh();
+            }
+        }
+    }
+
+    @Override
+    public void onDestroy()
+    {
+        cordova.getContext().getApplicationContext().unregisterComponentCallbacks( memoryTrimCallbacks );
+
+        eventChannel.detach();
+        sdkExecutor.shutdown();
+        pendingLoadCallbacks.clear();
+        pendingShowCallbacks.clear();
+        pendingCommands.clear();
+        adPreloader.clear();
+        loadScheduler.clear();
+        mainHandler.removeCallbacksAndMessages( null );
+
+        // The ads hold on to the Activity, so release all of them and their listeners
+        for ( AdUnitState state : adUnitStates.values() )
+        {
+            final MaxAdView adView = state.adView;
+            if ( adView != null )
+            {
+                adViewOverlay.detach( adView );
+                adView.setListener( null );
+                adView.setRevenueListener( null );
+                adView.destroy();
+            }
+
+            final AdBackend.FullscreenAd interstitial = state.interstitial;
+            if ( interstitial != null )
+            {
+                interstitial.destroy();
+            }
+
+            final AdBackend.FullscreenAd rewardedAd = state.rewardedAd;
+            if ( rewardedAd != null )
+            {
+                rewardedAd.destroy();
+            }
+        }
+
+        adUnitStates.clear();
+
+        super.onDestroy();
     }
 
     private void initialize(final String pluginVersion, final String sdkKey, final CallbackContext callbackContext) throws JSONException
@@ -104,7 +382,13 @@ public class AppLovinMAX
         // Guard against running init logic multiple times
         if ( isPluginInitialized )
         {
-            callbackContext.success( getInitializationMessage( context ) );
+            executeOnWorker( SETTINGS_WORKER_KEY, callbackContext, () -> {
+                try
+                {
+                    callbackContext.success( getInitializationMessage( context ) );
+                }
+                catch ( Throwable ignored ) { }
+            } );
             return;
         }
 
@@ -117,30 +401,65 @@ public class AppLovinMAX
             throw new IllegalStateException( "Unable to initialize AppLovin SDK - no SDK key provided!" );
         }
 
-        AppLovinSdkInitializationConfiguration.Builder initConfigBuidler = AppLovinSdkInitializationConfiguration.builder( sdkKey, context );
-        initConfigBuidler.setPluginVersion( "Cordova-" + pluginVersion );
-        initConfigBuidler.setMediationProvider( AppLovinMediationProvider.MAX );
-        initConfigBuidler.setSegmentCollection( segmentCollectionBuilder.build() );
-        if ( testDeviceAdvertisingIdsToSet != null )
-        {
-            initConfigBuidler.setTestDeviceAdvertisingIds( testDeviceAdvertisingIdsToSet );
-            testDeviceAdvertisingIdsToSet = null;
-        }
+        startupTimings.onInitializeCalled();
 
-        sdk.initialize( initConfigBuidler.build(), configuration -> {
-            d( "SDK initialized" );
+        // Segments cannot be added anymore, so only the test device IDs need to be handed over to the worker
+        final List<String> testDeviceAdvertisingIds = testDeviceAdvertisingIdsToSet;
+        testDeviceAdvertisingIdsToSet = null;
 
-            sdkConfiguration = configuration;
-            isSdkInitialized = true;
+        // Build the configuration and initialize on the worker, after privacy settings set before this call have been written so that the
+        // SDK picks them up
+        executeOnWorker( SETTINGS_WORKER_KEY, callbackContext, () -> {
 
-            try
+            AppLovinSdkInitializationConfiguration.Builder initConfigBuidler = AppLovinSdkInitializationConfiguration.builder( sdkKey, context );
+            initConfigBuidler.setPluginVersion( "Cordova-" + pluginVersion );
+            initConfigBuidler.setMediationProvider( AppLovinMediationProvider.MAX );
+            initConfigBuidler.setSegmentCollection( segmentCollectionBuilder.build() );
+            if ( testDeviceAdvertisingIds != null )
             {
-                callbackContext.success( getInitializationMessage( context ) );
+                initConfigBuidler.setTestDeviceAdvertisingIds( testDeviceAdvertisingIds );
             }
-            catch ( Throwable ignored ) { }
+
+            adBackend.initialize( initConfigBuidler.build(), configuration -> {
+                d( "SDK initialized" );
+
+                startupTimings.onSdkInitialized();
+                sdkConfiguration = configuration;
+                isSdkInitialized = true;
+
+                try
+                {
+                    callbackContext.success( getInitializationMessage( context ) );
+                }
+                catch ( Throwable ignored ) { }
+
+                replayPendingCommands();
+            } );
         } );
     }
 
+    private void replayPendingCommands()
+    {
+        final List<PendingCommandQueue.Command> commands = pendingCommands.release();
+        if ( commands.isEmpty() ) return;
+
+        d( "Replaying " + commands.size() + " command(s) issued before initialization..." );
+
+        for ( PendingCommandQueue.Command command : commands )
+        {
+            final CallbackContext callbackContext = command.getCallbackContext( webView );
+
+            try
+            {
+                command.handler.handle( command.args, callbackContext );
+            }
+            catch ( Throwable th )
+            {
+                callbackContext.error( th.toString() );
+            }
+        }
+    }
+
     private JSONObject getInitializationMessage(final Context context) throws JSONException
     {
         JSONObject message = new JSONObject();
@@ -150,79 +469,468 @@ public class AppLovinMAX
             message.put( "countryCode", sdkConfiguration.getCountryCode() );
         }
 
-        message.put( "hasUserConsent", AppLovinPrivacySettings.hasUserConsent( context ) );
-        message.put( "isDoNotSell", AppLovinPrivacySettings.isDoNotSell( context ) );
-        message.put( "isTablet", AppLovinSdkUtils.isTablet( context ) );
+        message.put( "hasUserConsent", Boolean.TRUE.equals( settings.getHasUserConsent() ) );
+        message.put( "isDoNotSell", Boolean.TRUE.equals( settings.isDoNotSell() ) );
+        message.put( "isTablet", isTablet( context ) );
+
+        return message;
+    }
+
+    private boolean isInitialized()
+    {
+        return isPluginInitialized && isSdkInitialized;
+    }
+
+    // General Public API
+
+    public void showMediationDebugger(final CallbackContext callbackContext)
+    {
+        adBackend.showMediationDebugger();
+
+        callbackContext.success();
+    }
+
+    public void setHasUserConsent(final boolean hasUserConsent, final CallbackContext callbackContext)
+    {
+        if ( settings.setHasUserConsent( hasUserConsent, callbackContext ) ) scheduleSettingsWrite();
+    }
+
+    public void hasUserConsent(final CallbackContext callbackContext)
+    {
+        final Boolean hasUserConsent = settings.getHasUserConsent();
+        if ( hasUserConsent != null )
+        {
+            callbackContext.sendPluginResult( new PluginResult( OK, hasUserConsent ) );
+            return;
+        }
+
+        // Not loaded yet - answer once the load queued by initialize(CordovaInterface, CordovaWebView) has run
+        executeOnWorker( SETTINGS_WORKER_KEY, callbackContext, () -> callbackContext.sendPluginResult( new PluginResult( OK, Boolean.TRUE.equals( settings.getHasUserConsent() ) ) ) );
+    }
+
+    public void setDoNotSell(final boolean doNotSell, final CallbackContext callbackContext)
+    {
+        if ( settings.setDoNotSell( doNotSell, callbackContext ) ) scheduleSettingsWrite();
+    }
+
+    public void isDoNotSell(final CallbackContext callbackContext)
+    {
+        final Boolean isDoNotSell = settings.isDoNotSell();
+        if ( isDoNotSell != null )
+        {
+            callbackContext.sendPluginResult( new PluginResult( OK, isDoNotSell ) );
+            return;
+        }
+
+        // Not loaded yet - answer once the load queued by initialize(CordovaInterface, CordovaWebView) has run
+        executeOnWorker( SETTINGS_WORKER_KEY, callbackContext, () -> callbackContext.sendPluginResult( new PluginResult( OK, Boolean.TRUE.equals( settings.isDoNotSell() ) ) ) );
+    }
+
+    public void setUserId(final String userId, final CallbackContext callbackContext)
+    {
+        if ( settings.setUserId( userId, callbackContext ) ) scheduleSettingsWrite();
+    }
+
+    public void setMuted(final boolean muted, final CallbackContext callbackContext)
+    {
+        if ( settings.setMuted( muted, callbackContext ) ) scheduleSettingsWrite();
+    }
+
+    public void setVerboseLogging(final boolean verboseLoggingEnabled, final CallbackContext callbackContext)
+    {
+        if ( settings.setVerboseLogging( verboseLoggingEnabled, callbackContext ) ) scheduleSettingsWrite();
+    }
+
+    /**
+     * Set any of {@code {hasUserConsent, isDoNotSell, userId, isMuted, isVerboseLogging}} with a single bridge call and SDK write.
+     */
+    public void applySettings(final JSONObject values, final CallbackContext callbackContext) throws JSONException
+    {
+        if ( settings.apply( values, callbackContext ) ) scheduleSettingsWrite();
+    }
+
+    /**
+     * Write the settings mirror's dirty values to the SDK. Values set before the write runs are coalesced into it.
+     */
+    private void scheduleSettingsWrite()
+    {
+        // If the workers are saturated, write on this thread rather than leave the setters' callbacks pending until the next load
+        if ( !sdkExecutor.execute( SETTINGS_WORKER_KEY, this::writePendingSettings ) )
+        {
+            writePendingSettings();
+        }
+    }
+
+    /**
+     * Run the task once the settings mirror's dirty values have been written to the SDK on the settings worker, so that it never requests
+     * an ad with privacy values older than the JS ones without the main thread waiting for the write.
+     */
+    private void runAfterSettingsWrite(final Runnable task)
+    {
+        final Runnable writeThenRun = () -> {
+
+            try
+            {
+                writePendingSettings();
+            }
+            finally
+            {
+                task.run();
+            }
+        };
+
+        if ( !sdkExecutor.execute( SETTINGS_WORKER_KEY, writeThenRun ) )
+        {
+            writeThenRun.run();
+        }
+    }
+
+    /**
+     * Run the task on the worker of the given key, or fail the call if the workers have too many tasks pending. Fails the call if the task
+     * throws before completing it.
+     */
+    private void executeOnWorker(final String key, final CallbackContext callbackContext, final Runnable task)
+    {
+        final Runnable guardedTask = () -> {
+
+            try
+            {
+                task.run();
+            }
+            catch ( Throwable th )
+            {
+                // Settle the JS promise unless the task did already, the executor logs the failure
+                if ( !callbackContext.isFinished() )
+                {
+                    callbackContext.error( "Failed to run call: " + th );
+                }
+
+                throw th;
+            }
+        };
+
+        if ( !sdkExecutor.execute( key, guardedTask ) )
+        {
+            callbackContext.error( "Too many pending calls, try again later" );
+        }
+    }
+
+    /**
+     * Write the settings mirror's dirty values to the SDK on the calling thread, waiting for a write in progress on the settings worker.
+     * Called before every show, so that the SDK never shows an ad with privacy values older than the JS ones.
+     */
+    private void writePendingSettings()
+    {
+        settings.write( cordova.getContext(), getSdk() );
+    }
+
+    private boolean isTablet(final Context context)
+    {
+        final Boolean isTablet = settings.isTablet();
+        return ( isTablet != null ) ? isTablet : AppLovinSdkUtils.isTablet( context );
+    }
+
+    public void setTestDeviceAdvertisingIds(final List<String> advertisingIds, final CallbackContext callbackContext)
+    {
+        testDeviceAdvertisingIdsToSet = advertisingIds;
+        callbackContext.success();
+    }
+
+    public void getDiagnostics(final CallbackContext callbackContext)
+    {
+        runOnUiThread( () -> {
+
+            try
+            {
+                int adViewCount = 0;
+                int interstitialCount = 0;
+                int rewardedAdCount = 0;
+                JSONObject loadStates = new JSONObject();
+
+                for ( AdUnitState state : adUnitStates.values() )
+                {
+                    if ( state.adView != null ) adViewCount++;
+                    if ( state.interstitial != null ) interstitialCount++;
+                    if ( state.rewardedAd != null ) rewardedAdCount++;
+
+                    if ( state.interstitial != null || state.rewardedAd != null )
+                    {
+                        synchronized ( state )
+                        {
+                            loadStates.put( state.adUnitId, state.loadState.name() );
+                        }
+                    }
+                }
+
+                JSONObject diagnostics = new JSONObject();
+                diagnostics.put( "adUnitCount", adUnitStates.size() );
+                diagnostics.put( "adViewCount", adViewCount );
+                diagnostics.put( "adViewOverlayChildCount", adViewOverlay.getChildCount() );
+                diagnostics.put( "skippedAdViewLayoutCount", skippedAdViewLayoutCount );
+                diagnostics.put( "interstitialCount", interstitialCount );
+                diagnostics.put( "rewardedAdCount", rewardedAdCount );
+                diagnostics.put( "loadStates", loadStates );
+                diagnostics.put( "coalescedLoadCount", coalescedLoadCount.get() );
+                diagnostics.put( "skippedReadyLoadCount", skippedReadyLoadCount.get() );
+                diagnostics.put( "evictedFullscreenAdCount", evictedFullscreenAdCount );
+                diagnostics.put( "pendingCallbackCount", pendingLoadCallbacks.getPendingCount() + pendingShowCallbacks.getPendingCount() );
+                diagnostics.put( "firedEventCount", firedEventCount.get() );
+                diagnostics.put( "timedOutCallbackCount", pendingLoadCallbacks.getTimedOutCount() + pendingShowCallbacks.getTimedOutCount() );
+                diagnostics.put( "loadCallbacks", pendingLoadCallbacks.toJson() );
+                diagnostics.put( "showCallbacks", pendingShowCallbacks.toJson() );
+                diagnostics.put( "eventChannel", eventChannel.toJson() );
+                diagnostics.put( "preloader", adPreloader.toJson() );
+                diagnostics.put( "loadScheduler", loadScheduler.toJson() );
+                diagnostics.put( "workers", sdkExecutor.toJson() );
+                diagnostics.put( "settings", settings.toJson() );
+                diagnostics.put( "revenue", revenueAggregator.toJson() );
+                diagnostics.put( "pendingCommands", pendingCommands.toJson() );
+                diagnostics.put( "startup", startupTimings.toJson() );
+
+                callbackContext.success( diagnostics );
+            }
+            catch ( JSONException ex )
+            {
+                callbackContext.error( ex.getMessage() );
+            }
+        } );
+    }
+
+    public void getPerformanceMetrics(final boolean reset, final CallbackContext callbackContext) throws JSONException
+    {
+        JSONObject metrics = reset ? performanceMetrics.snapshotAndReset() : performanceMetrics.toJson();
+
+        callbackContext.success( metrics );
+    }
+
+    public void setWaterfallTrackingEnabled(final boolean enabled, final CallbackContext callbackContext)
+    {
+        isWaterfallTrackingEnabled = enabled;
+        callbackContext.success();
+    }
+
+    public void getWaterfallMetrics(final boolean reset, final CallbackContext callbackContext) throws JSONException
+    {
+        JSONObject metrics = reset ? waterfallMetrics.snapshotAndReset() : waterfallMetrics.toJson();
+
+        callbackContext.success( metrics );
+    }
+
+    // BATCHING
+
+    /**
+     * Run multiple actions with a single bridge crossing. Each command is an object with an {@code action} name and optional {@code args}
+     * array, dispatched in order through the regular action handlers. Main thread work of all commands is run in a single runnable.
+     * <p>
+     * Succeeds with an array holding one {@code {status, message}} entry per command, once all commands completed - on the main thread, a
+     * worker or from an SDK callback - or after {@link #BATCH_RESULTS_TIMEOUT_MILLIS}. {@code status} is {@code "ok"}, {@code "error"} or
+     * {@code "pending"} for commands which did not complete in time or sent no result (e.g. ad loads waiting for the network). Commands
+     * made before the SDK is initialized are buffered as usual and reported as {@code "deferred"}, without waiting for their replay.
+     */
+    public void batch(final JSONArray commands, final CallbackContext callbackContext) throws JSONException
+    {
+        if ( batchedUiRunnables.get() != null )
+        {
+            callbackContext.error( "Batches cannot be nested" );
+            return;
+        }
+
+        final int commandCount = commands.length();
+        final BatchResults batchResults = new BatchResults( commandCount, callbackContext, mainHandler );
+        final List<Runnable> uiRunnables = new ArrayList<>( commandCount );
+
+        batchedUiRunnables.set( uiRunnables );
+        try
+        {
+            for ( int i = 0; i < commandCount; i++ )
+            {
+                final BatchCommandCallbackContext commandCallbackContext = batchResults.commandCallbackContexts[i];
+
+                try
+                {
+                    final JSONObject command = commands.getJSONObject( i );
+                    final String action = command.getString( "action" );
+                    final JSONArray args = command.optJSONArray( "args" );
+
+                    if ( !execute( action, args != null ? args : new JSONArray(), commandCallbackContext ) )
+                    {
+                        commandCallbackContext.error( "Invalid action: " + action );
+                    }
+                }
+                catch ( Throwable th )
+                {
+                    commandCallbackContext.error( th.toString() );
+                }
+            }
+        }
+        finally
+        {
+            batchedUiRunnables.remove();
+        }
+
+        if ( uiRunnables.isEmpty() )
+        {
+            batchResults.onDispatched();
+            return;
+        }
+
+        getCurrentActivity().runOnUiThread( () -> {
+
+            for ( Runnable runnable : uiRunnables )
+            {
+                runnable.run();
+            }
+
+            batchResults.onDispatched();
+        } );
+    }
+
+    /**
+     * Sends the results of the commands of a {@link #batch} as one JSON array, once every command sent a result - including commands that
+     * complete on a worker or from an SDK callback - or after {@link #BATCH_RESULTS_TIMEOUT_MILLIS}, reporting commands without a result as
+     * pending. Thread-safe.
+     */
+    private static final class BatchResults
+    {
+        final BatchCommandCallbackContext[] commandCallbackContexts;
+
+        private final CallbackContext callbackContext;
+        private final Handler         handler;
+        private final AtomicInteger   remainingCount;
+        private final AtomicBoolean   isSent = new AtomicBoolean();
+        private final Runnable        sendOnTimeout = this::send;
+
+        BatchResults(final int commandCount, final CallbackContext callbackContext, final Handler handler)
+        {
+            this.callbackContext = callbackContext;
+            this.handler = handler;
+
+            // The batch itself counts as outstanding until all of its commands were dispatched
+            remainingCount = new AtomicInteger( commandCount + 1 );
+
+            commandCallbackContexts = new BatchCommandCallbackContext[commandCount];
+            for ( int i = 0; i < commandCount; i++ )
+            {
+                commandCallbackContexts[i] = new BatchCommandCallbackContext( callbackContext.getCallbackId(), this );
+            }
+        }
+
+        /**
+         * All commands were dispatched, including their main thread work.
+         */
+        void onDispatched()
+        {
+            if ( remainingCount.decrementAndGet() == 0 )
+            {
+                send();
+                return;
+            }
+
+            handler.postDelayed( sendOnTimeout, BATCH_RESULTS_TIMEOUT_MILLIS );
+        }
+
+        void onCommandResult()
+        {
+            if ( remainingCount.decrementAndGet() == 0 )
+            {
+                handler.removeCallbacks( sendOnTimeout );
+                send();
+            }
+        }
+
+        private void send()
+        {
+            if ( !isSent.compareAndSet( false, true ) ) return;
+
+            final JSONArray results = new JSONArray();
+            for ( BatchCommandCallbackContext commandCallbackContext : commandCallbackContexts )
+            {
+                results.put( commandCallbackContext.toJson() );
+            }
 
-        return message;
+            callbackContext.success( results );
+        }
     }
 
-    private boolean isInitialized()
+    /**
+     * Captures the first result sent for a single command of a {@link #batch}.
+     */
+    private static class BatchCommandCallbackContext
+            extends CallbackContext
     {
-        return isPluginInitialized && isSdkInitialized;
-    }
+        private final BatchResults batchResults;
 
-    // General Public API
+        @Nullable
+        private volatile PluginResult result;
+        private volatile boolean      isDeferred;
 
-    public void showMediationDebugger(final CallbackContext callbackContext)
-    {
-        if ( sdk == null )
+        BatchCommandCallbackContext(final String callbackId, final BatchResults batchResults)
         {
-            Log.e( "[" + TAG + "]", "Failed to show mediation debugger - please ensure the AppLovin MAX Cordova Plugin has been initialized by calling 'AppLovinMAX.initialize(...);'!" );
-            return;
-        }
+            super( callbackId, null );
 
-        sdk.showMediationDebugger();
+            this.batchResults = batchResults;
+        }
 
-        callbackContext.success();
-    }
+        @Override
+        public void sendPluginResult(final PluginResult pluginResult)
+        {
+            synchronized ( this )
+            {
+                if ( result != null ) return;
 
-    public void setHasUserConsent(final boolean hasUserConsent, final CallbackContext callbackContext)
-    {
-        AppLovinPrivacySettings.setHasUserConsent( hasUserConsent, getCurrentActivity() );
-        callbackContext.success();
-    }
+                result = pluginResult;
+            }
 
-    public void hasUserConsent(final CallbackContext callbackContext)
-    {
-        PluginResult result = new PluginResult( OK, AppLovinPrivacySettings.hasUserConsent( getCurrentActivity() ) );
-        callbackContext.sendPluginResult( result );
-    }
+            batchResults.onCommandResult();
+        }
 
-    public void setDoNotSell(final boolean doNotSell, final CallbackContext callbackContext)
-    {
-        AppLovinPrivacySettings.setDoNotSell( doNotSell, getCurrentActivity() );
-        callbackContext.success();
-    }
+        /**
+         * The command was buffered until the SDK is initialized. Unless it already failed, e.g. because the buffer is full, it counts as
+         * complete and any result it sends once replayed is dropped.
+         */
+        void onDeferred()
+        {
+            synchronized ( this )
+            {
+                if ( result != null ) return;
 
-    public void isDoNotSell(final CallbackContext callbackContext)
-    {
-        PluginResult result = new PluginResult( OK, AppLovinPrivacySettings.isDoNotSell( getCurrentActivity() ) );
-        callbackContext.sendPluginResult( result );
-    }
+                isDeferred = true;
+                result = new PluginResult( NO_RESULT );
+            }
 
-    public void setUserId(final String userId, final CallbackContext callbackContext)
-    {
-        sdk.getSettings().setUserIdentifier( userId );
-        callbackContext.success();
-    }
+            batchResults.onCommandResult();
+        }
 
-    public void setMuted(final boolean muted, final CallbackContext callbackContext)
-    {
-        sdk.getSettings().setMuted( muted );
-        callbackContext.success();
-    }
+        /**
+         * @return {@code {status, message}} where the status is "ok" or "error", "deferred" if the command was buffered until the SDK is
+         * initialized, or "pending" if the command did not complete (yet). Deferred and pending commands have no message.
+         */
+        JSONObject toJson()
+        {
+            final JSONObject json = new JSONObject();
 
-    public void setVerboseLogging(final boolean verboseLoggingEnabled, final CallbackContext callbackContext)
-    {
-        sdk.getSettings().setVerboseLogging( verboseLoggingEnabled );
-        callbackContext.success();
-    }
+            try
+            {
+                final PluginResult result = this.result;
+                if ( isDeferred )
+                {
+                    json.put( "status", "deferred" );
+                }
+                else if ( result == null || result.getStatus() == NO_RESULT.ordinal() )
+                {
+                    json.put( "status", "pending" );
+                }
+                else
+                {
+                    // Results that keep the callback (e.g. a first progress update) are reported like final ones
+                    json.put( "status", result.getStatus() == OK.ordinal() ? "ok" : "error" );
+                    json.put( "message", new JSONTokener( result.getMessage() ).nextValue() );
+                }
+            }
+            catch ( JSONException ignored ) { }
 
-    public void setTestDeviceAdvertisingIds(final List<String> advertisingIds, final CallbackContext callbackContext)
-    {
-        testDeviceAdvertisingIdsToSet = advertisingIds;
-        callbackContext.success();
+            return json;
+        }
     }
 
     // SEGMENT TARGETING
@@ -243,17 +951,29 @@ public class AppLovinMAX
 
     // EVENT TRACKING
 
-    public void trackEvent(final String event, final JSONObject parameters, final CallbackContext callbackContext) throws JSONException
+    public void trackEvent(final String event, final JSONObject parameters, final CallbackContext callbackContext)
     {
-        Map<String, String> parametersToUse = new HashMap<>();
-        if ( parameters != null )
-        {
-            parametersToUse = AppLovinSdkUtils.toMap( parameters );
-        }
+        executeOnWorker( EVENT_TRACKING_WORKER_KEY, callbackContext, () -> {
 
-        sdk.getEventService().trackEvent( event, parametersToUse );
+            Map<String, String> parametersToUse = new HashMap<>();
 
-        callbackContext.success();
+            try
+            {
+                if ( parameters != null )
+                {
+                    parametersToUse = AppLovinSdkUtils.toMap( parameters );
+                }
+            }
+            catch ( JSONException ex )
+            {
+                callbackContext.error( ex.getMessage() );
+                return;
+            }
+
+            adBackend.trackEvent( event, parametersToUse );
+
+            callbackContext.success();
+        } );
     }
 
     // BANNERS
@@ -334,46 +1054,257 @@ public class AppLovinMAX
 
     public void loadInterstitial(final String adUnitId, final CallbackContext callbackContext)
     {
-        MaxInterstitialAd interstitial = retrieveInterstitial( adUnitId );
-        interstitial.loadAd();
+        executeOnWorker( adUnitId, callbackContext, () -> loadFullscreenAd( adUnitId, MaxAdFormat.INTERSTITIAL, callbackContext ) );
     }
 
     public void showInterstitial(final String adUnitId, final String placement, final CallbackContext callbackContext)
     {
-        MaxInterstitialAd interstitial = retrieveInterstitial( adUnitId );
-        interstitial.showAd( placement );
+        executeOnWorker( adUnitId, callbackContext, () -> showFullscreenAd( adUnitId, MaxAdFormat.INTERSTITIAL, placement, callbackContext ) );
+    }
+
+    public void setInterstitialPreloadEnabled(final String adUnitId, final boolean enabled, final CallbackContext callbackContext)
+    {
+        setPreloadEnabled( adUnitId, MaxAdFormat.INTERSTITIAL, enabled, callbackContext );
     }
 
     public void setInterstitialExtraParameter(final String adUnitId, final String key, final String value, final CallbackContext callbackContext)
     {
-        MaxInterstitialAd interstitial = retrieveInterstitial( adUnitId );
-        interstitial.setExtraParameter( key, value );
+        executeOnWorker( adUnitId, callbackContext, () -> {
+            AdBackend.FullscreenAd interstitial = retrieveInterstitial( adUnitId );
+            interstitial.setExtraParameter( key, value );
+            callbackContext.success();
+        } );
     }
 
     // REWARDED
 
     public void loadRewardedAd(final String adUnitId, final CallbackContext callbackContext)
     {
-        MaxRewardedAd rewardedAd = retrieveRewardedAd( adUnitId );
-        rewardedAd.loadAd();
+        executeOnWorker( adUnitId, callbackContext, () -> loadFullscreenAd( adUnitId, MaxAdFormat.REWARDED, callbackContext ) );
     }
 
-    public boolean isRewardedAdReady(final String adUnitId, final CallbackContext callbackContext)
+    public void isRewardedAdReady(final String adUnitId, final CallbackContext callbackContext)
     {
-        MaxRewardedAd rewardedAd = retrieveRewardedAd( adUnitId );
-        return rewardedAd.isReady();
+        // A read, so do not create the ad if it does not exist yet
+        final AdUnitState state = adUnitStates.get( adUnitId );
+        final AdBackend.FullscreenAd rewardedAd = ( state != null ) ? state.rewardedAd : null;
+        callbackContext.sendPluginResult( new PluginResult( OK, rewardedAd != null && rewardedAd.isReady() ) );
     }
 
     public void showRewardedAd(final String adUnitId, final String placement, final CallbackContext callbackContext)
     {
-        MaxRewardedAd rewardedAd = retrieveRewardedAd( adUnitId );
-        rewardedAd.showAd( placement );
+        executeOnWorker( adUnitId, callbackContext, () -> showFullscreenAd( adUnitId, MaxAdFormat.REWARDED, placement, callbackContext ) );
+    }
+
+    public void setRewardedAdPreloadEnabled(final String adUnitId, final boolean enabled, final CallbackContext callbackContext)
+    {
+        setPreloadEnabled( adUnitId, MaxAdFormat.REWARDED, enabled, callbackContext );
     }
 
     public void setRewardedAdExtraParameter(final String adUnitId, final String key, final String value, final CallbackContext callbackContext)
     {
-        MaxRewardedAd rewardedAd = retrieveRewardedAd( adUnitId );
-        rewardedAd.setExtraParameter( key, value );
+        executeOnWorker( adUnitId, callbackContext, () -> {
+            AdBackend.FullscreenAd rewardedAd = retrieveRewardedAd( adUnitId );
+            rewardedAd.setExtraParameter( key, value );
+            callbackContext.success();
+        } );
+    }
+
+    // LOAD SCHEDULING
+
+    public void setAdLoadPriority(final String adUnitId, final int priority, final CallbackContext callbackContext)
+    {
+        runOnUiThread( () -> {
+            loadScheduler.setPriority( adUnitId, priority );
+            callbackContext.success();
+        } );
+    }
+
+    public void setMaxConcurrentLoads(final int maxConcurrentLoads, final CallbackContext callbackContext)
+    {
+        runOnUiThread( () -> {
+            loadScheduler.setMaxConcurrentLoads( maxConcurrentLoads );
+            callbackContext.success();
+        } );
+    }
+
+    public void setDeferLowPriorityLoadsUntilIdle(final boolean deferLowPriorityLoadsUntilIdle, final CallbackContext callbackContext)
+    {
+        runOnUiThread( () -> {
+            loadScheduler.setDeferLowPriorityLoadsUntilIdle( deferLowPriorityLoadsUntilIdle );
+            callbackContext.success();
+        } );
+    }
+
+    @Override
+    public void onLoadTimedOut(final String adUnitId)
+    {
+        d( "Load of ad unit id \"" + adUnitId + "\" did not report back in time" );
+
+        // Let the next load of the ad unit go out instead of being coalesced into this one, and have a preloaded ad unit retry
+        updateLoadState( adUnitId, AdUnitState.LoadState.LOADING, AdUnitState.LoadState.IDLE );
+        adPreloader.onAdLoadFailed( adUnitId );
+    }
+
+    // PRELOADING
+
+    @Override
+    public boolean onPreloadAd(final String adUnitId, final MaxAdFormat adFormat)
+    {
+        return loadFullscreenAd( adUnitId, adFormat );
+    }
+
+    // READINESS
+
+    /**
+     * Succeeds with {@code {<adUnitId>: {isReady, loadState, loadedAgoMillis, expiresInMillis}}} for the given fullscreen ad units, where
+     * the times are only set for ready ads. Snapshots are checked against the SDK, so ads which expired early are reported (and pushed) as
+     * not ready.
+     */
+    public void getReadiness(final JSONArray adUnitIds, final CallbackContext callbackContext) throws JSONException
+    {
+        final JSONObject readiness = new JSONObject();
+
+        for ( int i = 0; i < adUnitIds.length(); i++ )
+        {
+            final String adUnitId = adUnitIds.getString( i );
+            final AdUnitState state = adUnitStates.get( adUnitId );
+
+            if ( state != null && !isFullscreenAdReady( state ) )
+            {
+                clearReady( adUnitId );
+            }
+
+            long readyTimeMillis = 0;
+            AdUnitState.LoadState loadState = AdUnitState.LoadState.IDLE;
+
+            if ( state != null )
+            {
+                synchronized ( state )
+                {
+                    readyTimeMillis = state.readyTimeMillis;
+                    loadState = state.loadState;
+                }
+            }
+
+            final JSONObject snapshot = new JSONObject();
+            snapshot.put( "isReady", readyTimeMillis > 0 );
+            snapshot.put( "loadState", loadState.name() );
+
+            if ( readyTimeMillis > 0 )
+            {
+                final long loadedAgoMillis = SystemClock.elapsedRealtime() - readyTimeMillis;
+                snapshot.put( "loadedAgoMillis", loadedAgoMillis );
+                snapshot.put( "expiresInMillis", Math.max( 0, adExpiryEstimateMillis - loadedAgoMillis ) );
+            }
+
+            readiness.put( adUnitId, snapshot );
+        }
+
+        callbackContext.success( readiness );
+    }
+
+    /**
+     * Succeeds with {@code {<adUnitId>: {format, loadState, isReady, isPreloading, position, isVisible}}} describing every ad the plugin
+     * holds, so that JS can pick up existing ads after a page reload instead of creating and loading them again. {@code position} and
+     * {@code isVisible} are only set for banners and MRECs.
+     */
+    public void getAdRegistry(final CallbackContext callbackContext)
+    {
+        runOnUiThread( () -> {
+
+            try
+            {
+                final JSONObject registry = new JSONObject();
+
+                for ( AdUnitState state : adUnitStates.values() )
+                {
+                    final JSONObject entry = new JSONObject();
+
+                    final MaxAdView adView = state.adView;
+                    if ( adView != null )
+                    {
+                        entry.put( "format", state.adViewFormat != null ? state.adViewFormat.getLabel() : "" );
+                        entry.put( "position", state.adViewPosition );
+                        entry.put( "isVisible", adView.getVisibility() == View.VISIBLE );
+                    }
+                    else if ( state.interstitial != null || state.rewardedAd != null )
+                    {
+                        if ( !isFullscreenAdReady( state ) )
+                        {
+                            clearReady( state.adUnitId );
+                        }
+
+                        synchronized ( state )
+                        {
+                            entry.put( "loadState", state.loadState.name() );
+                            entry.put( "isReady", state.readyTimeMillis > 0 );
+                        }
+
+                        entry.put( "format", ( state.interstitial != null ) ? MaxAdFormat.INTERSTITIAL.getLabel() : MaxAdFormat.REWARDED.getLabel() );
+                        entry.put( "isPreloading", adPreloader.isPreloading( state.adUnitId ) );
+                    }
+                    else
+                    {
+                        continue;
+                    }
+
+                    registry.put( state.adUnitId, entry );
+                }
+
+                callbackContext.success( registry );
+            }
+            catch ( JSONException ex )
+            {
+                callbackContext.error( ex.getMessage() );
+            }
+        } );
+    }
+
+    /**
+     * Send revenue as {@code OnAdRevenueSummaryEvent} summaries covering at most the given interval, instead of one event per paid
+     * impression. Pass 0 to go back to per-impression events.
+     */
+    public void setRevenueSummaryInterval(final long intervalMillis, final CallbackContext callbackContext)
+    {
+        runOnUiThread( () -> {
+
+            revenueSummaryIntervalMillis = Math.max( 0, intervalMillis );
+
+            if ( isRevenueSummaryScheduled )
+            {
+                // Report what was summarized so far, the next impression starts a window of the new length
+                mainHandler.removeCallbacks( sendRevenueSummary );
+                sendRevenueSummary();
+            }
+
+            if ( revenueSummaryIntervalMillis == 0 )
+            {
+                revenueAggregator.clearWindow();
+            }
+
+            callbackContext.success();
+        } );
+    }
+
+    public void setCallbackTimeout(final long timeoutMillis, final CallbackContext callbackContext)
+    {
+        pendingLoadCallbacks.setTimeoutMillis( timeoutMillis );
+        pendingShowCallbacks.setTimeoutMillis( timeoutMillis );
+        callbackContext.success();
+    }
+
+    public void setMaxIdleFullscreenAds(final int maxIdleFullscreenAds, final CallbackContext callbackContext)
+    {
+        this.maxIdleFullscreenAds = Math.max( 0, maxIdleFullscreenAds );
+        callbackContext.success();
+    }
+
+    public void setAdExpiryEstimate(final long adExpiryEstimateMillis, final CallbackContext callbackContext)
+    {
+        // Guard against refresh loops from tiny values
+        this.adExpiryEstimateMillis = Math.max( 60 * 1000L, adExpiryEstimateMillis );
+        callbackContext.success();
     }
 
     // AD CALLBACKS
@@ -381,34 +1312,67 @@ public class AppLovinMAX
     @Override
     public void onAdLoaded(MaxAd ad)
     {
+        loadScheduler.onLoadFinished( ad.getAdUnitId() );
+
+        final AdUnitState loadedState = adUnitStates.get( ad.getAdUnitId() );
+        if ( loadedState != null )
+        {
+            final long loadLatencyMillis = consumeElapsedMillis( loadedState.loadStartTimeMillis );
+            loadedState.loadStartTimeMillis = 0;
+
+            if ( loadLatencyMillis >= 0 )
+            {
+                performanceMetrics.recordLoad( ad.getAdUnitId(), ad.getNetworkName(), loadLatencyMillis );
+            }
+        }
+
+        if ( isWaterfallTrackingEnabled )
+        {
+            waterfallMetrics.record( ad.getWaterfall() );
+        }
+
         String name;
         MaxAdFormat adFormat = ad.getFormat();
         if ( MaxAdFormat.BANNER == adFormat || MaxAdFormat.LEADER == adFormat || MaxAdFormat.MREC == adFormat )
         {
             name = ( MaxAdFormat.MREC == adFormat ) ? "OnMRecAdLoadedEvent" : "OnBannerAdLoadedEvent";
 
-            String adViewPosition = mAdViewPositions.get( ad.getAdUnitId() );
-            if ( !TextUtils.isEmpty( adViewPosition ) )
+            final AdUnitState state = adUnitStates.get( ad.getAdUnitId() );
+            final MaxAdView adView = ( state != null ) ? state.adView : null;
+            if ( adView != null )
             {
-                // Only position ad if not native UI component
-                positionAdView( ad );
-            }
+                if ( !TextUtils.isEmpty( state.adViewPosition ) )
+                {
+                    // Only position ad if not native UI component, and only if something affecting its layout changed since it was last positioned (e.g. not on auto-refresh)
+                    if ( state.isAdViewLayoutCurrent )
+                    {
+                        skippedAdViewLayoutCount++;
+                    }
+                    else
+                    {
+                        positionAdView( ad );
+                    }
+                }
 
-            // Do not auto-refresh by default if the ad view is not showing yet (e.g. first load during app launch and publisher does not automatically show banner upon load success)
-            // We will resume auto-refresh in {@link #showBanner(String)}.
-            MaxAdView adView = retrieveAdView( ad.getAdUnitId(), adFormat );
-            if ( adView != null && adView.getVisibility() != View.VISIBLE )
-            {
-                adView.stopAutoRefresh();
+                // Do not auto-refresh by default if the ad view is not showing yet (e.g. first load during app launch and publisher does not automatically show banner upon load success)
+                // We will resume auto-refresh in {@link #showBanner(String)}.
+                if ( adView.getVisibility() != View.VISIBLE )
+                {
+                    adView.stopAutoRefresh();
+                }
             }
         }
         else if ( MaxAdFormat.INTERSTITIAL == adFormat )
         {
             name = "OnInterstitialLoadedEvent";
+            updateLoadState( ad.getAdUnitId(), null, AdUnitState.LoadState.READY );
+            markReady( ad.getAdUnitId() );
         }
         else if ( MaxAdFormat.REWARDED == adFormat )
         {
             name = "OnRewardedAdLoadedEvent";
+            updateLoadState( ad.getAdUnitId(), null, AdUnitState.LoadState.READY );
+            markReady( ad.getAdUnitId() );
         }
         else
         {
@@ -416,7 +1380,13 @@ public class AppLovinMAX
             return;
         }
 
-        fireWindowEvent( name, getAdInfo( ad ) );
+        final StringBuilder adInfo = AdInfoSerializer.adInfo( ad );
+        pendingLoadCallbacks.resolve( ad.getAdUnitId(), adInfo );
+
+        // Preloaded ad units only report readiness changes
+        if ( adPreloader.onAdLoaded( ad.getAdUnitId() ) ) return;
+
+        fireWindowEvent( name, adInfo );
     }
 
     @Override
@@ -428,56 +1398,115 @@ public class AppLovinMAX
             return;
         }
 
+        loadScheduler.onLoadFinished( adUnitId );
+
+        final AdUnitState state = adUnitStates.get( adUnitId );
+        if ( state == null )
+        {
+            logStackTrace( new IllegalStateException( "invalid adUnitId: " + adUnitId ) );
+            return;
+        }
+
+        final long loadLatencyMillis = consumeElapsedMillis( state.loadStartTimeMillis );
+        state.loadStartTimeMillis = 0;
+
+        if ( loadLatencyMillis >= 0 )
+        {
+            performanceMetrics.recordLoadFailure( adUnitId, loadLatencyMillis );
+        }
+
+        updateLoadState( adUnitId, AdUnitState.LoadState.LOADING, AdUnitState.LoadState.IDLE );
+
+        // A failed refresh leaves the previous ad in place as long as it did not expire
+        if ( !isFullscreenAdReady( state ) )
+        {
+            clearReady( adUnitId );
+        }
+
+        if ( isWaterfallTrackingEnabled )
+        {
+            waterfallMetrics.record( error.getWaterfall() );
+        }
+
+        final StringBuilder loadFailureInfo = AdInfoSerializer.loadFailure( adUnitId, error );
+        pendingLoadCallbacks.reject( adUnitId, loadFailureInfo );
+
+        // Preloaded ad units retry on their own and only report readiness changes
+        if ( adPreloader.onAdLoadFailed( adUnitId ) ) return;
+
         String name;
-        if ( mAdViews.containsKey( adUnitId ) )
+        if ( state.adView != null )
         {
-            name = ( MaxAdFormat.MREC == mAdViewAdFormats.get( adUnitId ) ) ? "OnMRecAdLoadFailedEvent" : "OnBannerAdLoadFailedEvent";
+            name = ( MaxAdFormat.MREC == state.adViewFormat ) ? "OnMRecAdLoadFailedEvent" : "OnBannerAdLoadFailedEvent";
         }
-        else if ( mInterstitials.containsKey( adUnitId ) )
+        else if ( state.interstitial != null )
         {
             name = "OnInterstitialLoadFailedEvent";
         }
-        else if ( mRewardedAds.containsKey( adUnitId ) )
+        else if ( state.rewardedAd != null )
         {
             name = "OnRewardedAdLoadFailedEvent";
         }
         else
         {
-            logStackTrace( new IllegalStateException( "invalid adUnitId: " + adUnitId ) );
+            logStackTrace( new IllegalStateException( "invalid adUnitId: " + adUnitId ) );
+            return;
+        }
+
+        // TODO: Add "code", "message", and "adLoadFailureInfo"
+        fireWindowEvent( name, loadFailureInfo );
+    }
+
+    @Override
+    public void onAdClicked(final MaxAd ad)
+    {
+        final MaxAdFormat adFormat = ad.getFormat();
+        final String name;
+        if ( MaxAdFormat.BANNER == adFormat || MaxAdFormat.LEADER == adFormat )
+        {
+            name = "OnBannerAdClickedEvent";
+        }
+        else if ( MaxAdFormat.MREC == adFormat )
+        {
+            name = "OnMRecAdClickedEvent";
+        }
+        else if ( MaxAdFormat.INTERSTITIAL == adFormat )
+        {
+            name = "OnInterstitialClickedEvent";
+        }
+        else if ( MaxAdFormat.REWARDED == adFormat )
+        {
+            name = "OnRewardedAdClickedEvent";
+        }
+        else
+        {
+            logInvalidAdFormat( adFormat );
             return;
         }
 
-        try
-        {
-            JSONObject params = new JSONObject();
-            params.put( "adUnitId", adUnitId );
-            params.put( "errorCode", Integer.toString( error.getCode() ) );
-            // TODO: Add "code", "message", and "adLoadFailureInfo"
-            fireWindowEvent( name, params );
-        }
-        catch ( Throwable ignored ) { }
+        fireWindowEvent( name, AdInfoSerializer.adInfo( ad ) );
     }
 
     @Override
-    public void onAdClicked(final MaxAd ad)
+    public void onAdRevenuePaid(final MaxAd ad)
     {
         final MaxAdFormat adFormat = ad.getFormat();
         final String name;
         if ( MaxAdFormat.BANNER == adFormat || MaxAdFormat.LEADER == adFormat )
         {
-            name = "OnBannerAdClickedEvent";
+            name = "OnBannerAdRevenuePaidEvent";
         }
         else if ( MaxAdFormat.MREC == adFormat )
         {
-            name = "OnMRecAdClickedEvent";
+            name = "OnMRecAdRevenuePaidEvent";
         }
         else if ( MaxAdFormat.INTERSTITIAL == adFormat )
         {
-            name = "OnInterstitialClickedEvent";
+            name = "OnInterstitialAdRevenuePaidEvent";
         }
         else if ( MaxAdFormat.REWARDED == adFormat )
         {
-            name = "OnRewardedAdClickedEvent";
+            name = "OnRewardedAdRevenuePaidEvent";
         }
         else
         {
@@ -485,7 +1514,35 @@ public class AppLovinMAX
             return;
         }
 
-        fireWindowEvent( name, getAdInfo( ad ) );
+        revenueAggregator.record( ad, revenueSummaryIntervalMillis > 0 );
+
+        if ( revenueSummaryIntervalMillis <= 0 )
+        {
+            fireWindowEvent( name, AdInfoSerializer.revenue( ad ) );
+            return;
+        }
+
+        if ( !isRevenueSummaryScheduled )
+        {
+            isRevenueSummaryScheduled = true;
+            mainHandler.postDelayed( sendRevenueSummary, revenueSummaryIntervalMillis );
+        }
+    }
+
+    private void sendRevenueSummary()
+    {
+        isRevenueSummaryScheduled = false;
+
+        if ( revenueAggregator.isWindowEmpty() ) return;
+
+        try
+        {
+            fireWindowEvent( "OnAdRevenueSummaryEvent", revenueAggregator.drainWindow().toString() );
+        }
+        catch ( JSONException ex )
+        {
+            e( "Failed to serialize revenue summary: " + ex );
+        }
     }
 
     @Override
@@ -505,7 +1562,25 @@ public class AppLovinMAX
             name = "OnRewardedAdDisplayedEvent";
         }
 
-        fireWindowEvent( name, getAdInfo( ad ) );
+        final AdUnitState state = adUnitStates.get( ad.getAdUnitId() );
+        if ( state != null )
+        {
+            final long showLatencyMillis = consumeElapsedMillis( state.showStartTimeMillis );
+            state.showStartTimeMillis = 0;
+
+            if ( showLatencyMillis >= 0 )
+            {
+                performanceMetrics.recordShow( ad.getAdUnitId(), ad.getNetworkName(), showLatencyMillis );
+            }
+        }
+
+        clearReady( ad.getAdUnitId() );
+        adPreloader.onAdDisplayed( ad.getAdUnitId() );
+
+        final StringBuilder adInfo = AdInfoSerializer.adInfo( ad );
+        pendingShowCallbacks.resolve( ad.getAdUnitId(), adInfo );
+
+        fireWindowEvent( name, adInfo );
     }
 
     @Override
@@ -525,14 +1600,21 @@ public class AppLovinMAX
             name = "OnRewardedAdFailedToDisplayEvent";
         }
 
-        try
+        final AdUnitState state = adUnitStates.get( ad.getAdUnitId() );
+        if ( state != null )
         {
-            JSONObject params = getAdInfo( ad );
-            params.put( "errorCode", Integer.toString( error.getCode() ) );
-            // TODO: Add "code", "message"
-            fireWindowEvent( name, params );
+            state.showStartTimeMillis = 0;
         }
-        catch ( Throwable ignored ) { }
+
+        updateLoadState( ad.getAdUnitId(), AdUnitState.LoadState.SHOWING, AdUnitState.LoadState.IDLE );
+        clearReady( ad.getAdUnitId() );
+        adPreloader.onAdClosed( ad.getAdUnitId() );
+
+        final StringBuilder adInfo = AdInfoSerializer.adInfo( ad, error );
+        pendingShowCallbacks.reject( ad.getAdUnitId(), adInfo );
+
+        // TODO: Add "code", "message"
+        fireWindowEvent( name, adInfo );
     }
 
     @Override
@@ -552,7 +1634,11 @@ public class AppLovinMAX
             name = "OnRewardedAdHiddenEvent";
         }
 
-        fireWindowEvent( name, getAdInfo( ad ) );
+        updateLoadState( ad.getAdUnitId(), AdUnitState.LoadState.SHOWING, AdUnitState.LoadState.IDLE );
+        clearReady( ad.getAdUnitId() );
+        adPreloader.onAdClosed( ad.getAdUnitId() );
+
+        fireWindowEvent( name, AdInfoSerializer.adInfo( ad ) );
     }
 
     @Override
@@ -565,7 +1651,7 @@ public class AppLovinMAX
             return;
         }
 
-        fireWindowEvent( ( MaxAdFormat.MREC == adFormat ) ? "OnMRecAdExpandedEvent" : "OnBannerAdExpandedEvent", getAdInfo( ad ) );
+        fireWindowEvent( ( MaxAdFormat.MREC == adFormat ) ? "OnMRecAdExpandedEvent" : "OnBannerAdExpandedEvent", AdInfoSerializer.adInfo( ad ) );
     }
 
     @Override
@@ -578,7 +1664,7 @@ public class AppLovinMAX
             return;
         }
 
-        fireWindowEvent( ( MaxAdFormat.MREC == adFormat ) ? "OnMRecAdCollapsedEvent" : "OnBannerAdCollapsedEvent", getAdInfo( ad ) );
+        fireWindowEvent( ( MaxAdFormat.MREC == adFormat ) ? "OnMRecAdCollapsedEvent" : "OnBannerAdCollapsedEvent", AdInfoSerializer.adInfo( ad ) );
     }
 
     @Override
@@ -594,14 +1680,7 @@ public class AppLovinMAX
         final String rewardLabel = reward != null ? reward.getLabel() : "";
         final int rewardAmount = reward != null ? reward.getAmount() : 0;
 
-        try
-        {
-            JSONObject params = getAdInfo( ad );
-            params.put( "rewardLabel", rewardLabel );
-            params.put( "rewardAmount", rewardAmount );
-            fireWindowEvent( "OnRewardedAdReceivedRewardEvent", params );
-        }
-        catch ( Throwable ignored ) { }
+        fireWindowEvent( "OnRewardedAdReceivedRewardEvent", AdInfoSerializer.adInfo( ad, rewardLabel, rewardAmount ) );
     }
 
     // INTERNAL METHODS
@@ -609,15 +1688,33 @@ public class AppLovinMAX
     private void createAdView(final String adUnitId, final MaxAdFormat adFormat, final String adViewPosition, final CallbackContext callbackContext)
     {
         // Run on main thread to ensure there are no concurrency issues with other ad view methods
-        getCurrentActivity().runOnUiThread( () -> {
+        runOnUiThread( () -> {
 
             d( "Creating " + adFormat.getLabel() + " with ad unit id \"" + adUnitId + "\" and position: \"" + adViewPosition + "\"" );
 
+            // The ad view survived a page reload (or was created twice), so keep showing its current ad instead of loading a new one
+            final AdUnitState existingState = adUnitStates.get( adUnitId );
+            if ( existingState != null && existingState.adView != null && existingState.adView.getParent() != null )
+            {
+                d( adFormat.getLabel() + " with ad unit id \"" + adUnitId + "\" already exists, reusing it" );
+
+                if ( adViewPosition != null && !adViewPosition.equals( existingState.adViewPosition ) )
+                {
+                    existingState.adViewPosition = adViewPosition;
+                    existingState.isAdViewLayoutCurrent = false;
+                    positionAdView( adUnitId, existingState.adViewFormat );
+                }
+
+                callbackContext.success();
+                return;
+            }
+
             // Retrieve ad view from the map
             final MaxAdView adView = retrieveAdView( adUnitId, adFormat, adViewPosition );
             if ( adView == null )
             {
                 e( adFormat.getLabel() + " does not exist" );
+                callbackContext.error( adFormat.getLabel() + " does not exist" );
                 return;
             }
 
@@ -625,24 +1722,50 @@ public class AppLovinMAX
 
             if ( adView.getParent() == null )
             {
-                final Activity currentActivity = getCurrentActivity();
-                final RelativeLayout relativeLayout = new RelativeLayout( currentActivity );
-                currentActivity.addContentView( relativeLayout, new LinearLayout.LayoutParams( LinearLayout.LayoutParams.MATCH_PARENT,
-                                                                                               LinearLayout.LayoutParams.MATCH_PARENT ) );
-                relativeLayout.addView( adView );
+                adViewOverlay.attach( getCurrentActivity(), adView );
 
                 // Position ad view immediately so if publisher sets color before ad loads, it will not be the size of the screen
-                mAdViewAdFormats.put( adUnitId, adFormat );
+                adUnitStates.get( adUnitId ).adViewFormat = adFormat;
                 positionAdView( adUnitId, adFormat );
             }
 
-            adView.loadAd();
+            runAfterSettingsWrite( () -> runOnUiThread( () -> {
+
+                // The ad view may have been destroyed while the settings were written
+                final AdUnitState currentState = adUnitStates.get( adUnitId );
+                if ( currentState == null || currentState.adView != adView ) return;
+
+                loadScheduler.schedule( adUnitId, adFormat, () -> {
+                    markLoadStarted( adUnitId );
+                    adView.loadAd();
+                } );
+            } ) );
 
             // The publisher may have requested to show the banner before it was created. Now that the banner is created, show it.
-            if ( mAdUnitIdsToShowAfterCreate.contains( adUnitId ) )
+            final AdUnitState state = adUnitStates.get( adUnitId );
+            if ( state.showAdViewAfterCreate )
             {
+                state.showAdViewAfterCreate = false;
                 showAdView( adUnitId, adFormat, null );
-                mAdUnitIdsToShowAfterCreate.remove( adUnitId );
+            }
+
+            callbackContext.success();
+        } );
+    }
+
+    private void setPreloadEnabled(final String adUnitId, final MaxAdFormat adFormat, final boolean enabled, final CallbackContext callbackContext)
+    {
+        runOnUiThread( () -> {
+
+            d( ( enabled ? "Enabling" : "Disabling" ) + " preloading of " + adFormat.getLabel() + " with ad unit id \"" + adUnitId + "\"" );
+
+            if ( enabled )
+            {
+                adPreloader.enable( adUnitId, adFormat );
+            }
+            else
+            {
+                adPreloader.disable( adUnitId );
             }
 
             callbackContext.success();
@@ -651,7 +1774,7 @@ public class AppLovinMAX
 
     private void setAdViewPlacement(final String adUnitId, final MaxAdFormat adFormat, final String placement, final CallbackContext callbackContext)
     {
-        getCurrentActivity().runOnUiThread( () -> {
+        runOnUiThread( () -> {
 
             d( "Setting placement \"" + placement + "\" for " + adFormat.getLabel() + " with ad unit id \"" + adUnitId + "\"" );
 
@@ -659,6 +1782,7 @@ public class AppLovinMAX
             if ( adView == null )
             {
                 e( adFormat.getLabel() + " does not exist" );
+                callbackContext.error( adFormat.getLabel() + " does not exist" );
                 return;
             }
 
@@ -670,7 +1794,7 @@ public class AppLovinMAX
 
     private void updateAdViewPosition(final String adUnitId, final String adViewPosition, final MaxAdFormat adFormat, final CallbackContext callbackContext)
     {
-        getCurrentActivity().runOnUiThread( () -> {
+        runOnUiThread( () -> {
 
             d( "Updating " + adFormat.getLabel() + " position to \"" + adViewPosition + "\" for ad unit id \"" + adUnitId + "\"" );
 
@@ -679,14 +1803,20 @@ public class AppLovinMAX
             if ( adView == null )
             {
                 e( adFormat.getLabel() + " does not exist" );
+                callbackContext.error( adFormat.getLabel() + " does not exist" );
                 return;
             }
 
             // Check if the previous position is same as the new position. If so, no need to update the position again.
-            final String previousPosition = mAdViewPositions.get( adUnitId );
-            if ( adViewPosition == null || adViewPosition.equals( previousPosition ) ) return;
+            final AdUnitState state = adUnitStates.get( adUnitId );
+            if ( adViewPosition == null || adViewPosition.equals( state.adViewPosition ) )
+            {
+                callbackContext.success();
+                return;
+            }
 
-            mAdViewPositions.put( adUnitId, adViewPosition );
+            state.adViewPosition = adViewPosition;
+            state.isAdViewLayoutCurrent = false;
             positionAdView( adUnitId, adFormat );
 
             callbackContext.success();
@@ -695,7 +1825,7 @@ public class AppLovinMAX
 
     private void showAdView(final String adUnitId, final MaxAdFormat adFormat, @Nullable final CallbackContext callbackContext)
     {
-        getCurrentActivity().runOnUiThread( () -> {
+        runOnUiThread( () -> {
 
             d( "Showing " + adFormat.getLabel() + " with ad unit id \"" + adUnitId + "\"" );
 
@@ -705,7 +1835,13 @@ public class AppLovinMAX
                 e( adFormat.getLabel() + " does not exist for ad unit id " + adUnitId );
 
                 // The adView has not yet been created. Store the ad unit ID, so that it can be displayed once the banner has been created.
-                mAdUnitIdsToShowAfterCreate.add( adUnitId );
+                getOrCreateAdUnitState( adUnitId ).showAdViewAfterCreate = true;
+
+                if ( callbackContext != null )
+                {
+                    callbackContext.success();
+                }
+
                 return;
             }
 
@@ -721,20 +1857,28 @@ public class AppLovinMAX
 
     private void hideAdView(final String adUnitId, final MaxAdFormat adFormat, final CallbackContext callbackContext)
     {
-        getCurrentActivity().runOnUiThread( () -> {
+        runOnUiThread( () -> {
 
             d( "Hiding " + adFormat.getLabel() + " with ad unit id \"" + adUnitId + "\"" );
-            mAdUnitIdsToShowAfterCreate.remove( adUnitId );
+
+            final AdUnitState state = adUnitStates.get( adUnitId );
+            if ( state != null && state.showAdViewAfterCreate )
+            {
+                state.showAdViewAfterCreate = false;
+                removeAdUnitStateIfEmpty( state );
+            }
 
             final MaxAdView adView = retrieveAdView( adUnitId, adFormat );
             if ( adView == null )
             {
                 e( adFormat.getLabel() + " does not exist" );
+                callbackContext.error( adFormat.getLabel() + " does not exist" );
                 return;
             }
 
             adView.setVisibility( View.GONE );
             adView.stopAutoRefresh();
+            state.isAdViewAutoRefreshPaused = false;
 
             callbackContext.success();
         } );
@@ -742,7 +1886,7 @@ public class AppLovinMAX
 
     private void destroyAdView(final String adUnitId, final MaxAdFormat adFormat, final CallbackContext callbackContext)
     {
-        getCurrentActivity().runOnUiThread( () -> {
+        runOnUiThread( () -> {
 
             d( "Destroying " + adFormat.getLabel() + " with ad unit id \"" + adUnitId + "\"" );
 
@@ -750,22 +1894,25 @@ public class AppLovinMAX
             if ( adView == null )
             {
                 e( adFormat.getLabel() + " does not exist" );
+                callbackContext.error( adFormat.getLabel() + " does not exist" );
                 return;
             }
 
-            final ViewParent parent = adView.getParent();
-            if ( parent instanceof ViewGroup )
-            {
-                ( (ViewGroup) parent ).removeView( adView );
-            }
+            loadScheduler.cancel( adUnitId );
+            adViewOverlay.detach( adView );
 
             adView.setListener( null );
+            adView.setRevenueListener( null );
             adView.destroy();
 
-            mAdViews.remove( adUnitId );
-            mAdViewAdFormats.remove( adUnitId );
-            mAdViewPositions.remove( adUnitId );
-            mVerticalAdViewFormats.remove( adUnitId );
+            final AdUnitState state = adUnitStates.get( adUnitId );
+            state.adView = null;
+            state.adViewFormat = null;
+            state.adViewPosition = null;
+            state.isAdViewVertical = false;
+            state.isAdViewLayoutCurrent = false;
+            state.isAdViewAutoRefreshPaused = false;
+            removeAdUnitStateIfEmpty( state );
 
             callbackContext.success();
         } );
@@ -773,7 +1920,7 @@ public class AppLovinMAX
 
     private void setAdViewBackgroundColor(final String adUnitId, final MaxAdFormat adFormat, final String hexColorCode, final CallbackContext callbackContext)
     {
-        getCurrentActivity().runOnUiThread( () -> {
+        runOnUiThread( () -> {
 
             d( "Setting " + adFormat.getLabel() + " with ad unit id \"" + adUnitId + "\" to color: " + hexColorCode );
 
@@ -781,6 +1928,7 @@ public class AppLovinMAX
             if ( adView == null )
             {
                 e( adFormat.getLabel() + " does not exist" );
+                callbackContext.error( adFormat.getLabel() + " does not exist" );
                 return;
             }
 
@@ -792,7 +1940,7 @@ public class AppLovinMAX
 
     private void setAdViewExtraParameters(final String adUnitId, final MaxAdFormat adFormat, final String key, final String value, final CallbackContext callbackContext)
     {
-        getCurrentActivity().runOnUiThread( () -> {
+        runOnUiThread( () -> {
 
             d( "Setting " + adFormat.getLabel() + " extra with key: \"" + key + "\" value: " + value );
 
@@ -801,82 +1949,461 @@ public class AppLovinMAX
             if ( adView == null )
             {
                 e( adFormat.getLabel() + " does not exist" );
+                callbackContext.error( adFormat.getLabel() + " does not exist" );
                 return;
             }
 
-            adView.setExtraParameter( key, value );
+            adView.setExtraParameter( key, value );
+
+            // Handle local changes as needed
+            if ( "force_banner".equalsIgnoreCase( key ) && MaxAdFormat.MREC != adFormat )
+            {
+                final MaxAdFormat forcedAdFormat;
+
+                boolean shouldForceBanner = Boolean.parseBoolean( value );
+                if ( shouldForceBanner )
+                {
+                    forcedAdFormat = MaxAdFormat.BANNER;
+                }
+                else
+                {
+                    forcedAdFormat = getDeviceSpecificBannerAdViewAdFormat();
+                }
+
+                final AdUnitState state = adUnitStates.get( adUnitId );
+                state.adViewFormat = forcedAdFormat;
+                state.isAdViewLayoutCurrent = false;
+                positionAdView( adUnitId, forcedAdFormat );
+            }
+
+            callbackContext.success();
+        } );
+    }
+
+    private void logInvalidAdFormat(MaxAdFormat adFormat)
+    {
+        logStackTrace( new IllegalStateException( "invalid ad format: " + adFormat ) );
+    }
+
+    private void logStackTrace(Exception e)
+    {
+        e( Log.getStackTraceString( e ) );
+    }
+
+    public static void d(final String message)
+    {
+        final String fullMessage = "[" + TAG + "] " + message;
+        Log.d( SDK_TAG, fullMessage );
+    }
+
+    public static void e(final String message)
+    {
+        final String fullMessage = "[" + TAG + "] " + message;
+        Log.e( SDK_TAG, fullMessage );
+    }
+
+    private AdUnitState getOrCreateAdUnitState(final String adUnitId)
+    {
+        return adUnitStates.computeIfAbsent( adUnitId, AdUnitState::new );
+    }
+
+    /**
+     * Drop the state from the registry if it no longer holds any ad. Atomic with respect to fullscreen ads being installed for the same ad
+     * unit, which happens under the state's monitor.
+     */
+    private void removeAdUnitStateIfEmpty(final AdUnitState state)
+    {
+        adUnitStates.computeIfPresent( state.adUnitId, (adUnitId, existingState) -> {
+
+            synchronized ( existingState )
+            {
+                if ( !existingState.isEmpty() ) return existingState;
+
+                existingState.isRemoved = true;
+                return null;
+            }
+        } );
+    }
+
+    /**
+     * Load the ad unit's fullscreen ad, unless a load is already outstanding (the request is coalesced into it and completes with its
+     * events) or the ad unit already has a ready ad.
+     *
+     * @return {@code false} if no load was needed because the ad unit already has a ready ad.
+     */
+    private boolean loadFullscreenAd(final String adUnitId, final MaxAdFormat adFormat)
+    {
+        return loadFullscreenAd( adUnitId, adFormat, false );
+    }
+
+    /**
+     * Load the ad unit's fullscreen ad on behalf of a JS call, whose callback is completed once the load (or the load it was coalesced into)
+     * finishes, or right away if the ad unit already has a ready ad.
+     */
+    private void loadFullscreenAd(final String adUnitId, final MaxAdFormat adFormat, final CallbackContext callbackContext)
+    {
+        pendingLoadCallbacks.add( adUnitId, callbackContext );
+
+        try
+        {
+            if ( loadFullscreenAd( adUnitId, adFormat ) ) return;
+        }
+        catch ( RuntimeException ex )
+        {
+            // Leave the callback to the worker, which fails the call
+            pendingLoadCallbacks.remove( adUnitId, callbackContext );
+            throw ex;
+        }
+
+        final AdUnitState state = adUnitStates.get( adUnitId );
+        final long readyTimeMillis;
+        if ( state != null )
+        {
+            synchronized ( state )
+            {
+                readyTimeMillis = state.readyTimeMillis;
+            }
+        }
+        else
+        {
+            readyTimeMillis = 0;
+        }
+
+        final long loadedAgoMillis = ( readyTimeMillis > 0 ) ? SystemClock.elapsedRealtime() - readyTimeMillis : 0;
+        pendingLoadCallbacks.resolve( adUnitId, AdInfoSerializer.readiness( adUnitId, true, Math.max( 0, adExpiryEstimateMillis - loadedAgoMillis ) ) );
+    }
+
+    /**
+     * Show the ad unit's fullscreen ad on behalf of a JS call, whose callback is completed once the SDK reports the ad displayed or failed
+     * to display.
+     */
+    private void showFullscreenAd(final String adUnitId, final MaxAdFormat adFormat, final String placement, final CallbackContext callbackContext)
+    {
+        pendingShowCallbacks.add( adUnitId, callbackContext );
+
+        try
+        {
+            writePendingSettings();
+            AdBackend.FullscreenAd fullscreenAd = ( MaxAdFormat.INTERSTITIAL == adFormat ) ? retrieveInterstitial( adUnitId ) : retrieveRewardedAd( adUnitId );
+            markShowStarted( adUnitId );
+            updateLoadState( adUnitId, AdUnitState.LoadState.READY, AdUnitState.LoadState.SHOWING );
+            fullscreenAd.showAd( placement );
+        }
+        catch ( RuntimeException ex )
+        {
+            // Leave the callback to the worker, which fails the call
+            if ( pendingShowCallbacks.remove( adUnitId, callbackContext ) )
+            {
+                updateLoadState( adUnitId, AdUnitState.LoadState.SHOWING, AdUnitState.LoadState.READY );
+            }
+
+            throw ex;
+        }
+    }
+
+    /**
+     * @param isRefresh Whether to load a new ad even if the ad unit already has a ready one, e.g. because it is about to expire.
+     */
+    private boolean loadFullscreenAd(final String adUnitId, final MaxAdFormat adFormat, final boolean isRefresh)
+    {
+        final AdBackend.FullscreenAd interstitial = ( MaxAdFormat.INTERSTITIAL == adFormat ) ? retrieveInterstitial( adUnitId ) : null;
+        final AdBackend.FullscreenAd rewardedAd = ( interstitial == null ) ? retrieveRewardedAd( adUnitId ) : null;
+        final AdUnitState state = adUnitStates.get( adUnitId );
+
+        // The ad may have been evicted on the main thread right after it was retrieved, in which case a new one is created
+        if ( state == null ) return loadFullscreenAd( adUnitId, adFormat, isRefresh );
+
+        synchronized ( state )
+        {
+            final boolean isEvicted = ( interstitial != null ) ? state.interstitial != interstitial : state.rewardedAd != rewardedAd;
+            if ( isEvicted ) return loadFullscreenAd( adUnitId, adFormat, isRefresh );
+
+            if ( state.loadState == AdUnitState.LoadState.LOADING )
+            {
+                coalescedLoadCount.incrementAndGet();
+                return true;
+            }
+
+            if ( state.loadState == AdUnitState.LoadState.READY && !isRefresh )
+            {
+                final boolean isReady = ( interstitial != null ) ? interstitial.isReady() : rewardedAd.isReady();
+                if ( isReady )
+                {
+                    skippedReadyLoadCount.incrementAndGet();
+                    return false;
+                }
+
+                // The ad expired, so load a new one
+            }
+
+            state.loadState = AdUnitState.LoadState.LOADING;
+        }
+
+        // Issue the load on the main thread once the settings are written and the scheduler gets to it
+        runAfterSettingsWrite( () -> runOnUiThread( () -> loadScheduler.schedule( adUnitId, adFormat, () -> {
+
+            markLoadStarted( adUnitId );
+
+            if ( interstitial != null )
+            {
+                interstitial.loadAd();
+            }
+            else
+            {
+                rewardedAd.loadAd();
+            }
+        } ) ) );
+
+        return true;
+    }
+
+    /**
+     * Move the ad unit's fullscreen load state to {@code toState} if it is currently in {@code fromState}, or in any state if it is null.
+     */
+    private void updateLoadState(final String adUnitId, @Nullable final AdUnitState.LoadState fromState, final AdUnitState.LoadState toState)
+    {
+        final AdUnitState state = adUnitStates.get( adUnitId );
+        if ( state == null ) return;
+
+        synchronized ( state )
+        {
+            if ( fromState == null || state.loadState == fromState )
+            {
+                state.loadState = toState;
+            }
+        }
+    }
+
+    /**
+     * Record that a new fullscreen ad of the ad unit is ready, push the readiness to JS and schedule a reload shortly before the ad is
+     * expected to expire.
+     */
+    private void markReady(final String adUnitId)
+    {
+        final AdUnitState state = adUnitStates.get( adUnitId );
+        if ( state == null ) return;
+
+        final long readyTimeMillis = SystemClock.elapsedRealtime();
+        final long expiryEstimateMillis = adExpiryEstimateMillis;
+
+        synchronized ( state )
+        {
+            state.readyTimeMillis = readyTimeMillis;
+        }
+
+        fireWindowEvent( "OnAdReadinessChangedEvent", AdInfoSerializer.readiness( adUnitId, true, expiryEstimateMillis ) );
+
+        // Refresh at 90% of the expected lifetime so a show never lands on an expired ad
+        mainHandler.removeCallbacksAndMessages( state );
+        mainHandler.postAtTime( () -> refreshExpiringAd( adUnitId, readyTimeMillis ), state, SystemClock.uptimeMillis() + expiryEstimateMillis * 9 / 10 );
+    }
+
+    /**
+     * Record that the ad unit no longer has a fullscreen ad that can be shown and push that to JS, if it had one.
+     */
+    private void clearReady(final String adUnitId)
+    {
+        final AdUnitState state = adUnitStates.get( adUnitId );
+        if ( state == null ) return;
+
+        synchronized ( state )
+        {
+            if ( state.readyTimeMillis == 0 ) return;
+
+            state.readyTimeMillis = 0;
+        }
+
+        mainHandler.removeCallbacksAndMessages( state );
+
+        fireWindowEvent( "OnAdReadinessChangedEvent", AdInfoSerializer.readiness( adUnitId, false, 0 ) );
+    }
+
+    private void refreshExpiringAd(final String adUnitId, final long readyTimeMillis)
+    {
+        final AdUnitState state = adUnitStates.get( adUnitId );
+        if ( state == null ) return;
+
+        synchronized ( state )
+        {
+            // The ad was shown or replaced in the meantime
+            if ( state.readyTimeMillis != readyTimeMillis ) return;
+        }
+
+        d( "Refreshing fullscreen ad with ad unit id \"" + adUnitId + "\" before it expires" );
+
+        loadFullscreenAd( adUnitId, ( state.interstitial != null ) ? MaxAdFormat.INTERSTITIAL : MaxAdFormat.REWARDED, true );
+    }
+
+    /**
+     * Destroy idle fullscreen ads, least recently used first, until at most {@code maxIdleAds} remain. Ads are idle if they are not
+     * loading, ready or showing and their ad unit is not preloaded. Must be called on the main thread.
+     */
+    private void evictIdleFullscreenAds(final int maxIdleAds)
+    {
+        final List<AdUnitState> idleStates = new ArrayList<>();
+        for ( AdUnitState state : adUnitStates.values() )
+        {
+            if ( state.interstitial == null && state.rewardedAd == null ) continue;
+            if ( adPreloader.isPreloading( state.adUnitId ) ) continue;
+
+            synchronized ( state )
+            {
+                if ( state.loadState != AdUnitState.LoadState.IDLE || state.readyTimeMillis > 0 ) continue;
+            }
+
+            idleStates.add( state );
+        }
+
+        if ( idleStates.size() <= maxIdleAds ) return;
+
+        Collections.sort( idleStates, (state1, state2) -> Long.compare( state1.lastUsedTimeMillis, state2.lastUsedTimeMillis ) );
+
+        int evictedCount = 0;
+        for ( int i = 0; i < idleStates.size() - maxIdleAds; i++ )
+        {
+            if ( evictFullscreenAd( idleStates.get( i ) ) ) evictedCount++;
+        }
+
+        evictedFullscreenAdCount += evictedCount;
+
+        d( "Evicted " + evictedCount + " idle fullscreen ad(s) to free memory" );
+    }
+
+    /**
+     * @return Whether the ad was destroyed, which is not the case if a load started since it was found idle.
+     */
+    private boolean evictFullscreenAd(final AdUnitState state)
+    {
+        final AdBackend.FullscreenAd interstitial;
+        final AdBackend.FullscreenAd rewardedAd;
+
+        synchronized ( state )
+        {
+            if ( state.loadState != AdUnitState.LoadState.IDLE || state.readyTimeMillis > 0 ) return false;
 
-            // Handle local changes as needed
-            if ( "force_banner".equalsIgnoreCase( key ) && MaxAdFormat.MREC != adFormat )
-            {
-                final MaxAdFormat forcedAdFormat;
+            interstitial = state.interstitial;
+            rewardedAd = state.rewardedAd;
+            state.interstitial = null;
+            state.rewardedAd = null;
+        }
 
-                boolean shouldForceBanner = Boolean.parseBoolean( value );
-                if ( shouldForceBanner )
-                {
-                    forcedAdFormat = MaxAdFormat.BANNER;
-                }
-                else
-                {
-                    forcedAdFormat = getDeviceSpecificBannerAdViewAdFormat();
-                }
+        if ( interstitial != null )
+        {
+            interstitial.destroy();
+        }
 
-                mAdViewAdFormats.put( adUnitId, forcedAdFormat );
-                positionAdView( adUnitId, forcedAdFormat );
-            }
+        if ( rewardedAd != null )
+        {
+            rewardedAd.destroy();
+        }
 
-            callbackContext.success();
-        } );
+        removeAdUnitStateIfEmpty( state );
+
+        return true;
     }
 
-    private void logInvalidAdFormat(MaxAdFormat adFormat)
+    private static boolean isFullscreenAdReady(final AdUnitState state)
     {
-        logStackTrace( new IllegalStateException( "invalid ad format: " + adFormat ) );
+        final AdBackend.FullscreenAd interstitial = state.interstitial;
+        if ( interstitial != null ) return interstitial.isReady();
+
+        final AdBackend.FullscreenAd rewardedAd = state.rewardedAd;
+        return rewardedAd != null && rewardedAd.isReady();
     }
 
-    private void logStackTrace(Exception e)
+    private void markLoadStarted(final String adUnitId)
     {
-        e( Log.getStackTraceString( e ) );
+        final AdUnitState state = adUnitStates.get( adUnitId );
+        if ( state != null )
+        {
+            state.loadStartTimeMillis = SystemClock.elapsedRealtime();
+        }
     }
 
-    public static void d(final String message)
+    private void markShowStarted(final String adUnitId)
     {
-        final String fullMessage = "[" + TAG + "] " + message;
-        Log.d( SDK_TAG, fullMessage );
+        final AdUnitState state = adUnitStates.get( adUnitId );
+        if ( state != null )
+        {
+            state.showStartTimeMillis = SystemClock.elapsedRealtime();
+        }
     }
 
-    public static void e(final String message)
+    /**
+     * @return The milliseconds elapsed since the given {@link SystemClock#elapsedRealtime()} timestamp, or -1 if it is unset (0).
+     */
+    private static long consumeElapsedMillis(final long startTimeMillis)
     {
-        final String fullMessage = "[" + TAG + "] " + message;
-        Log.e( SDK_TAG, fullMessage );
+        return ( startTimeMillis > 0 ) ? SystemClock.elapsedRealtime() - startTimeMillis : -1;
     }
 
-    private MaxInterstitialAd retrieveInterstitial(String adUnitId)
+    AdBackend.FullscreenAd retrieveInterstitial(String adUnitId)
     {
-        MaxInterstitialAd result = mInterstitials.get( adUnitId );
-        if ( result == null )
+        final AdUnitState existingState = adUnitStates.get( adUnitId );
+        final AdBackend.FullscreenAd existingInterstitial = ( existingState != null ) ? existingState.interstitial : null;
+        if ( existingInterstitial != null )
         {
-            result = new MaxInterstitialAd( adUnitId, sdk, getCurrentActivity() );
-            result.setListener( this );
+            existingState.lastUsedTimeMillis = SystemClock.elapsedRealtime();
+            return existingInterstitial;
+        }
+
+        // Created outside of any lock, as creating an ad calls into the SDK
+        return installFullscreenAd( adUnitId, adBackend.createInterstitial( adUnitId, getCurrentActivity(), this, this ), false );
+    }
 
-            mInterstitials.put( adUnitId, result );
+    private AdBackend.FullscreenAd retrieveRewardedAd(String adUnitId)
+    {
+        final AdUnitState existingState = adUnitStates.get( adUnitId );
+        final AdBackend.FullscreenAd existingRewardedAd = ( existingState != null ) ? existingState.rewardedAd : null;
+        if ( existingRewardedAd != null )
+        {
+            existingState.lastUsedTimeMillis = SystemClock.elapsedRealtime();
+            return existingRewardedAd;
         }
 
-        return result;
+        return installFullscreenAd( adUnitId, adBackend.createRewardedAd( adUnitId, getCurrentActivity(), this, this ), true );
     }
 
-    private MaxRewardedAd retrieveRewardedAd(String adUnitId)
+    /**
+     * Store a newly created fullscreen ad in the ad unit's state, unless a concurrent call from the WebCore or main thread stored one first,
+     * in which case the new ad is discarded.
+     *
+     * @return The ad unit's fullscreen ad of the given kind.
+     */
+    private AdBackend.FullscreenAd installFullscreenAd(final String adUnitId, final AdBackend.FullscreenAd createdAd, final boolean isRewarded)
     {
-        MaxRewardedAd result = mRewardedAds.get( adUnitId );
-        if ( result == null )
+        while ( true )
         {
-            result = MaxRewardedAd.getInstance( adUnitId, sdk, getCurrentActivity() );
-            result.setListener( this );
+            final AdUnitState state = getOrCreateAdUnitState( adUnitId );
+            final AdBackend.FullscreenAd existingAd;
 
-            mRewardedAds.put( adUnitId, result );
-        }
+            synchronized ( state )
+            {
+                // Dropped from the registry since it was looked up, so retry with its replacement
+                if ( state.isRemoved ) continue;
 
-        return result;
+                state.lastUsedTimeMillis = SystemClock.elapsedRealtime();
+
+                existingAd = isRewarded ? state.rewardedAd : state.interstitial;
+                if ( existingAd == null )
+                {
+                    if ( isRewarded )
+                    {
+                        state.rewardedAd = createdAd;
+                    }
+                    else
+                    {
+                        state.interstitial = createdAd;
+                    }
+
+                    return createdAd;
+                }
+            }
+
+            createdAd.discard();
+
+            return existingAd;
+        }
     }
 
     private MaxAdView retrieveAdView(String adUnitId, MaxAdFormat adFormat)
@@ -886,14 +2413,16 @@ public class AppLovinMAX
 
     public MaxAdView retrieveAdView(String adUnitId, MaxAdFormat adFormat, String adViewPosition)
     {
-        MaxAdView result = mAdViews.get( adUnitId );
+        final AdUnitState state = ( adViewPosition != null ) ? getOrCreateAdUnitState( adUnitId ) : adUnitStates.get( adUnitId );
+        if ( state == null ) return null;
+
+        MaxAdView result = state.adView;
         if ( result == null && adViewPosition != null )
         {
-            result = new MaxAdView( adUnitId, adFormat, sdk, getCurrentActivity() );
-            result.setListener( this );
+            result = adBackend.createAdView( adUnitId, adFormat, getCurrentActivity(), this, this );
 
-            mAdViews.put( adUnitId, result );
-            mAdViewPositions.put( adUnitId, adViewPosition );
+            state.adView = result;
+            state.adViewPosition = adViewPosition;
         }
 
         return result;
@@ -904,148 +2433,121 @@ public class AppLovinMAX
         positionAdView( ad.getAdUnitId(), ad.getFormat() );
     }
 
-    private void positionAdView(String adUnitId, MaxAdFormat adFormat)
+    void positionAdView(String adUnitId, MaxAdFormat adFormat)
     {
-        final MaxAdView adView = retrieveAdView( adUnitId, adFormat );
+        final AdUnitState state = adUnitStates.get( adUnitId );
+        final MaxAdView adView = ( state != null ) ? state.adView : null;
         if ( adView == null )
         {
             e( adFormat.getLabel() + " does not exist" );
             return;
         }
 
-        final String adViewPosition = mAdViewPositions.get( adUnitId );
-        final RelativeLayout relativeLayout = (RelativeLayout) adView.getParent();
-        if ( relativeLayout == null )
+        final String adViewPosition = state.adViewPosition;
+        final ViewGroup container = (ViewGroup) adView.getParent();
+        if ( container == null )
         {
             e( adFormat.getLabel() + "'s parent does not exist" );
             return;
         }
 
+        final AdViewPositionSpec spec = AdViewPositionSpec.get( adViewPosition, adFormat );
+
         // Size the ad
+        final Context context = getCurrentActivity();
         final AdViewSize adViewSize = getAdViewSize( adFormat );
-        final int width = AppLovinSdkUtils.dpToPx( getCurrentActivity(), adViewSize.widthDp );
-        final int height = AppLovinSdkUtils.dpToPx( getCurrentActivity(), adViewSize.heightDp );
+        final int width = adViewSize.getWidthPx( context );
+        final int height = adViewSize.getHeightPx( context );
 
-        final RelativeLayout.LayoutParams params = (RelativeLayout.LayoutParams) adView.getLayoutParams();
+        final FrameLayout.LayoutParams params = (FrameLayout.LayoutParams) adView.getLayoutParams();
+        params.width = spec.isWidthMatchParent ? FrameLayout.LayoutParams.MATCH_PARENT : width;
         params.height = height;
-        adView.setLayoutParams( params );
-
-        // Parse gravity
-        int gravity = 0;
-
-        // Reset rotation, translation and margins so that the banner can be positioned again
-        adView.setRotation( 0 );
-        adView.setTranslationX( 0 );
-        params.setMargins( 0, 0, 0, 0 );
-        mVerticalAdViewFormats.remove( adUnitId );
-
-        if ( "centered".equalsIgnoreCase( adViewPosition ) )
-        {
-            gravity = Gravity.CENTER_VERTICAL | Gravity.CENTER_HORIZONTAL;
+        params.gravity = spec.gravity;
+
+        if ( spec.isRotated )
+        {
+            // For banners, set the width to the height of the screen to span the ad across the screen after it is rotated.
+            // Android by default clips a view bounds if it goes over the size of the screen. We can overcome it by setting negative margins to match our required size.
+
+            /* Align the center of the view such that when rotated it snaps into place.
+             *
+             *                  +---+---+-------+
+             *                  |   |           |
+             *                  |   |           |
+             *                  |   |           |
+             *                  |   |           |
+             *                  |   |           |
+             *                  |   |           |
+             *    +-------------+---+-----------+--+
+             *    |             | + |   +       |  |
+             *    +-------------+---+-----------+--+
+             *                  |   |           |
+             *                  | ^ |   ^       |
+             *                  | +-----+       |
+             *                  Translation     |
+             *                  |   |           |
+             *                  |   |           |
+             *                  +---+-----------+
+             */
+            container.getWindowVisibleDisplayFrame( windowRect );
+
+            final int windowWidth = windowRect.width();
+            final int windowHeight = windowRect.height();
+            final int longSide = Math.max( windowWidth, windowHeight );
+            final int shortSide = Math.min( windowWidth, windowHeight );
+            final int margin = ( longSide - shortSide ) / 2;
+            params.setMargins( -margin, 0, -margin, 0 );
+
+            // The view is now at the center of the screen and so is it's pivot point. Move its center such that when rotated, it snaps into the vertical position we need.
+            final int translationRaw = ( windowWidth / 2 ) - ( height / 2 );
+            adView.setTranslationX( spec.translationDirection * translationRaw );
+
+            // We have the view's center in the correct position. Now rotate it to snap into place.
+            adView.setRotation( 270 );
+
+            // Flag the ad view, so that it can be updated when the orientation changes.
+            state.isAdViewVertical = true;
         }
         else
         {
-            // Figure out vertical params
-            if ( adViewPosition.contains( "top" ) )
-            {
-                gravity = Gravity.TOP;
-            }
-            else if ( adViewPosition.contains( "bottom" ) )
-            {
-                gravity = Gravity.BOTTOM;
-            }
+            // Reset rotation, translation and margins in case the ad view was previously vertical
+            adView.setRotation( 0 );
+            adView.setTranslationX( 0 );
+            params.setMargins( 0, 0, 0, 0 );
+            state.isAdViewVertical = false;
+        }
 
-            // Figure out horizontal params
-            if ( adViewPosition.contains( "center" ) )
-            {
-                gravity |= Gravity.CENTER_HORIZONTAL;
-                params.width = ( MaxAdFormat.MREC == adFormat ) ? width : RelativeLayout.LayoutParams.MATCH_PARENT; // Stretch width if banner
+        adView.setLayoutParams( params );
 
-                // Check if the publisher wants the ad view to be vertical and update the position accordingly ('CenterLeft' or 'CenterRight').
-                final boolean containsLeft = adViewPosition.contains( "left" );
-                final boolean containsRight = adViewPosition.contains( "right" );
-                if ( containsLeft || containsRight )
-                {
-                    // First, center the ad view in the view.
-                    gravity |= Gravity.CENTER_VERTICAL;
+        // Until the position, format or window size changes, there is no need to lay out this ad view again
+        state.isAdViewLayoutCurrent = true;
+    }
 
-                    // For banners, set the width to the height of the screen to span the ad across the screen after it is rotated.
-                    // Android by default clips a view bounds if it goes over the size of the screen. We can overcome it by setting negative margins to match our required size.
-                    if ( MaxAdFormat.MREC == adFormat )
-                    {
-                        gravity |= adViewPosition.contains( "left" ) ? Gravity.LEFT : Gravity.RIGHT;
-                    }
-                    else
-                    {
-                        /* Align the center of the view such that when rotated it snaps into place.
-                         *
-                         *                  +---+---+-------+
-                         *                  |   |           |
-                         *                  |   |           |
-                         *                  |   |           |
-                         *                  |   |           |
-                         *                  |   |           |
-                         *                  |   |           |
-                         *    +-------------+---+-----------+--+
-                         *    |             | + |   +       |  |
-                         *    +-------------+---+-----------+--+
-                         *                  |   |           |
-                         *                  | ^ |   ^       |
-                         *                  | +-----+       |
-                         *                  Translation     |
-                         *                  |   |           |
-                         *                  |   |           |
-                         *                  +---+-----------+
-                         */
-                        final Rect windowRect = new Rect();
-                        relativeLayout.getWindowVisibleDisplayFrame( windowRect );
-
-                        final int windowWidth = windowRect.width();
-                        final int windowHeight = windowRect.height();
-                        final int longSide = Math.max( windowWidth, windowHeight );
-                        final int shortSide = Math.min( windowWidth, windowHeight );
-                        final int margin = ( longSide - shortSide ) / 2;
-                        params.setMargins( -margin, 0, -margin, 0 );
-
-                        // The view is now at the center of the screen and so is it's pivot point. Move its center such that when rotated, it snaps into the vertical position we need.
-                        final int translationRaw = ( windowWidth / 2 ) - ( height / 2 );
-                        final int translationX = containsLeft ? -translationRaw : translationRaw;
-                        adView.setTranslationX( translationX );
-
-                        // We have the view's center in the correct position. Now rotate it to snap into place.
-                        adView.setRotation( 270 );
-
-                        // Store the ad view with format, so that it can be updated when the orientation changes.
-                        mVerticalAdViewFormats.put( adUnitId, adFormat );
-                    }
+    /**
+     * Called when the overlay changes size, e.g. on orientation or multi-window changes. Only vertical (rotated) banners depend on the
+     * window size, so only those are laid out again, all in the same pass.
+     */
+    private void relayoutVerticalAdViews()
+    {
+        for ( AdUnitState state : adUnitStates.values() )
+        {
+            if ( state.adView == null ) continue;
 
-                    // Hack alert: For the rotation and translation to be applied correctly, need to set the background color (Unity only, similar to what we do in Cross Promo).
-                    relativeLayout.setBackgroundColor( Color.TRANSPARENT );
-                }
-            }
-            else
-            {
-                params.width = width;
+            // The window size changed, so no ad view layout can be assumed to be current anymore
+            state.isAdViewLayoutCurrent = false;
 
-                if ( adViewPosition.contains( "left" ) )
-                {
-                    gravity |= Gravity.LEFT;
-                }
-                else if ( adViewPosition.contains( "right" ) )
-                {
-                    gravity |= Gravity.RIGHT;
-                }
+            if ( state.isAdViewVertical )
+            {
+                positionAdView( state.adUnitId, state.adViewFormat );
             }
         }
-
-        relativeLayout.setGravity( gravity );
     }
 
     // Utility Methods
 
     private MaxAdFormat getDeviceSpecificBannerAdViewAdFormat()
     {
-        return getDeviceSpecificBannerAdViewAdFormat( getCurrentActivity() );
+        return isTablet( getCurrentActivity() ) ? MaxAdFormat.LEADER : MaxAdFormat.BANNER;
     }
 
     public static MaxAdFormat getDeviceSpecificBannerAdViewAdFormat(final Context context)
@@ -1055,30 +2557,60 @@ public class AppLovinMAX
 
     protected static class AdViewSize
     {
+        private static final AdViewSize LEADER = new AdViewSize( 728, 90 );
+        private static final AdViewSize BANNER = new AdViewSize( 320, 50 );
+        private static final AdViewSize MREC   = new AdViewSize( 300, 250 );
+
         public final int widthDp;
         public final int heightDp;
 
+        // Pixel sizes for the density they were last computed for. Only accessed on the main thread.
+        private float cachedDensity;
+        private int   cachedWidthPx;
+        private int   cachedHeightPx;
+
         private AdViewSize(final int widthDp, final int heightDp)
         {
             this.widthDp = widthDp;
             this.heightDp = heightDp;
         }
 
+        int getWidthPx(final Context context)
+        {
+            updatePixelSizes( context );
+            return cachedWidthPx;
+        }
+
+        int getHeightPx(final Context context)
+        {
+            updatePixelSizes( context );
+            return cachedHeightPx;
+        }
+
+        private void updatePixelSizes(final Context context)
+        {
+            final float density = context.getResources().getDisplayMetrics().density;
+            if ( density == cachedDensity ) return;
+
+            cachedWidthPx = AppLovinSdkUtils.dpToPx( context, widthDp );
+            cachedHeightPx = AppLovinSdkUtils.dpToPx( context, heightDp );
+            cachedDensity = density;
+        }
     }
 
     public static AdViewSize getAdViewSize(final MaxAdFormat format)
     {
         if ( MaxAdFormat.LEADER == format )
         {
-            return new AdViewSize( 728, 90 );
+            return AdViewSize.LEADER;
         }
         else if ( MaxAdFormat.BANNER == format )
         {
-            return new AdViewSize( 320, 50 );
+            return AdViewSize.BANNER;
         }
         else if ( MaxAdFormat.MREC == format )
         {
-            return new AdViewSize( 300, 250 );
+            return AdViewSize.MREC;
         }
         else
         {
@@ -1086,79 +2618,97 @@ public class AppLovinMAX
         }
     }
 
-    private JSONObject getAdInfo(final MaxAd ad)
+    // React Native Bridge
+
+    /**
+     * @param paramsJson Serialized event params, typically from {@link AdInfoSerializer}. Consumed before this method returns.
+     */
+    void fireWindowEvent(final String name, final CharSequence paramsJson)
     {
-        JSONObject adInfo = null;
+        firedEventCount.incrementAndGet();
 
-        try
-        {
-            adInfo = new JSONObject();
-            adInfo.put( "adUnitId", ad.getAdUnitId() );
-            adInfo.put( "creativeId", !TextUtils.isEmpty( ad.getCreativeId() ) ? ad.getCreativeId() : "" );
-            adInfo.put( "networkName", ad.getNetworkName() );
-            adInfo.put( "placement", !TextUtils.isEmpty( ad.getPlacement() ) ? ad.getPlacement() : "" );
-            adInfo.put( "revenue", ad.getRevenue() );
-        }
-        catch ( JSONException ignored ) { }
+        // Prefer the batched event channel, fall back to evaluating JS directly if it has not been attached yet
+        if ( eventChannel.send( name, paramsJson ) ) return;
+
+        final String url = new StringBuilder( FIRE_WINDOW_EVENT_PREFIX.length() + name.length() + paramsJson.length() + 5 )
+                .append( FIRE_WINDOW_EVENT_PREFIX )
+                .append( name )
+                .append( "', " )
+                .append( paramsJson )
+                .append( ");" )
+                .toString();
 
-        return adInfo;
+        getCurrentActivity().runOnUiThread( () -> webView.loadUrl( url ) );
     }
 
-    // React Native Bridge
+    // Action Dispatch
 
-    private void fireWindowEvent(final String name, final JSONObject params)
+    /**
+     * Handles a single bridge action, decoding its own arguments from the {@link JSONArray} passed to {@link #execute}.
+     */
+    public interface ActionHandler
     {
-        getCurrentActivity().runOnUiThread( () -> webView.loadUrl( "javascript:cordova.fireWindowEvent('" + name + "', " + params.toString() + ");" ) );
+        void handle(JSONArray args, CallbackContext callbackContext) throws JSONException;
     }
 
-    @Override
-    public boolean execute(final String action, final JSONArray args, final CallbackContext callbackContext) throws JSONException
+    /**
+     * Register a handler for the given action. Lookups are case-insensitive to match the previous {@code equalsIgnoreCase()} dispatch.
+     * Must be called before the plugin starts receiving actions, e.g. from the constructor.
+     */
+    public void registerAction(final String action, final ActionHandler handler)
     {
-        if ( "initialize".equalsIgnoreCase( action ) )
-        {
+        // Store both the exact name (what JS sends) and the normalized name so the common case is a single lookup without allocations
+        actionHandlers.put( action, handler );
+        actionHandlers.put( action.toLowerCase( Locale.ENGLISH ), handler );
+    }
+
+    private void registerActions()
+    {
+        registerAction( "initialize", (args, callbackContext) -> {
             String pluginVersion = args.getString( 0 );
             String sdkKey = args.getString( 1 );
             initialize( pluginVersion, sdkKey, callbackContext );
-        }
-        else if ( "showMediationDebugger".equalsIgnoreCase( action ) )
-        {
-            showMediationDebugger( callbackContext );
-        }
-        else if ( "setHasUserConsent".equalsIgnoreCase( action ) )
-        {
+        } );
+        registerAction( "registerEventChannel", (args, callbackContext) -> eventChannel.attach( callbackContext ) );
+        registerAction( "showMediationDebugger", (args, callbackContext) -> showMediationDebugger( callbackContext ) );
+        registerAction( "getDiagnostics", (args, callbackContext) -> getDiagnostics( callbackContext ) );
+        registerAction( "getPerformanceMetrics", (args, callbackContext) -> getPerformanceMetrics( args.optBoolean( 0, false ), callbackContext ) );
+        registerAction( "setWaterfallTrackingEnabled", (args, callbackContext) -> setWaterfallTrackingEnabled( args.getBoolean( 0 ), callbackContext ) );
+        registerAction( "getWaterfallMetrics", (args, callbackContext) -> getWaterfallMetrics( args.optBoolean( 0, false ), callbackContext ) );
+        registerAction( "getAdRegistry", (args, callbackContext) -> getAdRegistry( callbackContext ) );
+        registerAction( "getReadiness", (args, callbackContext) -> getReadiness( args.getJSONArray( 0 ), callbackContext ) );
+        registerAction( "setRevenueSummaryInterval", (args, callbackContext) -> setRevenueSummaryInterval( args.getLong( 0 ), callbackContext ) );
+        registerAction( "setCallbackTimeout", (args, callbackContext) -> setCallbackTimeout( args.getLong( 0 ), callbackContext ) );
+        registerAction( "setMaxIdleFullscreenAds", (args, callbackContext) -> setMaxIdleFullscreenAds( args.getInt( 0 ), callbackContext ) );
+        registerAction( "setAdExpiryEstimate", (args, callbackContext) -> setAdExpiryEstimate( args.getLong( 0 ), callbackContext ) );
+        registerAction( "batch", (args, callbackContext) -> batch( args.getJSONArray( 0 ), callbackContext ) );
+
+        // Privacy & Settings
+
+        registerAction( "setHasUserConsent", (args, callbackContext) -> {
             boolean hasUserConsent = args.getBoolean( 0 );
             setHasUserConsent( hasUserConsent, callbackContext );
-        }
-        else if ( "hasUserConsent".equalsIgnoreCase( action ) )
-        {
-            hasUserConsent( callbackContext );
-        }
-        else if ( "setDoNotSell".equalsIgnoreCase( action ) )
-        {
+        } );
+        registerAction( "hasUserConsent", (args, callbackContext) -> hasUserConsent( callbackContext ) );
+        registerAction( "setDoNotSell", (args, callbackContext) -> {
             boolean isDoNotSell = args.getBoolean( 0 );
             setDoNotSell( isDoNotSell, callbackContext );
-        }
-        else if ( "isDoNotSell".equalsIgnoreCase( action ) )
-        {
-            isDoNotSell( callbackContext );
-        }
-        else if ( "setUserId".equalsIgnoreCase( action ) )
-        {
+        } );
+        registerAction( "isDoNotSell", (args, callbackContext) -> isDoNotSell( callbackContext ) );
+        registerAction( "applySettings", (args, callbackContext) -> applySettings( args.getJSONObject( 0 ), callbackContext ) );
+        registerAction( "setUserId", (args, callbackContext) -> {
             String userId = args.getString( 0 );
             setUserId( userId, callbackContext );
-        }
-        else if ( "setMuted".equalsIgnoreCase( action ) )
-        {
+        } );
+        registerAction( "setMuted", (args, callbackContext) -> {
             boolean isMuted = args.getBoolean( 0 );
             setMuted( isMuted, callbackContext );
-        }
-        else if ( "setVerboseLogging".equalsIgnoreCase( action ) )
-        {
+        } );
+        registerAction( "setVerboseLogging", (args, callbackContext) -> {
             boolean isVerboseLogging = args.getBoolean( 0 );
             setVerboseLogging( isVerboseLogging, callbackContext );
-        }
-        else if ( "setTestDeviceAdvertisingIds".equalsIgnoreCase( action ) )
-        {
+        } );
+        registerAction( "setTestDeviceAdvertisingIds", (args, callbackContext) -> {
             JSONArray testDeviceAdvertisingIds = args.getJSONArray( 0 );
             List<String> testDeviceAdvertisingIdsList = new ArrayList<>( testDeviceAdvertisingIds.length() );
 
@@ -1168,9 +2718,11 @@ public class AppLovinMAX
             }
 
             setTestDeviceAdvertisingIds( testDeviceAdvertisingIdsList, callbackContext );
-        }
-        else if ( "addSegment".equalsIgnoreCase( action ) )
-        {
+        } );
+
+        // Segment Targeting
+
+        registerAction( "addSegment", (args, callbackContext) -> {
             int key = args.getInt( 0 );
 
             JSONArray segmentArray = args.getJSONArray( 1 );
@@ -1182,134 +2734,189 @@ public class AppLovinMAX
             }
 
             addSegment( key, segmentList, callbackContext );
-        }
-        else if ( "trackEvent".equalsIgnoreCase( action ) )
-        {
+        } );
+
+        // Event Tracking
+
+        registerAction( "trackEvent", (args, callbackContext) -> {
             String event = args.getString( 0 );
             JSONObject parameters = args.getJSONObject( 1 );
             trackEvent( event, parameters, callbackContext );
-        }
-        else if ( "createBanner".equalsIgnoreCase( action ) )
-        {
+        } );
+
+        // Banners
+
+        registerAction( "createBanner", (args, callbackContext) -> {
             String adUnitId = args.getString( 0 );
             String position = args.getString( 1 );
             createBanner( adUnitId, position, callbackContext );
-        }
-        else if ( "setBannerBackgroundColor".equalsIgnoreCase( action ) )
-        {
+        } );
+        registerAction( "setBannerBackgroundColor", (args, callbackContext) -> {
             String adUnitId = args.getString( 0 );
             String hexColorCode = args.getString( 1 );
             setBannerBackgroundColor( adUnitId, hexColorCode, callbackContext );
-        }
-        else if ( "setBannerPlacement".equalsIgnoreCase( action ) )
-        {
+        } );
+        registerAction( "setBannerPlacement", (args, callbackContext) -> {
             String adUnitId = args.getString( 0 );
             String placement = args.getString( 1 );
             setBannerPlacement( adUnitId, placement, callbackContext );
-        }
-        else if ( "updateBannerPosition".equalsIgnoreCase( action ) )
-        {
+        } );
+        registerAction( "updateBannerPosition", (args, callbackContext) -> {
             String adUnitId = args.getString( 0 );
             String position = args.getString( 1 );
             updateBannerPosition( adUnitId, position, callbackContext );
-        }
-        else if ( "setBannerExtraParameter".equalsIgnoreCase( action ) )
-        {
+        } );
+        registerAction( "setBannerExtraParameter", (args, callbackContext) -> {
             String adUnitId = args.getString( 0 );
             String key = args.getString( 1 );
             String value = args.getString( 2 );
             setBannerExtraParameter( adUnitId, key, value, callbackContext );
-        }
-        else if ( "showBanner".equalsIgnoreCase( action ) )
-        {
-            String adUnitId = args.getString( 0 );
-            showBanner( adUnitId, callbackContext );
-        }
-        else if ( "hideBanner".equalsIgnoreCase( action ) )
-        {
-            String adUnitId = args.getString( 0 );
-            hideBanner( adUnitId, callbackContext );
-        }
-        else if ( "destroyBanner".equalsIgnoreCase( action ) )
-        {
-            String adUnitId = args.getString( 0 );
-            destroyBanner( adUnitId, callbackContext );
-        }
-        else if ( "createMRec".equalsIgnoreCase( action ) )
-        {
+        } );
+        registerAction( "showBanner", (args, callbackContext) -> showBanner( args.getString( 0 ), callbackContext ) );
+        registerAction( "hideBanner", (args, callbackContext) -> hideBanner( args.getString( 0 ), callbackContext ) );
+        registerAction( "destroyBanner", (args, callbackContext) -> destroyBanner( args.getString( 0 ), callbackContext ) );
+
+        // MRECs
+
+        registerAction( "createMRec", (args, callbackContext) -> {
             String adUnitId = args.getString( 0 );
             String position = args.getString( 1 );
             createMRec( adUnitId, position, callbackContext );
-        }
-        else if ( "setMRecPlacement".equalsIgnoreCase( action ) )
-        {
+        } );
+        registerAction( "setMRecPlacement", (args, callbackContext) -> {
             String adUnitId = args.getString( 0 );
             String placement = args.getString( 1 );
             setMRecPlacement( adUnitId, placement, callbackContext );
-        }
-        else if ( "updateMRecPosition".equalsIgnoreCase( action ) )
-        {
+        } );
+        registerAction( "updateMRecPosition", (args, callbackContext) -> {
             String adUnitId = args.getString( 0 );
             String position = args.getString( 1 );
             updateMRecPosition( adUnitId, position, callbackContext );
-        }
-        else if ( "showMRec".equalsIgnoreCase( action ) )
-        {
-            String adUnitId = args.getString( 0 );
-            showMRec( adUnitId, callbackContext );
-        }
-        else if ( "hideMRec".equalsIgnoreCase( action ) )
-        {
-            String adUnitId = args.getString( 0 );
-            hideMRec( adUnitId, callbackContext );
-        }
-        else if ( "destroyMRec".equalsIgnoreCase( action ) )
-        {
-            String adUnitId = args.getString( 0 );
-            destroyMRec( adUnitId, callbackContext );
-        }
-        else if ( "loadInterstitial".equalsIgnoreCase( action ) )
-        {
-            String adUnitId = args.getString( 0 );
-            loadInterstitial( adUnitId, callbackContext );
-        }
-        else if ( "showInterstitial".equalsIgnoreCase( action ) )
-        {
+        } );
+        registerAction( "showMRec", (args, callbackContext) -> showMRec( args.getString( 0 ), callbackContext ) );
+        registerAction( "hideMRec", (args, callbackContext) -> hideMRec( args.getString( 0 ), callbackContext ) );
+        registerAction( "destroyMRec", (args, callbackContext) -> destroyMRec( args.getString( 0 ), callbackContext ) );
+
+        // Interstitials
+
+        registerAction( "loadInterstitial", (args, callbackContext) -> loadInterstitial( args.getString( 0 ), callbackContext ) );
+        registerAction( "showInterstitial", (args, callbackContext) -> {
             String adUnitId = args.getString( 0 );
             String placement = args.optString( 1 );
             showInterstitial( adUnitId, placement, callbackContext );
-        }
-        else if ( "setInterstitialExtraParameter".equalsIgnoreCase( action ) )
-        {
+        } );
+        registerAction( "setInterstitialExtraParameter", (args, callbackContext) -> {
             String adUnitId = args.getString( 0 );
             String key = args.getString( 1 );
             String value = args.getString( 2 );
             setInterstitialExtraParameter( adUnitId, key, value, callbackContext );
-        }
-        else if ( "loadRewardedAd".equalsIgnoreCase( action ) )
-        {
+        } );
+
+        registerAction( "setInterstitialPreloadEnabled", (args, callbackContext) -> {
             String adUnitId = args.getString( 0 );
-            loadRewardedAd( adUnitId, callbackContext );
-        }
-        else if ( "showRewardedAd".equalsIgnoreCase( action ) )
-        {
+            boolean enabled = args.getBoolean( 1 );
+            setInterstitialPreloadEnabled( adUnitId, enabled, callbackContext );
+        } );
+
+        // Rewarded
+
+        registerAction( "loadRewardedAd", (args, callbackContext) -> loadRewardedAd( args.getString( 0 ), callbackContext ) );
+        registerAction( "isRewardedAdReady", (args, callbackContext) -> isRewardedAdReady( args.getString( 0 ), callbackContext ) );
+        registerAction( "showRewardedAd", (args, callbackContext) -> {
             String adUnitId = args.getString( 0 );
             String placement = args.optString( 1 );
             showRewardedAd( adUnitId, placement, callbackContext );
-        }
-        else if ( "setRewardedAdExtraParameter".equalsIgnoreCase( action ) )
-        {
+        } );
+        registerAction( "setRewardedAdExtraParameter", (args, callbackContext) -> {
             String adUnitId = args.getString( 0 );
             String key = args.getString( 1 );
             String value = args.getString( 2 );
             setRewardedAdExtraParameter( adUnitId, key, value, callbackContext );
-        }
-        else
+        } );
+        registerAction( "setRewardedAdPreloadEnabled", (args, callbackContext) -> {
+            String adUnitId = args.getString( 0 );
+            boolean enabled = args.getBoolean( 1 );
+            setRewardedAdPreloadEnabled( adUnitId, enabled, callbackContext );
+        } );
+
+        // Load Scheduling
+
+        registerAction( "setAdLoadPriority", (args, callbackContext) -> {
+            String adUnitId = args.getString( 0 );
+            int priority = args.getInt( 1 );
+            setAdLoadPriority( adUnitId, priority, callbackContext );
+        } );
+        registerAction( "setMaxConcurrentLoads", (args, callbackContext) -> setMaxConcurrentLoads( args.getInt( 0 ), callbackContext ) );
+        registerAction( "setDeferLowPriorityLoadsUntilIdle", (args, callbackContext) -> setDeferLowPriorityLoadsUntilIdle( args.getBoolean( 0 ), callbackContext ) );
+
+        // Actions which need an initialized SDK - buffered until then and replayed by priority, de-duplicated per ad unit
+
+        deferUntilInitialized( "loadRewardedAd", AdLoadScheduler.PRIORITY_HIGH, true );
+        deferUntilInitialized( "setRewardedAdPreloadEnabled", AdLoadScheduler.PRIORITY_HIGH, true );
+        deferUntilInitialized( "loadInterstitial", AdLoadScheduler.PRIORITY_NORMAL, true );
+        deferUntilInitialized( "setInterstitialPreloadEnabled", AdLoadScheduler.PRIORITY_NORMAL, true );
+        deferUntilInitialized( "createBanner", AdLoadScheduler.PRIORITY_LOW, true );
+        deferUntilInitialized( "createMRec", AdLoadScheduler.PRIORITY_LOW, true );
+
+        // Ad view calls made before their ad view exists, replayed after its creation - only those where the latest value wins are
+        // de-duplicated, as e.g. show/hide pairs must keep their order
+        deferUntilInitialized( "setBannerBackgroundColor", AdLoadScheduler.PRIORITY_LOW, true );
+        deferUntilInitialized( "setBannerPlacement", AdLoadScheduler.PRIORITY_LOW, true );
+        deferUntilInitialized( "updateBannerPosition", AdLoadScheduler.PRIORITY_LOW, true );
+        deferUntilInitialized( "setBannerExtraParameter", AdLoadScheduler.PRIORITY_LOW, false );
+        deferUntilInitialized( "showBanner", AdLoadScheduler.PRIORITY_LOW, false );
+        deferUntilInitialized( "hideBanner", AdLoadScheduler.PRIORITY_LOW, false );
+        deferUntilInitialized( "destroyBanner", AdLoadScheduler.PRIORITY_LOW, false );
+        deferUntilInitialized( "setMRecPlacement", AdLoadScheduler.PRIORITY_LOW, true );
+        deferUntilInitialized( "updateMRecPosition", AdLoadScheduler.PRIORITY_LOW, true );
+        deferUntilInitialized( "showMRec", AdLoadScheduler.PRIORITY_LOW, false );
+        deferUntilInitialized( "hideMRec", AdLoadScheduler.PRIORITY_LOW, false );
+        deferUntilInitialized( "destroyMRec", AdLoadScheduler.PRIORITY_LOW, false );
+
+        deferUntilInitialized( "trackEvent", AdLoadScheduler.PRIORITY_LOW, false );
+    }
+
+    private void deferUntilInitialized(final String action, final int priority, final boolean isDeduplicated)
+    {
+        pendingCommands.defer( actionHandlers.get( action ), priority, isDeduplicated );
+    }
+
+    /**
+     * @return The handler registered for the action, matched case-insensitively, or {@code null} if there is none.
+     */
+    @Nullable
+    ActionHandler findActionHandler(final String action)
+    {
+        final ActionHandler handler = actionHandlers.get( action );
+        if ( handler != null ) return handler;
+
+        return actionHandlers.get( action.toLowerCase( Locale.ENGLISH ) );
+    }
+
+    @Override
+    public boolean execute(final String action, final JSONArray args, final CallbackContext callbackContext) throws JSONException
+    {
+        final ActionHandler handler = findActionHandler( action );
+        if ( handler == null )
         {
             // Action not recognized
             return false;
         }
 
+        // Replayed from the initialization callback
+        if ( !isSdkInitialized && pendingCommands.offer( handler, args, callbackContext ) )
+        {
+            // A batch cannot wait for the SDK, so it reports the command as deferred instead of with the result it sends once replayed
+            if ( callbackContext instanceof BatchCommandCallbackContext )
+            {
+                ( (BatchCommandCallbackContext) callbackContext ).onDeferred();
+            }
+
+            return true;
+        }
+
+        handler.handle( args, callbackContext );
+
         return true;
     }
 }
@@ -0,0 +1,131 @@
+package com.applovin.cordova;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.view.Choreographer;
+
+import org.apache.cordova.CallbackContext;
+import org.apache.cordova.PluginResult;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import androidx.annotation.Nullable;
+
+import static org.apache.cordova.PluginResult.Status.NO_RESULT;
+import static org.apache.cordova.PluginResult.Status.OK;
+
+/**
+ * Delivers window events to JS through a single kept-alive callback. Events raised within the same frame are sent together
+ * as one JSON array of <code>[name, params]</code> pairs which <code>applovinmax.js</code> fans back out to <code>window</code>.
+ */
+class EventChannel
+        implements Choreographer.FrameCallback
+{
+    private final Object  lock        = new Object();
+    private final Handler mainHandler = new Handler( Looper.getMainLooper() );
+
+    private final StringBuilder pendingEvents = new StringBuilder( 256 );
+
+    @Nullable
+    private CallbackContext callbackContext;
+    private boolean         isFlushScheduled;
+
+    /**
+     * Attach the JS callback that receives event batches. Replaces any previously attached callback.
+     */
+    void attach(final CallbackContext callbackContext)
+    {
+        synchronized ( lock )
+        {
+            this.callbackContext = callbackContext;
+        }
+
+        PluginResult result = new PluginResult( NO_RESULT );
+        result.setKeepCallback( true );
+        callbackContext.sendPluginResult( result );
+    }
+
+    /**
+     * Detach the JS callback, e.g. when the page is reloaded and the callback id is no longer valid. Undelivered events are dropped.
+     */
+    void detach()
+    {
+        synchronized ( lock )
+        {
+            callbackContext = null;
+            pendingEvents.setLength( 0 );
+        }
+    }
+
+    /**
+     * Queue an event for delivery in the next frame.
+     *
+     * @return {@code false} if no JS callback is attached, in which case the caller must deliver the event itself.
+     */
+    boolean send(final String name, final CharSequence paramsJson)
+    {
+        synchronized ( lock )
+        {
+            if ( callbackContext == null ) return false;
+
+            pendingEvents.append( pendingEvents.length() == 0 ? "[[\"" : ",[\"" )
+                    .append( name )
+                    .append( "\"," )
+                    .append( paramsJson )
+                    .append( ']' );
+
+            if ( isFlushScheduled ) return true;
+
+            isFlushScheduled = true;
+        }
+
+        if ( Looper.myLooper() == Looper.getMainLooper() )
+        {
+            Choreographer.getInstance().postFrameCallback( this );
+        }
+        else
+        {
+            mainHandler.post( () -> Choreographer.getInstance().postFrameCallback( this ) );
+        }
+
+        return true;
+    }
+
+    /**
+     * @return {@code {isAttached, pendingLength, bufferCapacity}} where {@code pendingLength} is the length of the events not sent yet, and
+     * {@code bufferCapacity} the size their buffer has grown to
+     */
+    JSONObject toJson() throws JSONException
+    {
+        synchronized ( lock )
+        {
+            final JSONObject json = new JSONObject();
+            json.put( "isAttached", callbackContext != null );
+            json.put( "pendingLength", pendingEvents.length() );
+            json.put( "bufferCapacity", pendingEvents.capacity() );
+            return json;
+        }
+    }
+
+    @Override
+    public void doFrame(final long frameTimeNanos)
+    {
+        final CallbackContext callbackContext;
+        final String batch;
+
+        synchronized ( lock )
+        {
+            isFlushScheduled = false;
+
+            callbackContext = this.callbackContext;
+            if ( callbackContext == null || pendingEvents.length() == 0 ) return;
+
+            batch = pendingEvents.append( ']' ).toString();
+            pendingEvents.setLength( 0 );
+        }
+
+        PluginResult result = new PluginResult( OK, batch );
+        result.setKeepCallback( true );
+        callbackContext.sendPluginResult( result );
+    }
+}
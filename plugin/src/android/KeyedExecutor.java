@@ -0,0 +1,174 @@
+package com.applovin.cordova;
+
+import android.util.Log;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs bridge work that only talks to the SDK (e.g. privacy settings I/O or event tracking) on a small, fixed pool of worker threads, so
+ * that it does not hold up Cordova's WebCore thread which dispatches the next call from JS.
+ * <p>
+ * Tasks submitted with the same key (e.g. an ad unit ID) run one at a time in submission order, tasks of different keys may run
+ * concurrently. At most {@link #MAX_PENDING_TASK_COUNT} tasks may be pending (waiting or running) at a time, further tasks are rejected
+ * rather than queued, so that a caller which submits faster than the SDK can keep up does not grow the queues without bound. Thread-safe.
+ */
+final class KeyedExecutor
+{
+    private static final int THREAD_COUNT           = 2;
+    private static final int MAX_PENDING_TASK_COUNT = 256;
+
+    private final ExecutorService                   executor;
+    private final Map<String, ArrayDeque<Runnable>> waitingTasks = new HashMap<>( 8 );
+
+    private int  waitingTaskCount;
+    private int  maxWaitingTaskCount;
+    private long completedTaskCount;
+    private long failedTaskCount;
+    private long rejectedTaskCount;
+
+    KeyedExecutor()
+    {
+        final AtomicInteger threadCount = new AtomicInteger();
+        final ThreadFactory threadFactory = runnable -> {
+            final Thread thread = new Thread( runnable, "AppLovinMAX-Worker-" + threadCount.incrementAndGet() );
+            thread.setDaemon( true );
+            return thread;
+        };
+
+        // Its queue holds at most one task per key, so it cannot fill up before the pending task count is reached
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor( THREAD_COUNT, THREAD_COUNT, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>( MAX_PENDING_TASK_COUNT ), threadFactory );
+        executor.allowCoreThreadTimeOut( true );
+
+        this.executor = executor;
+    }
+
+    /**
+     * Run the task on a worker thread once all tasks previously submitted with the same key have finished.
+     *
+     * @return {@code false} if the task was rejected because {@link #MAX_PENDING_TASK_COUNT} tasks are pending, the caller has to fail it
+     */
+    boolean execute(final String key, final Runnable task)
+    {
+        synchronized ( this )
+        {
+            // Every key in the map has a task in flight, in addition to its waiting ones
+            if ( waitingTaskCount + waitingTasks.size() >= MAX_PENDING_TASK_COUNT )
+            {
+                rejectedTaskCount++;
+                AppLovinMAX.e( "Rejected task for " + key + " - " + MAX_PENDING_TASK_COUNT + " tasks are pending" );
+                return false;
+            }
+
+            final ArrayDeque<Runnable> keyTasks = waitingTasks.get( key );
+            if ( keyTasks != null )
+            {
+                keyTasks.add( task );
+                waitingTaskCount++;
+                maxWaitingTaskCount = Math.max( maxWaitingTaskCount, waitingTaskCount );
+                return true;
+            }
+
+            // An (empty) entry marks the key as having a task in flight
+            waitingTasks.put( key, new ArrayDeque<>( 2 ) );
+        }
+
+        submit( key, task );
+        return true;
+    }
+
+    /**
+     * Drop all tasks that have not started yet and stop the worker threads, e.g. because the plugin is being destroyed.
+     */
+    void shutdown()
+    {
+        synchronized ( this )
+        {
+            waitingTasks.clear();
+            waitingTaskCount = 0;
+        }
+
+        executor.shutdownNow();
+    }
+
+    /**
+     * @return {@code {threadCount, pendingTaskCount, waitingTaskCount, maxWaitingTaskCount, completedTaskCount, failedTaskCount,
+     * rejectedTaskCount}} where {@code pendingTaskCount} also counts the running tasks
+     */
+    synchronized JSONObject toJson() throws JSONException
+    {
+        final JSONObject json = new JSONObject();
+        json.put( "threadCount", THREAD_COUNT );
+        json.put( "pendingTaskCount", waitingTaskCount + waitingTasks.size() );
+        json.put( "waitingTaskCount", waitingTaskCount );
+        json.put( "maxWaitingTaskCount", maxWaitingTaskCount );
+        json.put( "completedTaskCount", completedTaskCount );
+        json.put( "failedTaskCount", failedTaskCount );
+        json.put( "rejectedTaskCount", rejectedTaskCount );
+        return json;
+    }
+
+    private void submit(final String key, final Runnable task)
+    {
+        try
+        {
+            executor.execute( () -> run( key, task ) );
+        }
+        catch ( RejectedExecutionException ignored )
+        {
+            // Shut down
+        }
+    }
+
+    private void run(final String key, final Runnable task)
+    {
+        boolean isFailed = false;
+
+        try
+        {
+            task.run();
+        }
+        catch ( Throwable th )
+        {
+            isFailed = true;
+            AppLovinMAX.e( "Failed to run task for " + key + "\n" + Log.getStackTraceString( th ) );
+        }
+
+        final Runnable nextTask;
+
+        synchronized ( this )
+        {
+            completedTaskCount++;
+            if ( isFailed ) failedTaskCount++;
+
+            final ArrayDeque<Runnable> keyTasks = waitingTasks.get( key );
+            nextTask = ( keyTasks != null ) ? keyTasks.poll() : null;
+
+            if ( nextTask != null )
+            {
+                waitingTaskCount--;
+            }
+            else
+            {
+                waitingTasks.remove( key );
+            }
+        }
+
+        // Resubmit rather than loop, so that a busy key does not starve the others
+        if ( nextTask != null )
+        {
+            submit( key, nextTask );
+        }
+    }
+}
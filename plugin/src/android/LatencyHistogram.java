@@ -0,0 +1,138 @@
+package com.applovin.cordova;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * A fixed-size, log-bucketed histogram of latencies in milliseconds.
+ * <p>
+ * Values below {@value #SUB_BUCKET_COUNT} ms get a bucket each, larger values are split into {@value #SUB_BUCKET_COUNT} buckets per power
+ * of two, which bounds the relative error of reported percentiles to 25% regardless of how many values are recorded. Values above ~4.6
+ * hours are clamped into the last bucket.
+ * <p>
+ * Not thread-safe, callers must synchronize.
+ */
+final class LatencyHistogram
+{
+    private static final int SUB_BUCKET_BITS  = 2;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT     = 23;
+    private static final int BUCKET_COUNT     = SUB_BUCKET_COUNT + ( MAX_EXPONENT - SUB_BUCKET_BITS + 1 ) * SUB_BUCKET_COUNT;
+
+    private final int[] counts = new int[BUCKET_COUNT];
+
+    private long count;
+    private long sumMillis;
+    private long minMillis = Long.MAX_VALUE;
+    private long maxMillis;
+
+    void record(final long latencyMillis)
+    {
+        final long value = Math.max( 0, latencyMillis );
+
+        counts[bucketIndex( value )]++;
+        count++;
+        sumMillis += value;
+        minMillis = Math.min( minMillis, value );
+        maxMillis = Math.max( maxMillis, value );
+    }
+
+    long getCount()
+    {
+        return count;
+    }
+
+    /**
+     * @param percentile In the range (0, 100].
+     * @return The upper bound of the bucket holding the given percentile, capped to the maximum recorded value, or 0 if nothing was recorded.
+     */
+    long getPercentile(final double percentile)
+    {
+        if ( count == 0 ) return 0;
+
+        final long rank = Math.max( 1, (long) Math.ceil( count * percentile / 100 ) );
+
+        long cumulativeCount = 0;
+        for ( int i = 0; i < BUCKET_COUNT; i++ )
+        {
+            cumulativeCount += counts[i];
+            if ( cumulativeCount >= rank )
+            {
+                return Math.min( bucketUpperBound( i ), maxMillis );
+            }
+        }
+
+        return maxMillis;
+    }
+
+    /**
+     * Add all values recorded by the other histogram to this one.
+     */
+    void add(final LatencyHistogram other)
+    {
+        if ( other.count == 0 ) return;
+
+        for ( int i = 0; i < BUCKET_COUNT; i++ )
+        {
+            counts[i] += other.counts[i];
+        }
+
+        count += other.count;
+        sumMillis += other.sumMillis;
+        minMillis = Math.min( minMillis, other.minMillis );
+        maxMillis = Math.max( maxMillis, other.maxMillis );
+    }
+
+    void reset()
+    {
+        for ( int i = 0; i < BUCKET_COUNT; i++ )
+        {
+            counts[i] = 0;
+        }
+
+        count = 0;
+        sumMillis = 0;
+        minMillis = Long.MAX_VALUE;
+        maxMillis = 0;
+    }
+
+    JSONObject toJson() throws JSONException
+    {
+        final JSONObject json = new JSONObject();
+        json.put( "count", count );
+
+        if ( count > 0 )
+        {
+            json.put( "min", minMillis );
+            json.put( "max", maxMillis );
+            json.put( "mean", sumMillis / count );
+            json.put( "p50", getPercentile( 50 ) );
+            json.put( "p90", getPercentile( 90 ) );
+            json.put( "p99", getPercentile( 99 ) );
+        }
+
+        return json;
+    }
+
+    private static int bucketIndex(final long value)
+    {
+        if ( value < SUB_BUCKET_COUNT ) return (int) value;
+
+        final int exponent = Math.min( 63 - Long.numberOfLeadingZeros( value ), MAX_EXPONENT );
+        if ( exponent == MAX_EXPONENT && value >= ( 1L << ( MAX_EXPONENT + 1 ) ) ) return BUCKET_COUNT - 1;
+
+        final int subBucket = (int) ( value >> ( exponent - SUB_BUCKET_BITS ) ) & ( SUB_BUCKET_COUNT - 1 );
+        return SUB_BUCKET_COUNT + ( exponent - SUB_BUCKET_BITS ) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    private static long bucketUpperBound(final int index)
+    {
+        if ( index < SUB_BUCKET_COUNT ) return index;
+
+        final int exponent = ( index - SUB_BUCKET_COUNT ) / SUB_BUCKET_COUNT + SUB_BUCKET_BITS;
+        final int subBucket = ( index - SUB_BUCKET_COUNT ) % SUB_BUCKET_COUNT;
+        final long bucketWidth = 1L << ( exponent - SUB_BUCKET_BITS );
+
+        return ( 1L << exponent ) + ( subBucket + 1 ) * bucketWidth - 1;
+    }
+}
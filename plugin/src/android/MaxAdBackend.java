@@ -0,0 +1,164 @@
+package com.applovin.cordova;
+
+import android.app.Activity;
+
+import com.applovin.mediation.MaxAdFormat;
+import com.applovin.mediation.MaxAdListener;
+import com.applovin.mediation.MaxAdRevenueListener;
+import com.applovin.mediation.MaxAdViewAdListener;
+import com.applovin.mediation.MaxRewardedAdListener;
+import com.applovin.mediation.ads.MaxAdView;
+import com.applovin.mediation.ads.MaxInterstitialAd;
+import com.applovin.mediation.ads.MaxRewardedAd;
+import com.applovin.sdk.AppLovinSdk;
+import com.applovin.sdk.AppLovinSdkInitializationConfiguration;
+
+import java.util.Map;
+
+/**
+ * {@link AdBackend} of the AppLovin SDK.
+ */
+final class MaxAdBackend
+        implements AdBackend
+{
+    /**
+     * Supplies the SDK instance, which may be created lazily on first use.
+     */
+    interface SdkProvider
+    {
+        AppLovinSdk getSdk();
+    }
+
+    private final SdkProvider sdkProvider;
+
+    MaxAdBackend(final SdkProvider sdkProvider)
+    {
+        this.sdkProvider = sdkProvider;
+    }
+
+    @Override
+    public void initialize(final AppLovinSdkInitializationConfiguration initConfig, final AppLovinSdk.SdkInitializationListener listener)
+    {
+        sdkProvider.getSdk().initialize( initConfig, listener );
+    }
+
+    @Override
+    public FullscreenAd createInterstitial(final String adUnitId, final Activity activity, final MaxAdListener listener, final MaxAdRevenueListener revenueListener)
+    {
+        final MaxInterstitialAd interstitial = new MaxInterstitialAd( adUnitId, sdkProvider.getSdk(), activity );
+        interstitial.setListener( listener );
+        interstitial.setRevenueListener( revenueListener );
+
+        return new FullscreenAd()
+        {
+            @Override
+            public void loadAd()
+            {
+                interstitial.loadAd();
+            }
+
+            @Override
+            public void showAd(final String placement)
+            {
+                interstitial.showAd( placement );
+            }
+
+            @Override
+            public boolean isReady()
+            {
+                return interstitial.isReady();
+            }
+
+            @Override
+            public void setExtraParameter(final String key, final String value)
+            {
+                interstitial.setExtraParameter( key, value );
+            }
+
+            @Override
+            public void destroy()
+            {
+                interstitial.setListener( null );
+                interstitial.setRevenueListener( null );
+                interstitial.destroy();
+            }
+
+            @Override
+            public void discard()
+            {
+                destroy();
+            }
+        };
+    }
+
+    @Override
+    public FullscreenAd createRewardedAd(final String adUnitId, final Activity activity, final MaxRewardedAdListener listener, final MaxAdRevenueListener revenueListener)
+    {
+        final MaxRewardedAd rewardedAd = MaxRewardedAd.getInstance( adUnitId, sdkProvider.getSdk(), activity );
+        rewardedAd.setListener( listener );
+        rewardedAd.setRevenueListener( revenueListener );
+
+        return new FullscreenAd()
+        {
+            @Override
+            public void loadAd()
+            {
+                rewardedAd.loadAd();
+            }
+
+            @Override
+            public void showAd(final String placement)
+            {
+                rewardedAd.showAd( placement );
+            }
+
+            @Override
+            public boolean isReady()
+            {
+                return rewardedAd.isReady();
+            }
+
+            @Override
+            public void setExtraParameter(final String key, final String value)
+            {
+                rewardedAd.setExtraParameter( key, value );
+            }
+
+            @Override
+            public void destroy()
+            {
+                rewardedAd.setListener( null );
+                rewardedAd.setRevenueListener( null );
+                rewardedAd.destroy();
+            }
+
+            @Override
+            public void discard()
+            {
+                // MaxRewardedAd.getInstance() hands out one ad per ad unit, so this is the ad in use - destroying it would destroy that ad
+            }
+        };
+    }
+
+    @Override
+    public MaxAdView createAdView(final String adUnitId, final MaxAdFormat adFormat, final Activity activity, final MaxAdViewAdListener listener, final MaxAdRevenueListener revenueListener)
+    {
+        final MaxAdView adView = new MaxAdView( adUnitId, adFormat, sdkProvider.getSdk(), activity );
+        adView.setListener( listener );
+        adView.setRevenueListener( revenueListener );
+
+        return adView;
+    }
+
+    @Override
+    public void trackEvent(final String event, final Map<String, String> parameters)
+    {
+        sdkProvider.getSdk().getEventService().trackEvent( event, parameters );
+    }
+
+    @Override
+    public void showMediationDebugger()
+    {
+        sdkProvider.getSdk().showMediationDebugger();
+    }
+}
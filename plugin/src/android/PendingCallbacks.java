@@ -0,0 +1,210 @@
+package com.applovin.cordova;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import org.apache.cordova.CallbackContext;
+import org.apache.cordova.PluginResult;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Bridge callbacks of one kind of call (e.g. loads) that wait for the matching SDK callback of their ad unit. Calls for the same ad unit
+ * made while one is outstanding wait for the same outcome.
+ * <p>
+ * Each callback is completed exactly once: by {@link #resolve} / {@link #reject}, or with an error once it has been waiting for longer than
+ * the timeout, so none are left in Cordova's JS callback map. Thread-safe.
+ */
+final class PendingCallbacks
+{
+    private static final long DEFAULT_TIMEOUT_MILLIS = 60 * 1000L;
+
+    private final Handler                            handler   = new Handler( Looper.getMainLooper() );
+    private final Map<String, List<CallbackContext>> callbacks = new HashMap<>( 8 );
+
+    private long timeoutMillis = DEFAULT_TIMEOUT_MILLIS;
+    private int  pendingCount;
+    private long timedOutCount;
+
+    synchronized void setTimeoutMillis(final long timeoutMillis)
+    {
+        this.timeoutMillis = Math.max( 1000, timeoutMillis );
+    }
+
+    void add(final String adUnitId, final CallbackContext callbackContext)
+    {
+        final long timeoutMillis;
+
+        synchronized ( this )
+        {
+            List<CallbackContext> adUnitCallbacks = callbacks.get( adUnitId );
+            if ( adUnitCallbacks == null )
+            {
+                adUnitCallbacks = new ArrayList<>( 2 );
+                callbacks.put( adUnitId, adUnitCallbacks );
+            }
+
+            adUnitCallbacks.add( callbackContext );
+            pendingCount++;
+
+            timeoutMillis = this.timeoutMillis;
+        }
+
+        // The callback context doubles as the token to cancel its timeout
+        handler.postAtTime( () -> timeOut( adUnitId, callbackContext, timeoutMillis ), callbackContext, SystemClock.uptimeMillis() + timeoutMillis );
+    }
+
+    /**
+     * Complete all callbacks waiting for the ad unit successfully.
+     *
+     * @param payloadJson Serialized JSON object to complete them with, consumed before this method returns.
+     */
+    void resolve(final String adUnitId, final CharSequence payloadJson)
+    {
+        complete( adUnitId, PluginResult.Status.OK, payloadJson );
+    }
+
+    /**
+     * Complete all callbacks waiting for the ad unit with an error.
+     *
+     * @param payloadJson Serialized JSON object to complete them with, consumed before this method returns.
+     */
+    void reject(final String adUnitId, final CharSequence payloadJson)
+    {
+        complete( adUnitId, PluginResult.Status.ERROR, payloadJson );
+    }
+
+    /**
+     * Forget the callback without completing it, e.g. because its call failed before reaching the SDK and the caller completes it.
+     *
+     * @return {@code false} if the callback was not waiting, e.g. because it was completed already.
+     */
+    boolean remove(final String adUnitId, final CallbackContext callbackContext)
+    {
+        synchronized ( this )
+        {
+            final List<CallbackContext> adUnitCallbacks = callbacks.get( adUnitId );
+            if ( adUnitCallbacks == null || !adUnitCallbacks.remove( callbackContext ) ) return false;
+
+            if ( adUnitCallbacks.isEmpty() )
+            {
+                callbacks.remove( adUnitId );
+            }
+
+            pendingCount--;
+        }
+
+        handler.removeCallbacksAndMessages( callbackContext );
+        return true;
+    }
+
+    /**
+     * Forget all callbacks without completing them, e.g. because the page they belong to is gone.
+     */
+    synchronized void clear()
+    {
+        for ( List<CallbackContext> adUnitCallbacks : callbacks.values() )
+        {
+            for ( CallbackContext callbackContext : adUnitCallbacks )
+            {
+                handler.removeCallbacksAndMessages( callbackContext );
+            }
+        }
+
+        callbacks.clear();
+        pendingCount = 0;
+    }
+
+    synchronized int getPendingCount()
+    {
+        return pendingCount;
+    }
+
+    synchronized long getTimedOutCount()
+    {
+        return timedOutCount;
+    }
+
+    /**
+     * @return {@code {pendingCount, adUnitCount, maxAdUnitPendingCount, timedOutCount}} where {@code maxAdUnitPendingCount} is the most
+     * callbacks waiting for a single ad unit
+     */
+    synchronized JSONObject toJson() throws JSONException
+    {
+        int maxAdUnitPendingCount = 0;
+        for ( List<CallbackContext> adUnitCallbacks : callbacks.values() )
+        {
+            maxAdUnitPendingCount = Math.max( maxAdUnitPendingCount, adUnitCallbacks.size() );
+        }
+
+        final JSONObject json = new JSONObject();
+        json.put( "pendingCount", pendingCount );
+        json.put( "adUnitCount", callbacks.size() );
+        json.put( "maxAdUnitPendingCount", maxAdUnitPendingCount );
+        json.put( "timedOutCount", timedOutCount );
+        return json;
+    }
+
+    private void complete(final String adUnitId, final PluginResult.Status status, final CharSequence payloadJson)
+    {
+        final List<CallbackContext> adUnitCallbacks;
+
+        synchronized ( this )
+        {
+            adUnitCallbacks = callbacks.remove( adUnitId );
+            if ( adUnitCallbacks == null ) return;
+
+            pendingCount -= adUnitCallbacks.size();
+        }
+
+        final PluginResult result = toPluginResult( status, payloadJson );
+        for ( CallbackContext callbackContext : adUnitCallbacks )
+        {
+            handler.removeCallbacksAndMessages( callbackContext );
+            callbackContext.sendPluginResult( result );
+        }
+    }
+
+    private void timeOut(final String adUnitId, final CallbackContext callbackContext, final long timeoutMillis)
+    {
+        if ( !remove( adUnitId, callbackContext ) ) return;
+
+        synchronized ( this )
+        {
+            timedOutCount++;
+        }
+
+        final JSONObject error = new JSONObject();
+
+        try
+        {
+            error.put( "adUnitId", adUnitId );
+            error.put( "message", "Timed out after " + timeoutMillis + " ms" );
+        }
+        catch ( JSONException ignored ) { }
+
+        callbackContext.error( error );
+    }
+
+    private static PluginResult toPluginResult(final PluginResult.Status status, @Nullable final CharSequence payloadJson)
+    {
+        if ( payloadJson == null ) return new PluginResult( status );
+
+        try
+        {
+            return new PluginResult( status, new JSONObject( payloadJson.toString() ) );
+        }
+        catch ( JSONException ex )
+        {
+            return new PluginResult( status, payloadJson.toString() );
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.applovin.cordova;
+
+import android.os.SystemClock;
+
+import org.apache.cordova.CallbackContext;
+import org.apache.cordova.CordovaWebView;
+import org.apache.cordova.PluginResult;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Buffers bridge actions which need an initialized SDK until {@link #release()} is called from the initialization callback, so that loads
+ * issued right after app launch neither fail nor race the initialization.
+ * <p>
+ * Only actions registered through {@link #defer} are buffered. Buffered commands of a de-duplicated action are keyed by their first argument
+ * (the ad unit ID): a later command replaces the arguments of an earlier one but keeps its place, and the callbacks of both receive the
+ * result of the single replayed command, unless a command of any other action for the same ad unit was buffered in between. Commands are
+ * replayed by priority, then in the order they were first buffered.
+ * <p>
+ * At most {@link #MAX_PENDING_COMMAND_COUNT} commands are buffered, further ones fail right away - e.g. because the app never calls
+ * {@code initialize()}. Thread-safe.
+ */
+final class PendingCommandQueue
+{
+    private static final int MAX_PENDING_COMMAND_COUNT = 256;
+
+    private static final class Spec
+    {
+        final int     id;
+        final int     priority;
+        final boolean isDeduplicated;
+
+        Spec(final int id, final int priority, final boolean isDeduplicated)
+        {
+            this.id = id;
+            this.priority = priority;
+            this.isDeduplicated = isDeduplicated;
+        }
+    }
+
+    /**
+     * A buffered action, ready to be replayed through its handler.
+     */
+    static final class Command
+            implements Comparable<Command>
+    {
+        final AppLovinMAX.ActionHandler handler;
+        final int                       priority;
+        final long                      sequence;
+        final long                      queuedTimeMillis;
+        final List<CallbackContext>     callbackContexts = new ArrayList<>( 1 );
+
+        JSONArray args;
+
+        Command(final AppLovinMAX.ActionHandler handler, final int priority, final long sequence, final JSONArray args)
+        {
+            this.handler = handler;
+            this.priority = priority;
+            this.sequence = sequence;
+            this.args = args;
+
+            queuedTimeMillis = SystemClock.elapsedRealtime();
+        }
+
+        /**
+         * @return The single callback, or one forwarding results to the callbacks of all de-duplicated commands.
+         */
+        CallbackContext getCallbackContext(final CordovaWebView webView)
+        {
+            if ( callbackContexts.size() == 1 ) return callbackContexts.get( 0 );
+
+            return new FanOutCallbackContext( callbackContexts, webView );
+        }
+
+        @Override
+        public int compareTo(final Command other)
+        {
+            if ( priority != other.priority ) return Integer.compare( priority, other.priority );
+
+            return Long.compare( sequence, other.sequence );
+        }
+    }
+
+    /**
+     * Sends every result to all wrapped callbacks.
+     */
+    private static class FanOutCallbackContext
+            extends CallbackContext
+    {
+        private final List<CallbackContext> callbackContexts;
+
+        FanOutCallbackContext(final List<CallbackContext> callbackContexts, final CordovaWebView webView)
+        {
+            super( callbackContexts.get( 0 ).getCallbackId(), webView );
+            this.callbackContexts = callbackContexts;
+        }
+
+        @Override
+        public void sendPluginResult(final PluginResult pluginResult)
+        {
+            for ( CallbackContext callbackContext : callbackContexts )
+            {
+                callbackContext.sendPluginResult( pluginResult );
+            }
+        }
+    }
+
+    private final Map<AppLovinMAX.ActionHandler, Spec> specs         = new HashMap<>( 8 );
+    private final List<Command>                        commands      = new ArrayList<>( 8 );
+    private final Map<String, Command>                 commandsByKey = new HashMap<>( 8 );
+    private final LatencyHistogram                     waitTimes     = new LatencyHistogram();
+
+    private boolean isReleased;
+    private long    nextSequence;
+    private long    queuedCommandCount;
+    private long    deduplicatedCommandCount;
+    private long    droppedCommandCount;
+
+    /**
+     * Buffer the action handled by {@code handler} until {@link #release()}. Must be called before the plugin starts receiving actions.
+     *
+     * @param priority       Replay priority, lower values are replayed first.
+     * @param isDeduplicated Whether a later command for the same first argument replaces an earlier one.
+     */
+    synchronized void defer(final AppLovinMAX.ActionHandler handler, final int priority, final boolean isDeduplicated)
+    {
+        specs.put( handler, new Spec( specs.size(), priority, isDeduplicated ) );
+    }
+
+    /**
+     * @return Whether the command was buffered or failed because the queue is full, {@code false} if it should run right away because its
+     * action is not deferred or the queue has already been released.
+     */
+    synchronized boolean offer(final AppLovinMAX.ActionHandler handler, final JSONArray args, final CallbackContext callbackContext)
+    {
+        if ( isReleased ) return false;
+
+        final Spec spec = specs.get( handler );
+        if ( spec == null ) return false;
+
+        final String adUnitId = args.optString( 0 );
+        final String key = spec.isDeduplicated ? spec.id + ":" + adUnitId : null;
+
+        // Commands queued before one of another action (e.g. updating a position between two creates) must not absorb commands queued
+        // after it, or they would be replayed in the wrong order
+        for ( Iterator<Map.Entry<String, Command>> iterator = commandsByKey.entrySet().iterator(); iterator.hasNext(); )
+        {
+            final Map.Entry<String, Command> entry = iterator.next();
+            if ( !entry.getKey().equals( key ) && adUnitId.equals( entry.getValue().args.optString( 0 ) ) )
+            {
+                iterator.remove();
+            }
+        }
+
+        final Command existingCommand = ( key != null ) ? commandsByKey.get( key ) : null;
+        if ( existingCommand != null )
+        {
+            existingCommand.args = args;
+            existingCommand.callbackContexts.add( callbackContext );
+            deduplicatedCommandCount++;
+            return true;
+        }
+
+        if ( commands.size() >= MAX_PENDING_COMMAND_COUNT )
+        {
+            if ( droppedCommandCount++ == 0 )
+            {
+                AppLovinMAX.e( MAX_PENDING_COMMAND_COUNT + " calls are waiting for the SDK to initialize, dropping further ones - make sure initialize() is called" );
+            }
+
+            callbackContext.error( "Too many calls made before the SDK is initialized - make sure initialize() is called" );
+            return true;
+        }
+
+        final Command command = new Command( handler, spec.priority, nextSequence++, args );
+        command.callbackContexts.add( callbackContext );
+
+        commands.add( command );
+        if ( key != null ) commandsByKey.put( key, command );
+
+        queuedCommandCount++;
+
+        return true;
+    }
+
+    /**
+     * Stop buffering and hand out all buffered commands, in replay order. The time each command waited is recorded.
+     */
+    synchronized List<Command> release()
+    {
+        isReleased = true;
+
+        final List<Command> releasedCommands = new ArrayList<>( commands );
+        Collections.sort( releasedCommands );
+
+        final long nowMillis = SystemClock.elapsedRealtime();
+        for ( Command command : releasedCommands )
+        {
+            waitTimes.record( nowMillis - command.queuedTimeMillis );
+        }
+
+        commands.clear();
+        commandsByKey.clear();
+
+        return releasedCommands;
+    }
+
+    /**
+     * Drop all buffered commands without running them, e.g. because the page whose callbacks they hold is gone.
+     */
+    synchronized void clear()
+    {
+        commands.clear();
+        commandsByKey.clear();
+    }
+
+    /**
+     * @return {@code {isReleased, pendingCount, oldestPendingMillis, queuedCommandCount, deduplicatedCommandCount, droppedCommandCount,
+     * waitTime}} where {@code oldestPendingMillis} is how long the oldest buffered command has been waiting - a growing value means
+     * {@code initialize()} was not called or did not complete - and {@code waitTime} is the histogram of how long replayed commands waited.
+     */
+    synchronized JSONObject toJson() throws JSONException
+    {
+        final JSONObject json = new JSONObject();
+        json.put( "isReleased", isReleased );
+        json.put( "pendingCount", commands.size() );
+        json.put( "oldestPendingMillis", !commands.isEmpty() ? SystemClock.elapsedRealtime() - commands.get( 0 ).queuedTimeMillis : 0 );
+        json.put( "queuedCommandCount", queuedCommandCount );
+        json.put( "deduplicatedCommandCount", deduplicatedCommandCount );
+        json.put( "droppedCommandCount", droppedCommandCount );
+        json.put( "waitTime", waitTimes.toJson() );
+        return json;
+    }
+}
@@ -0,0 +1,113 @@
+package com.applovin.cordova;
+
+import android.text.TextUtils;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Load and show latency histograms, kept per ad unit and per mediated network. Memory is bounded by the number of ad units and networks
+ * since each histogram has a fixed size. Thread-safe.
+ */
+final class PerformanceMetrics
+{
+    private static final String UNKNOWN_NETWORK = "Unknown";
+
+    private final Map<String, Latencies> adUnitLatencies  = new HashMap<>( 8 );
+    private final Map<String, Latencies> networkLatencies = new HashMap<>( 8 );
+
+    /**
+     * Latencies of one ad unit or network.
+     */
+    private static final class Latencies
+    {
+        // Request to onAdLoaded
+        final LatencyHistogram load        = new LatencyHistogram();
+        // Request to onAdLoadFailed
+        final LatencyHistogram loadFailure = new LatencyHistogram();
+        // Request to onAdDisplayed
+        final LatencyHistogram show        = new LatencyHistogram();
+
+        JSONObject toJson() throws JSONException
+        {
+            final JSONObject json = new JSONObject();
+            json.put( "load", load.toJson() );
+            json.put( "loadFailure", loadFailure.toJson() );
+            json.put( "show", show.toJson() );
+            return json;
+        }
+    }
+
+    synchronized void recordLoad(final String adUnitId, final String networkName, final long latencyMillis)
+    {
+        getLatencies( adUnitLatencies, adUnitId ).load.record( latencyMillis );
+        getLatencies( networkLatencies, networkName ).load.record( latencyMillis );
+    }
+
+    synchronized void recordLoadFailure(final String adUnitId, final long latencyMillis)
+    {
+        getLatencies( adUnitLatencies, adUnitId ).loadFailure.record( latencyMillis );
+    }
+
+    synchronized void recordShow(final String adUnitId, final String networkName, final long latencyMillis)
+    {
+        getLatencies( adUnitLatencies, adUnitId ).show.record( latencyMillis );
+        getLatencies( networkLatencies, networkName ).show.record( latencyMillis );
+    }
+
+    synchronized void reset()
+    {
+        adUnitLatencies.clear();
+        networkLatencies.clear();
+    }
+
+    /**
+     * @return {@code {adUnits: {<adUnitId>: {load, loadFailure, show}}, networks: {<networkName>: {load, loadFailure, show}}}} where each
+     * entry holds the count, min, max, mean, p50, p90 and p99 in milliseconds.
+     */
+    synchronized JSONObject toJson() throws JSONException
+    {
+        final JSONObject json = new JSONObject();
+        json.put( "adUnits", toJson( adUnitLatencies ) );
+        json.put( "networks", toJson( networkLatencies ) );
+        return json;
+    }
+
+    /**
+     * Read and clear the histograms under one lock.
+     */
+    synchronized JSONObject snapshotAndReset() throws JSONException
+    {
+        final JSONObject json = toJson();
+        reset();
+        return json;
+    }
+
+    private static JSONObject toJson(final Map<String, Latencies> latenciesByKey) throws JSONException
+    {
+        final JSONObject json = new JSONObject();
+        for ( Map.Entry<String, Latencies> entry : latenciesByKey.entrySet() )
+        {
+            json.put( entry.getKey(), entry.getValue().toJson() );
+        }
+
+        return json;
+    }
+
+    private static Latencies getLatencies(final Map<String, Latencies> latenciesByKey, final String key)
+    {
+        final String keyToUse = !TextUtils.isEmpty( key ) ? key : UNKNOWN_NETWORK;
+
+        Latencies latencies = latenciesByKey.get( keyToUse );
+        if ( latencies == null )
+        {
+            latencies = new Latencies();
+            latenciesByKey.put( keyToUse, latencies );
+        }
+
+        return latencies;
+    }
+}
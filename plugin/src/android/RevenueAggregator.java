@@ -0,0 +1,187 @@
+package com.applovin.cordova;
+
+import android.os.SystemClock;
+import android.text.TextUtils;
+
+import com.applovin.mediation.MaxAd;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Folds impression-level revenue into per ad unit, format, network and placement totals, so that JS can receive periodic summaries instead
+ * of one bridge event per paid impression.
+ * <p>
+ * Totals are kept for the whole session, and for the current window, which is started over by {@link #drainWindow()}. Only impressions
+ * recorded as summarized go into the window, so that no buckets are kept while revenue is sent per impression. Impressions whose revenue
+ * the SDK could not determine (negative values) are counted but add no revenue. Thread-safe.
+ */
+final class RevenueAggregator
+{
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    /**
+     * Totals of one ad unit, format, network and placement combination during the current window.
+     */
+    private static final class Bucket
+    {
+        final String adUnitId;
+        final String adFormat;
+        final String networkName;
+        final String placement;
+
+        int    impressionCount;
+        int    unknownRevenueCount;
+        double revenue;
+
+        Bucket(final String adUnitId, final String adFormat, final String networkName, final String placement)
+        {
+            this.adUnitId = adUnitId;
+            this.adFormat = adFormat;
+            this.networkName = networkName;
+            this.placement = placement;
+        }
+    }
+
+    private final Map<String, Bucket> buckets    = new HashMap<>( 16 );
+    private final StringBuilder       keyBuilder = new StringBuilder( 128 );
+
+    private long   windowStartTimeMillis;
+    private int    windowImpressionCount;
+    private double windowRevenue;
+    private long   sessionImpressionCount;
+    private double sessionRevenue;
+
+    /**
+     * @param isSummarized whether the impression is to be part of the next summary, rather than sent on its own
+     */
+    synchronized void record(final MaxAd ad, final boolean isSummarized)
+    {
+        final double revenue = ad.getRevenue();
+
+        sessionImpressionCount++;
+        if ( revenue >= 0 )
+        {
+            sessionRevenue += revenue;
+        }
+
+        if ( !isSummarized ) return;
+
+        // The window starts with its first impression, as the summary covering it is scheduled then
+        if ( windowImpressionCount == 0 )
+        {
+            windowStartTimeMillis = SystemClock.elapsedRealtime();
+        }
+
+        final String adFormat = ad.getFormat().getLabel();
+        final String networkName = ad.getNetworkName();
+        final String placement = !TextUtils.isEmpty( ad.getPlacement() ) ? ad.getPlacement() : "";
+
+        keyBuilder.setLength( 0 );
+        keyBuilder.append( ad.getAdUnitId() ).append( KEY_SEPARATOR )
+                .append( adFormat ).append( KEY_SEPARATOR )
+                .append( networkName ).append( KEY_SEPARATOR )
+                .append( placement );
+        final String key = keyBuilder.toString();
+
+        Bucket bucket = buckets.get( key );
+        if ( bucket == null )
+        {
+            bucket = new Bucket( ad.getAdUnitId(), adFormat, networkName, placement );
+            buckets.put( key, bucket );
+        }
+
+        bucket.impressionCount++;
+        windowImpressionCount++;
+
+        if ( revenue >= 0 )
+        {
+            bucket.revenue += revenue;
+            windowRevenue += revenue;
+        }
+        else
+        {
+            bucket.unknownRevenueCount++;
+        }
+    }
+
+    synchronized boolean isWindowEmpty()
+    {
+        return windowImpressionCount == 0;
+    }
+
+    /**
+     * @return {@code {windowMillis, impressions, revenue, entries: [{adUnitId, adFormat, networkName, placement, impressions, revenue,
+     * unknownRevenueImpressions}]}} for the current window, which is then started over.
+     */
+    synchronized JSONObject drainWindow() throws JSONException
+    {
+        final long nowMillis = SystemClock.elapsedRealtime();
+
+        final JSONArray entries = new JSONArray();
+        for ( Iterator<Bucket> iterator = buckets.values().iterator(); iterator.hasNext(); )
+        {
+            final Bucket bucket = iterator.next();
+
+            // Buckets idle for a whole window are dropped, the others are reused
+            if ( bucket.impressionCount == 0 )
+            {
+                iterator.remove();
+                continue;
+            }
+
+            final JSONObject entry = new JSONObject();
+            entry.put( "adUnitId", bucket.adUnitId );
+            entry.put( "adFormat", bucket.adFormat );
+            entry.put( "networkName", bucket.networkName );
+            entry.put( "placement", bucket.placement );
+            entry.put( "impressions", bucket.impressionCount );
+            entry.put( "revenue", bucket.revenue );
+            entry.put( "unknownRevenueImpressions", bucket.unknownRevenueCount );
+            entries.put( entry );
+
+            bucket.impressionCount = 0;
+            bucket.unknownRevenueCount = 0;
+            bucket.revenue = 0;
+        }
+
+        final JSONObject summary = new JSONObject();
+        summary.put( "windowMillis", nowMillis - windowStartTimeMillis );
+        summary.put( "impressions", windowImpressionCount );
+        summary.put( "revenue", windowRevenue );
+        summary.put( "entries", entries );
+
+        windowImpressionCount = 0;
+        windowRevenue = 0;
+
+        return summary;
+    }
+
+    /**
+     * Drop the current window and its buckets, e.g. because summaries were turned off and no later drain would release them.
+     */
+    synchronized void clearWindow()
+    {
+        buckets.clear();
+        windowImpressionCount = 0;
+        windowRevenue = 0;
+    }
+
+    /**
+     * @return {@code {impressions, revenue, bucketCount}} where the impressions and revenue are for the whole session, and {@code bucketCount}
+     * is the number of combinations kept for the current window.
+     */
+    synchronized JSONObject toJson() throws JSONException
+    {
+        final JSONObject json = new JSONObject();
+        json.put( "impressions", sessionImpressionCount );
+        json.put( "revenue", sessionRevenue );
+        json.put( "bucketCount", buckets.size() );
+        return json;
+    }
+}
@@ -0,0 +1,271 @@
+package com.applovin.cordova;
+
+import android.content.Context;
+
+import com.applovin.sdk.AppLovinPrivacySettings;
+import com.applovin.sdk.AppLovinSdk;
+import com.applovin.sdk.AppLovinSdkSettings;
+import com.applovin.sdk.AppLovinSdkUtils;
+
+import org.apache.cordova.CallbackContext;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Native snapshot of the privacy and SDK settings, so that reads are answered from memory instead of the SDK's storage.
+ * <p>
+ * Setters update the snapshot right away and mark the value dirty. Dirty values are applied to {@link AppLovinPrivacySettings} and
+ * {@link AppLovinSdk#getSettings()} together by {@link #write(Context, AppLovinSdk)}, so values set while a write is pending are coalesced
+ * into it. The callbacks of all setters covered by a write are completed once it has been applied. Writes are applied one at a time, so
+ * that a write returns only once all values set before it reached the SDK, even if another thread was already applying them. Thread-safe.
+ */
+final class SettingsMirror
+{
+    private static final int DIRTY_HAS_USER_CONSENT   = 1;
+    private static final int DIRTY_IS_DO_NOT_SELL     = 1 << 1;
+    private static final int DIRTY_USER_ID            = 1 << 2;
+    private static final int DIRTY_IS_MUTED           = 1 << 3;
+    private static final int DIRTY_IS_VERBOSE_LOGGING = 1 << 4;
+
+    @Nullable
+    private Boolean hasUserConsent;
+    @Nullable
+    private Boolean isDoNotSell;
+    @Nullable
+    private Boolean isTablet;
+    @Nullable
+    private String  userId;
+    private boolean isMuted;
+    private boolean isVerboseLogging;
+
+    private int dirtyFlags;
+    private boolean isWriteScheduled;
+    private long writeCount;
+    private long coalescedSetCount;
+
+    private final List<CallbackContext> writeCallbacks = new ArrayList<>( 4 );
+
+    // Held while values are applied to the SDK, after the lock of the values themselves
+    private final Object writeLock = new Object();
+
+    /**
+     * Read the values that have not been set yet from the SDK's storage. Call once, off the main thread.
+     */
+    void load(final Context context)
+    {
+        final boolean storedHasUserConsent = AppLovinPrivacySettings.hasUserConsent( context );
+        final boolean storedIsDoNotSell = AppLovinPrivacySettings.isDoNotSell( context );
+        final boolean storedIsTablet = AppLovinSdkUtils.isTablet( context );
+
+        synchronized ( this )
+        {
+            if ( hasUserConsent == null ) hasUserConsent = storedHasUserConsent;
+            if ( isDoNotSell == null ) isDoNotSell = storedIsDoNotSell;
+            isTablet = storedIsTablet;
+        }
+    }
+
+    /**
+     * @return Whether the caller must schedule a {@link #write}, because none is pending yet.
+     */
+    synchronized boolean setHasUserConsent(final boolean hasUserConsent, @Nullable final CallbackContext callbackContext)
+    {
+        this.hasUserConsent = hasUserConsent;
+        return markDirty( DIRTY_HAS_USER_CONSENT, callbackContext );
+    }
+
+    /**
+     * @return Whether the caller must schedule a {@link #write}, because none is pending yet.
+     */
+    synchronized boolean setDoNotSell(final boolean isDoNotSell, @Nullable final CallbackContext callbackContext)
+    {
+        this.isDoNotSell = isDoNotSell;
+        return markDirty( DIRTY_IS_DO_NOT_SELL, callbackContext );
+    }
+
+    /**
+     * @return Whether the caller must schedule a {@link #write}, because none is pending yet.
+     */
+    synchronized boolean setUserId(@Nullable final String userId, @Nullable final CallbackContext callbackContext)
+    {
+        this.userId = userId;
+        return markDirty( DIRTY_USER_ID, callbackContext );
+    }
+
+    /**
+     * @return Whether the caller must schedule a {@link #write}, because none is pending yet.
+     */
+    synchronized boolean setMuted(final boolean isMuted, @Nullable final CallbackContext callbackContext)
+    {
+        this.isMuted = isMuted;
+        return markDirty( DIRTY_IS_MUTED, callbackContext );
+    }
+
+    /**
+     * @return Whether the caller must schedule a {@link #write}, because none is pending yet.
+     */
+    synchronized boolean setVerboseLogging(final boolean isVerboseLogging, @Nullable final CallbackContext callbackContext)
+    {
+        this.isVerboseLogging = isVerboseLogging;
+        return markDirty( DIRTY_IS_VERBOSE_LOGGING, callbackContext );
+    }
+
+    /**
+     * Set all values present in {@code {hasUserConsent, isDoNotSell, userId, isMuted, isVerboseLogging}} at once, leaving absent ones as they
+     * are.
+     *
+     * @return Whether the caller must schedule a {@link #write}, because none is pending yet.
+     */
+    synchronized boolean apply(final JSONObject settings, final CallbackContext callbackContext) throws JSONException
+    {
+        int flags = 0;
+
+        if ( settings.has( "hasUserConsent" ) )
+        {
+            hasUserConsent = settings.getBoolean( "hasUserConsent" );
+            flags |= DIRTY_HAS_USER_CONSENT;
+        }
+
+        if ( settings.has( "isDoNotSell" ) )
+        {
+            isDoNotSell = settings.getBoolean( "isDoNotSell" );
+            flags |= DIRTY_IS_DO_NOT_SELL;
+        }
+
+        if ( settings.has( "userId" ) )
+        {
+            userId = settings.isNull( "userId" ) ? null : settings.getString( "userId" );
+            flags |= DIRTY_USER_ID;
+        }
+
+        if ( settings.has( "isMuted" ) )
+        {
+            isMuted = settings.getBoolean( "isMuted" );
+            flags |= DIRTY_IS_MUTED;
+        }
+
+        if ( settings.has( "isVerboseLogging" ) )
+        {
+            isVerboseLogging = settings.getBoolean( "isVerboseLogging" );
+            flags |= DIRTY_IS_VERBOSE_LOGGING;
+        }
+
+        return markDirty( flags, callbackContext );
+    }
+
+    /**
+     * Apply all dirty values to the SDK, then complete the callbacks of the setters they came from. If another thread is applying values,
+     * waits for it first. Returns right away if nothing is dirty or being applied.
+     */
+    void write(final Context context, final AppLovinSdk sdk)
+    {
+        final List<CallbackContext> callbacks;
+
+        synchronized ( writeLock )
+        {
+            final int flags;
+            final boolean hasUserConsent;
+            final boolean isDoNotSell;
+            final String userId;
+            final boolean isMuted;
+            final boolean isVerboseLogging;
+
+            synchronized ( this )
+            {
+                // Any scheduled write finds nothing to do, so setters have to schedule a new one
+                isWriteScheduled = false;
+
+                if ( dirtyFlags == 0 && writeCallbacks.isEmpty() ) return;
+
+                flags = dirtyFlags;
+                hasUserConsent = Boolean.TRUE.equals( this.hasUserConsent );
+                isDoNotSell = Boolean.TRUE.equals( this.isDoNotSell );
+                userId = this.userId;
+                isMuted = this.isMuted;
+                isVerboseLogging = this.isVerboseLogging;
+                callbacks = new ArrayList<>( writeCallbacks );
+
+                dirtyFlags = 0;
+                writeCallbacks.clear();
+                writeCount++;
+            }
+
+            if ( ( flags & DIRTY_HAS_USER_CONSENT ) != 0 ) AppLovinPrivacySettings.setHasUserConsent( hasUserConsent, context );
+            if ( ( flags & DIRTY_IS_DO_NOT_SELL ) != 0 ) AppLovinPrivacySettings.setDoNotSell( isDoNotSell, context );
+
+            final AppLovinSdkSettings sdkSettings = sdk.getSettings();
+            if ( ( flags & DIRTY_USER_ID ) != 0 ) sdkSettings.setUserIdentifier( userId );
+            if ( ( flags & DIRTY_IS_MUTED ) != 0 ) sdkSettings.setMuted( isMuted );
+            if ( ( flags & DIRTY_IS_VERBOSE_LOGGING ) != 0 ) sdkSettings.setVerboseLogging( isVerboseLogging );
+        }
+
+        for ( CallbackContext callbackContext : callbacks )
+        {
+            callbackContext.success();
+        }
+    }
+
+    /**
+     * @return The value, or {@code null} if it has neither been set nor {@link #load loaded} yet.
+     */
+    @Nullable
+    synchronized Boolean getHasUserConsent()
+    {
+        return hasUserConsent;
+    }
+
+    /**
+     * @return The value, or {@code null} if it has neither been set nor {@link #load loaded} yet.
+     */
+    @Nullable
+    synchronized Boolean isDoNotSell()
+    {
+        return isDoNotSell;
+    }
+
+    /**
+     * @return The value, or {@code null} if it has not been {@link #load loaded} yet.
+     */
+    @Nullable
+    synchronized Boolean isTablet()
+    {
+        return isTablet;
+    }
+
+    /**
+     * @return {@code {isLoaded, isWritePending, writeCount, coalescedSetCount}}
+     */
+    synchronized JSONObject toJson() throws JSONException
+    {
+        final JSONObject json = new JSONObject();
+        json.put( "isLoaded", isTablet != null );
+        json.put( "isWritePending", isWriteScheduled );
+        json.put( "writeCount", writeCount );
+        json.put( "coalescedSetCount", coalescedSetCount );
+        return json;
+    }
+
+    private boolean markDirty(final int flags, @Nullable final CallbackContext callbackContext)
+    {
+        dirtyFlags |= flags;
+
+        if ( callbackContext != null )
+        {
+            writeCallbacks.add( callbackContext );
+        }
+
+        if ( isWriteScheduled )
+        {
+            coalescedSetCount++;
+            return false;
+        }
+
+        isWriteScheduled = true;
+        return true;
+    }
+}
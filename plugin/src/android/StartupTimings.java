@@ -0,0 +1,74 @@
+package com.applovin.cordova;
+
+import android.os.SystemClock;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Timings of the plugin's startup phases, relative to the start of its construction, to verify the effect of the startup mode on cold
+ * start. Phases which have not happened yet are omitted. Thread-safe.
+ */
+final class StartupTimings
+{
+    private final long constructStartTimeMillis = SystemClock.elapsedRealtime();
+
+    private long constructDurationMillis  = -1;
+    private long sdkInstanceTimeMillis    = -1;
+    private long sdkInstanceDurationMillis;
+    private long initializeCallTimeMillis = -1;
+    private long sdkInitializedTimeMillis = -1;
+
+    @Nullable
+    private String sdkInstanceTrigger;
+
+    synchronized void onConstructed()
+    {
+        constructDurationMillis = SystemClock.elapsedRealtime() - constructStartTimeMillis;
+    }
+
+    /**
+     * @param trigger What caused the SDK instance to be created, e.g. {@code "warmUp"}.
+     */
+    synchronized void onSdkInstanceCreated(final String trigger, final long durationMillis)
+    {
+        sdkInstanceTimeMillis = SystemClock.elapsedRealtime() - constructStartTimeMillis;
+        sdkInstanceDurationMillis = durationMillis;
+        sdkInstanceTrigger = trigger;
+    }
+
+    synchronized void onInitializeCalled()
+    {
+        initializeCallTimeMillis = SystemClock.elapsedRealtime() - constructStartTimeMillis;
+    }
+
+    synchronized void onSdkInitialized()
+    {
+        sdkInitializedTimeMillis = SystemClock.elapsedRealtime() - constructStartTimeMillis;
+    }
+
+    /**
+     * @return {@code {constructDurationMillis, sdkInstanceMillis, sdkInstanceDurationMillis, sdkInstanceTrigger, initializeCallMillis,
+     * sdkInitializedMillis}} where the {@code *Millis} values without {@code Duration} are offsets from the start of construction.
+     */
+    synchronized JSONObject toJson() throws JSONException
+    {
+        final JSONObject json = new JSONObject();
+
+        if ( constructDurationMillis >= 0 ) json.put( "constructDurationMillis", constructDurationMillis );
+
+        if ( sdkInstanceTimeMillis >= 0 )
+        {
+            json.put( "sdkInstanceMillis", sdkInstanceTimeMillis );
+            json.put( "sdkInstanceDurationMillis", sdkInstanceDurationMillis );
+            json.put( "sdkInstanceTrigger", sdkInstanceTrigger );
+        }
+
+        if ( initializeCallTimeMillis >= 0 ) json.put( "initializeCallMillis", initializeCallTimeMillis );
+        if ( sdkInitializedTimeMillis >= 0 ) json.put( "sdkInitializedMillis", sdkInitializedTimeMillis );
+
+        return json;
+    }
+}
@@ -0,0 +1,184 @@
+package com.applovin.cordova;
+
+import android.os.SystemClock;
+import android.text.TextUtils;
+
+import com.applovin.mediation.MaxAdWaterfallInfo;
+import com.applovin.mediation.MaxMediatedNetworkInfo;
+import com.applovin.mediation.MaxNetworkResponseInfo;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Rolling per-network latency and fill-rate statistics folded from the waterfalls of loaded and failed ads, so that only a compact
+ * aggregate needs to cross the bridge when requested.
+ * <p>
+ * Statistics cover the last {@value #WINDOW_MILLIS} ms, kept as {@value #SLOT_COUNT} time slots per network which are recycled as time
+ * moves on. Thread-safe.
+ */
+final class WaterfallMetrics
+{
+    private static final long   WINDOW_MILLIS     = 60 * 60 * 1000L;
+    private static final int    SLOT_COUNT        = 6;
+    private static final long   SLOT_WIDTH_MILLIS = WINDOW_MILLIS / SLOT_COUNT;
+    private static final String UNKNOWN_NETWORK   = "Unknown";
+
+    private final Map<String, NetworkStats> networkStats = new HashMap<>( 16 );
+
+    private long waterfallCount;
+
+    /**
+     * Counters of one network during one time slot.
+     */
+    private static final class Slot
+    {
+        long epoch = -1;
+        int  attemptCount;
+        int  fillCount;
+        int  failureCount;
+
+        final LatencyHistogram latencies = new LatencyHistogram();
+
+        void reset(final long epoch)
+        {
+            this.epoch = epoch;
+            attemptCount = 0;
+            fillCount = 0;
+            failureCount = 0;
+            latencies.reset();
+        }
+    }
+
+    private static final class NetworkStats
+    {
+        final Slot[] slots = new Slot[SLOT_COUNT];
+
+        NetworkStats()
+        {
+            for ( int i = 0; i < SLOT_COUNT; i++ )
+            {
+                slots[i] = new Slot();
+            }
+        }
+
+        Slot getSlot(final long epoch)
+        {
+            final Slot slot = slots[(int) ( epoch % SLOT_COUNT )];
+            if ( slot.epoch != epoch )
+            {
+                slot.reset( epoch );
+            }
+
+            return slot;
+        }
+    }
+
+    synchronized void record(@Nullable final MaxAdWaterfallInfo waterfall)
+    {
+        if ( waterfall == null ) return;
+
+        final List<MaxNetworkResponseInfo> responses = waterfall.getNetworkResponses();
+        if ( responses == null ) return;
+
+        waterfallCount++;
+
+        final long epoch = SystemClock.elapsedRealtime() / SLOT_WIDTH_MILLIS;
+        for ( MaxNetworkResponseInfo response : responses )
+        {
+            final MaxNetworkResponseInfo.AdLoadState adLoadState = response.getAdLoadState();
+            if ( adLoadState == null || adLoadState == MaxNetworkResponseInfo.AdLoadState.AD_LOAD_NOT_ATTEMPTED ) continue;
+
+            final MaxMediatedNetworkInfo mediatedNetwork = response.getMediatedNetwork();
+            final String networkName = ( mediatedNetwork != null && !TextUtils.isEmpty( mediatedNetwork.getName() ) ) ? mediatedNetwork.getName() : UNKNOWN_NETWORK;
+
+            NetworkStats stats = networkStats.get( networkName );
+            if ( stats == null )
+            {
+                stats = new NetworkStats();
+                networkStats.put( networkName, stats );
+            }
+
+            final Slot slot = stats.getSlot( epoch );
+            slot.attemptCount++;
+            slot.latencies.record( response.getLatencyMillis() );
+
+            if ( adLoadState == MaxNetworkResponseInfo.AdLoadState.AD_LOADED )
+            {
+                slot.fillCount++;
+            }
+            else
+            {
+                slot.failureCount++;
+            }
+        }
+    }
+
+    synchronized void reset()
+    {
+        networkStats.clear();
+        waterfallCount = 0;
+    }
+
+    /**
+     * @return {@code {windowMillis, waterfallCount, networks: {<name>: {attempts, fills, failures, fillRate, latency}}}} where the network
+     * statistics cover the current window and {@code waterfallCount} counts all waterfalls recorded since the last reset.
+     */
+    synchronized JSONObject toJson() throws JSONException
+    {
+        final long currentEpoch = SystemClock.elapsedRealtime() / SLOT_WIDTH_MILLIS;
+        final LatencyHistogram latencies = new LatencyHistogram();
+
+        final JSONObject networksJson = new JSONObject();
+        for ( Map.Entry<String, NetworkStats> entry : networkStats.entrySet() )
+        {
+            int attemptCount = 0;
+            int fillCount = 0;
+            int failureCount = 0;
+            latencies.reset();
+
+            for ( Slot slot : entry.getValue().slots )
+            {
+                if ( slot.epoch <= currentEpoch - SLOT_COUNT ) continue;
+
+                attemptCount += slot.attemptCount;
+                fillCount += slot.fillCount;
+                failureCount += slot.failureCount;
+                latencies.add( slot.latencies );
+            }
+
+            if ( attemptCount == 0 ) continue;
+
+            final JSONObject networkJson = new JSONObject();
+            networkJson.put( "attempts", attemptCount );
+            networkJson.put( "fills", fillCount );
+            networkJson.put( "failures", failureCount );
+            networkJson.put( "fillRate", (double) fillCount / attemptCount );
+            networkJson.put( "latency", latencies.toJson() );
+
+            networksJson.put( entry.getKey(), networkJson );
+        }
+
+        final JSONObject json = new JSONObject();
+        json.put( "windowMillis", WINDOW_MILLIS );
+        json.put( "waterfallCount", waterfallCount );
+        json.put( "networks", networksJson );
+        return json;
+    }
+
+    /**
+     * Read the statistics and clear them in one step.
+     */
+    synchronized JSONObject snapshotAndReset() throws JSONException
+    {
+        final JSONObject json = toJson();
+        reset();
+        return json;
+    }
+}
@@ -8,6 +8,13 @@ const AdFormat = {
     MREC: 'mrec',
 };
 
+// Android only - lower values load first, see setAdLoadPriority()
+const AdLoadPriority = {
+    HIGH: 0,
+    NORMAL: 1,
+    LOW: 2,
+};
+
 const AdViewPosition = {
     TOP_CENTER: 'top_center',
     TOP_RIGHT: 'top_right',
@@ -23,13 +30,86 @@ function isFunction(functionObj) {
     return typeof functionObj === 'function';
 }
 
+function isAndroid() {
+    return cordova.platformId === 'android';
+}
+
+// Android can run several fire-and-forget calls made in the same tick with a single `batch` bridge call. Calls made before the SDK is
+// initialized are batched too - native buffers them until then and reports them as deferred in the batch results.
+var autoBatchingEnabled = false;
+var pendingBatch = [];
+
 function callNative(name, params = [], successCallback = null, errorCallback = null) {
+    if (autoBatchingEnabled && successCallback == null && errorCallback == null) {
+        if (pendingBatch.length === 0) {
+            Promise.resolve().then(flushBatch);
+        }
+
+        pendingBatch.push({ action: name, args: params });
+        return;
+    }
+
+    // Preserve call order relative to any calls still waiting to be batched
+    flushBatch();
+
     cordova.exec(successCallback, errorCallback, 'AppLovinMAX', name, params);
 }
 
+// Android completes load / show / extra parameter calls once the SDK reports their outcome (or after the callback timeout), other
+// platforms resolve right away. The returned promise may be ignored - its rejection is marked as handled.
+function callNativePromise(name, params = []) {
+    if (!isAndroid()) {
+        callNative(name, params);
+        return Promise.resolve();
+    }
+
+    var promise = new Promise(function (resolve, reject) {
+        callNative(name, params, resolve, reject);
+    });
+    promise.catch(function () {});
+
+    return promise;
+}
+
+function flushBatch() {
+    if (pendingBatch.length === 0) return;
+
+    var commands = pendingBatch;
+    pendingBatch = [];
+
+    if (commands.length === 1) {
+        cordova.exec(null, null, 'AppLovinMAX', commands[0].action, commands[0].args);
+    } else {
+        cordova.exec(null, null, 'AppLovinMAX', 'batch', [commands]);
+    }
+}
+
+// Android delivers ad events in per-frame batches of [name, params] pairs over a single kept-alive callback
+function registerEventChannel() {
+    callNative('registerEventChannel', [], function (batch) {
+        var events = JSON.parse(batch);
+
+        for (var i = 0; i < events.length; i++) {
+            cordova.fireWindowEvent(events[i][0], events[i][1]);
+        }
+    });
+}
+
+// Android keeps ads alive across page reloads, so pick up their readiness instead of waiting for events that already fired
+function restoreAdRegistry() {
+    callNative('getAdRegistry', [], function (registry) {
+        for (var adUnitId in registry) {
+            if (typeof registry[adUnitId].isReady === 'boolean') {
+                AppLovinMAX.isAdReadyValues[adUnitId] = registry[adUnitId].isReady;
+            }
+        }
+    });
+}
+
 var AppLovinMAX = {
     VERSION,
     AdFormat,
+    AdLoadPriority,
     AdViewPosition,
 
     // NOTE: We have to store states in JS as workaround for callback-based API
@@ -65,6 +145,16 @@ var AppLovinMAX = {
         callNative('showMediationDebugger');
     },
 
+    // Android only - when enabled, calls without callbacks made in the same tick (e.g. the setters and ad view calls at app start)
+    // are sent to native together and have their main thread work run at once
+    setAutoBatchingEnabled: function (enabled) {
+        if (!enabled) {
+            flushBatch();
+        }
+
+        autoBatchingEnabled = enabled && isAndroid();
+    },
+
     /*--------------*/
     /* PRIVACY APIs */
     /*--------------*/
@@ -107,10 +197,109 @@ var AppLovinMAX = {
         callNative('setVerboseLogging', [verboseLoggingEnabled]);
     },
 
+    // Set any of { hasUserConsent, isDoNotSell, userId, isMuted, isVerboseLogging } with a single bridge call, absent keys are left as they are.
+    // Android only - other platforms apply them through the individual setters.
+    applySettings: function (settings) {
+        if (typeof settings.hasUserConsent === 'boolean') {
+            this.hasUserConsentValue = settings.hasUserConsent;
+        }
+
+        if (typeof settings.isDoNotSell === 'boolean') {
+            this.isDoNotSellValue = settings.isDoNotSell;
+        }
+
+        if (isAndroid()) {
+            callNative('applySettings', [settings]);
+            return;
+        }
+
+        if (typeof settings.hasUserConsent === 'boolean') callNative('setHasUserConsent', [settings.hasUserConsent]);
+        if (typeof settings.isDoNotSell === 'boolean') callNative('setDoNotSell', [settings.isDoNotSell]);
+        if (settings.userId !== undefined) callNative('setUserId', [settings.userId]);
+        if (typeof settings.isMuted === 'boolean') callNative('setMuted', [settings.isMuted]);
+        if (typeof settings.isVerboseLogging === 'boolean') callNative('setVerboseLogging', [settings.isVerboseLogging]);
+    },
+
     setTestDeviceAdvertisingIds: function (advertisingIds) {
         callNative('setTestDeviceAdvertisingIds', [advertisingIds]);
     },
 
+    // Android only - reports native object counts (ad views, overlay children, fullscreen ads) and internal counters to help spot leaks
+    getDiagnostics: function (callback) {
+        callNative('getDiagnostics', [], callback);
+    },
+
+    // Android only - load and show latency percentiles (p50/p90/p99, in ms) per ad unit and per network, optionally resetting them
+    getPerformanceMetrics: function (callback, reset = false) {
+        callNative('getPerformanceMetrics', [reset], callback);
+    },
+
+    // Android only - when enabled, mediation waterfalls of loaded and failed ads are aggregated natively into per-network latency and fill rate
+    setWaterfallTrackingEnabled: function (enabled) {
+        callNative('setWaterfallTrackingEnabled', [enabled]);
+    },
+
+    // Android only - per-network attempts, fills, fill rate and latency percentiles over the last hour, optionally resetting them
+    getWaterfallMetrics: function (callback, reset = false) {
+        callNative('getWaterfallMetrics', [reset], callback);
+    },
+
+    // Android only - overrides the load priority of an ad unit (rewarded ads default to HIGH, interstitials to NORMAL, banners and MRECs to LOW)
+    setAdLoadPriority: function (adUnitId, priority) {
+        callNative('setAdLoadPriority', [adUnitId, priority]);
+    },
+
+    // Android only - how many ad loads may run at once, in priority order (defaults to 3)
+    setMaxConcurrentLoads: function (maxConcurrentLoads) {
+        callNative('setMaxConcurrentLoads', [maxConcurrentLoads]);
+    },
+
+    // Android only - whether LOW priority loads wait until the main thread is idle, for at most 3 seconds (defaults to false)
+    setDeferLowPriorityLoadsUntilIdle: function (enabled) {
+        callNative('setDeferLowPriorityLoadsUntilIdle', [enabled]);
+    },
+
+    // Android only - every ad held natively ({format, loadState, isReady, isPreloading, position, isVisible} per ad unit), e.g. to skip
+    // re-creating banners and re-loading fullscreen ads after a page reload. Creating an existing banner / MREC again reuses it.
+    getAdRegistry: function (callback) {
+        callNative('getAdRegistry', [], callback);
+    },
+
+    // Android only - native readiness snapshots ({isReady, loadState, loadedAgoMillis, expiresInMillis}) of the given fullscreen ad units,
+    // which also refresh the values returned by isInterstitialReady() / isRewardedAdReady()
+    getReadiness: function (adUnitIds, callback) {
+        callNative('getReadiness', [adUnitIds], function (readiness) {
+            for (var adUnitId in readiness) {
+                AppLovinMAX.isAdReadyValues[adUnitId] = readiness[adUnitId].isReady;
+            }
+
+            if (isFunction(callback)) {
+                callback(readiness);
+            }
+        });
+    },
+
+    // Android only - how long fullscreen ads are assumed to stay valid after loading (defaults to 1 hour), ready ads are reloaded at 90% of it
+    setAdExpiryEstimate: function (expiryMillis) {
+        callNative('setAdExpiryEstimate', [expiryMillis]);
+    },
+
+    // Android only - how many idle interstitial / rewarded ad instances survive a low memory signal, least recently used ones are destroyed first (defaults to 4)
+    setMaxIdleFullscreenAds: function (maxIdleFullscreenAds) {
+        callNative('setMaxIdleFullscreenAds', [maxIdleFullscreenAds]);
+    },
+
+    // Android only - instead of one 'On<Format>AdRevenuePaidEvent' per paid impression, send an 'OnAdRevenueSummaryEvent' rolling up
+    // revenue per ad unit, format, network and placement at most every intervalMillis. Pass 0 to go back to per-impression events.
+    setRevenueSummaryInterval: function (intervalMillis) {
+        callNative('setRevenueSummaryInterval', [intervalMillis]);
+    },
+
+    // Android only - how long load and show promises wait for the SDK before rejecting (defaults to 60 seconds)
+    setCallbackTimeout: function (timeoutMillis) {
+        callNative('setCallbackTimeout', [timeoutMillis]);
+    },
+
     /*-------------------*/
     /* SEGMENT TARGETING */
     /*-------------------*/
@@ -210,7 +399,7 @@ var AppLovinMAX = {
     /*---------------*/
 
     loadInterstitial: function (adUnitId) {
-        callNative('loadInterstitial', [adUnitId]);
+        return callNativePromise('loadInterstitial', [adUnitId]);
     },
 
     isInterstitialReady: function (adUnitId) {
@@ -225,11 +414,17 @@ var AppLovinMAX = {
             parameters.push(placement);
         }
 
-        callNative('showInterstitial', parameters);
+        return callNativePromise('showInterstitial', parameters);
     },
 
     setInterstitialExtraParameter: function (adUnitId, key, value) {
-        callNative('setInterstitialExtraParameter', [adUnitId, key, value]);
+        return callNativePromise('setInterstitialExtraParameter', [adUnitId, key, value]);
+    },
+
+    // Android only - keeps an ad loaded natively, reloading after it is shown and retrying failures with backoff.
+    // Load events are replaced by 'OnAdReadinessChangedEvent' for this ad unit.
+    setInterstitialPreloadEnabled: function (adUnitId, enabled) {
+        callNative('setInterstitialPreloadEnabled', [adUnitId, enabled]);
     },
 
     /*----------*/
@@ -237,7 +432,7 @@ var AppLovinMAX = {
     /*----------*/
 
     loadRewardedAd: function (adUnitId) {
-        callNative('loadRewardedAd', [adUnitId]);
+        return callNativePromise('loadRewardedAd', [adUnitId]);
     },
 
     isRewardedAdReady: function (adUnitId) {
@@ -252,11 +447,17 @@ var AppLovinMAX = {
             parameters.push(placement);
         }
 
-        callNative('showRewardedAd', parameters);
+        return callNativePromise('showRewardedAd', parameters);
     },
 
     setRewardedAdExtraParameter: function (adUnitId, key, value) {
-        callNative('setRewardedAdExtraParameter', [adUnitId, key, value]);
+        return callNativePromise('setRewardedAdExtraParameter', [adUnitId, key, value]);
+    },
+
+    // Android only - keeps an ad loaded natively, reloading after it is shown and retrying failures with backoff.
+    // Load events are replaced by 'OnAdReadinessChangedEvent' for this ad unit.
+    setRewardedAdPreloadEnabled: function (adUnitId, enabled) {
+        callNative('setRewardedAdPreloadEnabled', [adUnitId, enabled]);
     },
 };
 
@@ -289,6 +490,14 @@ window.addEventListener('OnRewardedAdFailedToDisplayEvent', function (adInfo) {
 window.addEventListener('OnRewardedAdReceivedRewardEvent', function (adInfo) {
     AppLovinMAX.isAdReadyValues[adInfo.adUnitId] = false;
 });
+window.addEventListener('OnAdReadinessChangedEvent', function (adInfo) {
+    AppLovinMAX.isAdReadyValues[adInfo.adUnitId] = adInfo.isReady;
+});
+
+if (isAndroid()) {
+    document.addEventListener('deviceready', registerEventChannel, false);
+    document.addEventListener('deviceready', restoreAdRegistry, false);
+}
 
 if (typeof module !== undefined && module.exports) {
     module.exports = AppLovinMAX;